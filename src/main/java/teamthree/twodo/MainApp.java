@@ -1,8 +1,12 @@
 package teamthree.twodo;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,13 +17,20 @@ import javafx.stage.Stage;
 import teamthree.twodo.alarm.AlarmManager;
 import teamthree.twodo.automark.AutoMarkManager;
 import teamthree.twodo.commons.core.Config;
+import teamthree.twodo.commons.core.DeadlineScheduler;
 import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.core.HandlesEventsOn;
 import teamthree.twodo.commons.core.LogsCenter;
+import teamthree.twodo.commons.core.Messages;
+import teamthree.twodo.commons.core.StartupTimer;
 import teamthree.twodo.commons.core.Version;
+import teamthree.twodo.commons.events.model.TaskListLoadedEvent;
 import teamthree.twodo.commons.events.ui.ExitAppRequestEvent;
+import teamthree.twodo.commons.events.ui.NewResultAvailableEvent;
 import teamthree.twodo.commons.exceptions.DataConversionException;
 import teamthree.twodo.commons.util.ConfigUtil;
 import teamthree.twodo.commons.util.StringUtil;
+import teamthree.twodo.logic.CommandHistory;
 import teamthree.twodo.logic.Logic;
 import teamthree.twodo.logic.LogicManager;
 import teamthree.twodo.model.Model;
@@ -29,23 +40,33 @@ import teamthree.twodo.model.TaskList;
 import teamthree.twodo.model.UserPrefs;
 import teamthree.twodo.model.category.CategoryManager;
 import teamthree.twodo.model.util.SampleDataUtil;
+import teamthree.twodo.storage.JournalTaskListStorage;
 import teamthree.twodo.storage.JsonUserPrefsStorage;
 import teamthree.twodo.storage.Storage;
 import teamthree.twodo.storage.StorageManager;
+import teamthree.twodo.storage.TaskListConverter;
+import teamthree.twodo.storage.TaskListFormat;
 import teamthree.twodo.storage.TaskListStorage;
+import teamthree.twodo.storage.TextCommandHistoryStorage;
 import teamthree.twodo.storage.UserPrefsStorage;
-import teamthree.twodo.storage.XmlTaskListStorage;
 import teamthree.twodo.ui.Ui;
 import teamthree.twodo.ui.UiManager;
 
 // The main entry point to the application.
 
+@HandlesEventsOn(EventsCenter.DispatchContext.FX)
 public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 0, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    // Enough threads for the stages that run in the background: task list, prefs, command history and ui classes
+    private static final int STARTUP_THREADS = 4;
+    private static final String[] PRELOADED_UI_CLASSES = { "javafx.fxml.FXMLLoader",
+        "javafx.scene.control.ListView", "javafx.scene.control.TextField", "javafx.scene.control.TextArea",
+        "javafx.scene.control.SplitPane", "javafx.scene.control.MenuBar" };
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
@@ -55,35 +76,113 @@ public class MainApp extends Application {
     protected AutoMarkManager autoMark;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected CompletableFuture<ReadOnlyTaskList> initialData;
+    // Whether the initial data is the task list file as read, rather than sample or empty data
+    private volatile boolean isInitialDataFromFile = false;
+    private StartupTimer startupTimer;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing TaskList ]===========================");
         super.init();
 
-        config = initConfig(getApplicationParameter("config"));
-
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        userPrefs = initPrefs(userPrefsStorage);
-        TaskListStorage taskListStorage = new XmlTaskListStorage(config.getTaskBookFilePath());
-        storage = new StorageManager(taskListStorage, userPrefsStorage);
-
+        startupTimer = new StartupTimer(STARTUP_THREADS);
+        config = startupTimer.run("config", () -> initConfig(getApplicationParameter("config")));
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // Reading the task list file is the slowest stage, so it goes on in the background while the UI is built
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        TaskListStorage taskListStorage = initTaskListStorage(config);
+        if (config.isJournalTaskList()) {
+            taskListStorage = new JournalTaskListStorage(taskListStorage);
+        }
+        TextCommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(
+                config.getCommandHistoryFilePath(), config.getCommandHistoryCapacity());
+        // The UI handles the events of each save, so they reach it on the JavaFX thread even if dispatched inline
+        storage = new StorageManager(taskListStorage, userPrefsStorage, commandHistoryStorage,
+                config.getSaveQuietPeriod(), config.isAsyncEventDispatch() ? Runnable::run : Platform::runLater);
+        initialData = startupTimer.runInBackground("task list", () -> readInitialData(storage));
+        CompletableFuture<UserPrefs> prefs = startupTimer.runInBackground("prefs", () -> initPrefs(userPrefsStorage));
+        CompletableFuture<List<String>> previousUserInput =
+                startupTimer.runInBackground("command history", () -> readCommandHistory(storage));
+        CompletableFuture<Void> uiClasses = startupTimer.runInBackground("ui classes", MainApp::preloadUiClasses);
+
+        userPrefs = prefs.join();
+
+        // The model starts out empty and is filled in once the task list file has been read
+        model = startupTimer.run("model", () -> new ModelManager(new TaskList(), userPrefs));
 
         catMan = new CategoryManager(model);
 
-        logic = new LogicManager(model, catMan);
+        logic = new LogicManager(model, catMan,
+                new CommandHistory(config.getCommandHistoryCapacity(), previousUserInput.join(), config.getUndoDepth(),
+                        config.getUndoBytes()));
 
         ui = new UiManager(logic, config, userPrefs, catMan);
 
-        initEventsCenter();
+        initEventsCenter(config);
+
+        uiClasses.join();
+    }
+
+    /**
+     * Fills in the model with the task list read from storage, lets commands run
+     * on it, then starts the components that follow the deadlines of the tasks.
+     */
+    protected void finishStartup(ReadOnlyTaskList taskList) {
+        startupTimer.run("fill model", () -> {
+            model.loadTaskList(taskList);
+            if (isInitialDataFromFile) {
+                storage.markTaskListSaved(taskList, storage.getTaskListFilePath(), model.getTaskListVersion());
+            }
+            return null;
+        });
+        int taskCount = taskList.getTaskList().size();
+        EventsCenter.getInstance().post(new TaskListLoadedEvent(taskCount));
+        EventsCenter.getInstance().post(new NewResultAvailableEvent(
+                String.format(Messages.MESSAGE_TASK_LIST_LOADED, taskCount)));
 
         autoMark = new AutoMarkManager(model);
 
         alarm = new AlarmManager(model);
 
+        startupTimer.finish();
+    }
+
+    // Loads the classes that building the main window needs, which would otherwise hold up the first frame
+    private static Void preloadUiClasses() {
+        for (String className : PRELOADED_UI_CLASSES) {
+            try {
+                Class.forName(className, true, MainApp.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                logger.fine("Could not preload " + className);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a storage for the task list file in the format chosen in {@code config}. A task list file
+     * left in another format by an earlier run is converted to the chosen format the first time.
+     */
+    private TaskListStorage initTaskListStorage(Config config) {
+        String configuredPath = config.getTaskBookFilePath();
+        Optional<TaskListFormat> chosenFormat = TaskListFormat.fromName(config.getTaskListFormat());
+        if (!chosenFormat.isPresent()) {
+            logger.warning("Unknown task list format " + config.getTaskListFormat() + ". Using "
+                    + configuredPath + " as it is");
+            return TaskListFormat.fromFilePath(configuredPath).orElse(TaskListFormat.XML)
+                    .createStorage(configuredPath);
+        }
+        String filePath = chosenFormat.get().toFilePath(configuredPath);
+        if (!filePath.equals(configuredPath) && !new File(filePath).exists()) {
+            try {
+                TaskListConverter.convert(configuredPath, filePath);
+            } catch (IllegalArgumentException | DataConversionException | IOException e) {
+                logger.warning("Could not convert " + configuredPath + " to " + filePath + ": " + e);
+            }
+        }
+        return chosenFormat.get().createStorage(filePath);
     }
 
     private String getApplicationParameter(String parameterName) {
@@ -91,7 +190,7 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private ReadOnlyTaskList readInitialData(Storage storage) {
         Optional<ReadOnlyTaskList> taskListOptional;
         ReadOnlyTaskList initialData;
         try {
@@ -99,6 +198,7 @@ public class MainApp extends Application {
             if (!taskListOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample TaskList");
             }
+            isInitialDataFromFile = taskListOptional.isPresent();
             initialData = taskListOptional.orElseGet(SampleDataUtil::getSampleTaskList);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty TaskList");
@@ -107,8 +207,16 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty TaskList");
             initialData = new TaskList();
         }
+        return initialData;
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    private List<String> readCommandHistory(Storage storage) {
+        try {
+            return storage.readCommandHistory();
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command history file. Will be starting with an empty history");
+            return Collections.emptyList();
+        }
     }
 
     private void initLogging(Config config) {
@@ -173,20 +281,36 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
-    private void initEventsCenter() {
+    private void initEventsCenter(Config config) {
         EventsCenter.getInstance().registerHandler(this);
+        EventsCenter.getInstance().setAsynchronous(config.isAsyncEventDispatch());
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting TaskList " + MainApp.VERSION);
         ui.start(primaryStage);
+        startupTimer.mark("the first frame");
+        EventsCenter.getInstance().post(new NewResultAvailableEvent(
+                String.format(Messages.MESSAGE_LOADING_TASK_LIST, storage.getTaskListFilePath())));
+        // Startup is finished whatever happened to the read, as commands and deadlines wait for it
+        initialData.handle((taskList, error) -> {
+            if (error != null) {
+                logger.severe("Failed to read the task list. Will be starting with an empty TaskList "
+                        + StringUtil.getDetails(error));
+            }
+            ReadOnlyTaskList startingData = error == null ? taskList : new TaskList();
+            Platform.runLater(() -> finishStartup(startingData));
+            return null;
+        });
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Description Book ] =============================");
         ui.stop();
+        DeadlineScheduler.getInstance().shutdown();
+        storage.flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
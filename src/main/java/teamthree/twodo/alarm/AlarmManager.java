@@ -1,19 +1,21 @@
 package teamthree.twodo.alarm;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Map;
+import java.util.Optional;
 
 import com.google.common.eventbus.Subscribe;
 
 import teamthree.twodo.commons.core.ComponentManager;
+import teamthree.twodo.commons.core.DeadlineScheduler;
 import teamthree.twodo.commons.events.alarm.DeadlineNotificationTimeReachedEvent;
 import teamthree.twodo.commons.events.model.TaskListChangedEvent;
 import teamthree.twodo.model.Model;
+import teamthree.twodo.model.TaskListChange;
+import teamthree.twodo.model.VersionedTaskList;
 import teamthree.twodo.model.task.Deadline;
 import teamthree.twodo.model.task.ReadOnlyTask;
 import teamthree.twodo.model.task.TaskWithDeadline;
@@ -21,147 +23,124 @@ import teamthree.twodo.model.task.TaskWithDeadline;
 //@@author A0124399W
 // Alarm class to give reminders for tasks with deadline.
 public class AlarmManager extends ComponentManager {
-    // List of tasks yet to be notified
-    private final List<ReadOnlyTask> notificationList = new ArrayList<ReadOnlyTask>();
-    // Keeps track of tasks that have been notified
-    private final HashSet<ReadOnlyTask> notified = new HashSet<ReadOnlyTask>();
+    // Tasks yet to be notified, by id
+    private final Map<Long, ReadOnlyTask> notificationList = new HashMap<>();
+    // Keeps track of the ids of tasks that have been notified
+    private final HashSet<Long> notified = new HashSet<Long>();
 
     private final Model model;
     // In charge of scheduling and launching reminders
-    private final Timer masterClock = new Timer();
-    // Notification time of the next most recent activity
-    private Date nextReminderTime;
+    private final DeadlineScheduler.Timeline reminders;
+    // Version of the task list the reminders are scheduled for
+    private long trackedVersion;
 
     public AlarmManager(Model model) {
+        this(model, DeadlineScheduler.getInstance());
+    }
+
+    public AlarmManager(Model model, DeadlineScheduler scheduler) {
         this.model = model;
-        syncWithMasterTaskList(model.getTaskList().getTaskList());
+        this.reminders = scheduler.register("reminders", this::remind);
+        resync();
     }
+
     /**
-     * Synchronizes internal notification list with the main TaskList
-     *
-     * @param masterList Full list of tasks from the taskList
+     * Schedules a reminder for each task in the model's task list that is yet to be notified,
+     * in place of the reminders scheduled before.
      */
-    private synchronized void syncWithMasterTaskList(List<ReadOnlyTask> masterList) {
-        if (masterList == null || masterList.isEmpty()) {
-            return;
-        }
-        // Clear list first to avoid duplicates
+    private synchronized void resync() {
+        reminders.clear();
         notificationList.clear();
-        // Adds tasks which are not in the notified set
-        masterList.forEach((t) -> {
-            if (t instanceof TaskWithDeadline && !t.isCompleted() && !notified.contains(t)) {
-                notificationList.add(t);
-            }
-        });
-        sortNotificationsByDeadline();
-        updateNextReminder();
-        startTimerTask();
-    }
-
-    public void startTimerTask() {
-
-        if (nextReminderTime == null) {
-            return;
-        }
-        masterClock.schedule(new NextReminder(), nextReminderTime);
-
-    }
-
-    private Date getNotificationTime(ReadOnlyTask task) {
-        return task.getDeadline().get().getNotificationDate();
+        // Read from the published snapshot, which the FX thread does not change while it is being read
+        VersionedTaskList published = model.getPublishedTaskList();
+        trackedVersion = published.getVersion();
+        published.getTaskList().getTaskList().forEach(this::scheduleReminder);
     }
 
-    // =====================HELPER CLASS==========================
-
-    private class NextReminder extends TimerTask {
-
-        /**
-         * The following command will be run upon reaching the scheduled timing.
-         * It will raise a DeadlineNotificationTimeReachedEvent with all the
-         * tasks that have reached the notification deadline.
-         *
-         * After that it will update internal information.
-         */
-        @Override
-        public void run() {
-            List<ReadOnlyTask> tasksToRemindOf = new ArrayList<ReadOnlyTask>();
-            Date currentDate = new Date();
-            notificationList.forEach((t) -> {
-                if (getNotificationTime(t).before(currentDate) || getNotificationTime(t).equals(nextReminderTime)) {
-                    tasksToRemindOf.add(t);
-                }
-            });
-            if (tasksToRemindOf.size() > 0) {
-                raise(new DeadlineNotificationTimeReachedEvent(tasksToRemindOf));
-            }
-
-            updateInternalData(tasksToRemindOf);
-
-            startTimerTask();
+    // Reschedules the reminder of the task that was changed
+    private void applyChange(TaskListChange change) {
+        if (isReminderDueAgain(change)) {
+            notified.remove(change.getBefore().orElseGet(() -> change.getAfter().get()).getId());
         }
-
+        change.getBefore().ifPresent(task -> cancelReminder(task.getId()));
+        change.getAfter().ifPresent(task -> {
+            cancelReminder(task.getId());
+            scheduleReminder(task);
+        });
+        trackedVersion = change.getVersion();
     }
 
-    // =========================HELPER METHODS=================================
-
     /**
-     * Transfers the most recently reminded tasks from the notification list to
-     * the notified set. Updates the nextReminderTime with the notificationDate
-     * of the next activity on the notification list. Called only after a
-     * DeadlineNotificationTimeReachedEvent.
-     *
-     * @param notifiedTasks The tasks which were sent with the DeadlineNotificationTimeReachedEvent
+     * Returns true if the task changed can be reminded of again: it was removed, marked or unmarked,
+     * or given another deadline.
      */
-
-    private synchronized void updateInternalData(List<ReadOnlyTask> notifiedTasks) {
-        notificationList.removeAll(notifiedTasks);
-        notified.addAll(notifiedTasks);
-        updateNextReminder();
+    private static boolean isReminderDueAgain(TaskListChange change) {
+        switch (change.getKind()) {
+        case REMOVED:
+        case COMPLETION_TOGGLED:
+            return true;
+        case UPDATED:
+            ReadOnlyTask before = change.getBefore().get();
+            ReadOnlyTask after = change.getAfter().get();
+            return !before.getDeadline().equals(after.getDeadline()) || before.isCompleted() != after.isCompleted();
+        default:
+            return false;
+        }
     }
 
-    // Sorts list by notification date
-    private void sortNotificationsByDeadline() {
-        notificationList.sort(new Comparator<ReadOnlyTask>() {
-
-            @Override
-            public int compare(ReadOnlyTask t, ReadOnlyTask u) {
-                return getNotificationTime(t).compareTo(getNotificationTime(u));
-            }
-
-        });
+    private void cancelReminder(long taskId) {
+        notificationList.remove(taskId);
+        reminders.cancel(taskId);
     }
 
-    // Updates nextReminderTime to the next one on the notificationList.
-    private void updateNextReminder() {
-        if (!notificationList.isEmpty()) {
-            nextReminderTime = removeInvalidDates() ? null : getNotificationTime(notificationList.get(0));
-        } else {
-            nextReminderTime = null;
+    /**
+     * Schedules a reminder at the notification time of {@code task}, if it has a deadline and is
+     * neither completed nor notified yet. Tasks with the default date are never notified.
+     */
+    private void scheduleReminder(ReadOnlyTask task) {
+        if (!(task instanceof TaskWithDeadline) || task.isCompleted() || notified.contains(task.getId())) {
+            return;
         }
+        long notificationTime = task.getDeadline().get().getNotificationTime();
+        if (notificationTime <= Deadline.DEFAULT_DATE.getTime()) {
+            notified.add(task.getId());
+            return;
+        }
+        notificationList.put(task.getId(), task);
+        reminders.schedule(task.getId(), notificationTime);
     }
 
     /**
-     * Transfers all invalid dates (i.e Default Dates) from notification list to
-     * notified set. This avoids an invalid date exception from being thrown at
-     * startTimerTask. Returns whether notificationList is empty after
-     * operation.
-     *
-     * @return true if notificationList is empty after removing all invalid
-     *         dates.
+     * Raises a DeadlineNotificationTimeReachedEvent with all the tasks that
+     * have reached their notification time, and moves them to the notified set.
      */
-    private boolean removeInvalidDates() {
-        while (!getNotificationTime(notificationList.get(0)).after(Deadline.DEFAULT_DATE)) {
-            notified.add(notificationList.remove(0));
+    private void remind(List<Long> dueTaskIds) {
+        List<ReadOnlyTask> tasksToRemindOf = new ArrayList<ReadOnlyTask>();
+        synchronized (this) {
+            for (Long taskId : dueTaskIds) {
+                ReadOnlyTask task = notificationList.remove(taskId);
+                if (task != null) {
+                    tasksToRemindOf.add(task);
+                    notified.add(taskId);
+                }
+            }
+        }
+        if (tasksToRemindOf.size() > 0) {
+            raise(new DeadlineNotificationTimeReachedEvent(tasksToRemindOf));
         }
-        return notificationList.isEmpty();
     }
 
     // =======================EVENT HANDLERS===========================
 
-    // Synchronizes the notification list with the master list when there is a change
+    // Reschedules the reminders of the changed tasks, or of all tasks if some changes were missed
     @Subscribe
-    public void handleTaskBookChangedEvent(TaskListChangedEvent event) {
-        syncWithMasterTaskList(model.getTaskList().getTaskList());
+    public synchronized void handleTaskBookChangedEvent(TaskListChangedEvent event) {
+        Optional<List<TaskListChange>> changes = event.getChangesSince(trackedVersion);
+        if (changes.isPresent()) {
+            changes.get().forEach(this::applyChange);
+        } else {
+            resync();
+        }
     }
 
 }
@@ -1,24 +1,30 @@
 package teamthree.twodo.automark;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.Date;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
 import teamthree.twodo.commons.core.ComponentManager;
+import teamthree.twodo.commons.core.DeadlineScheduler;
 import teamthree.twodo.commons.events.model.DeadlineTimeReachedEvent;
 import teamthree.twodo.commons.events.model.TaskListChangedEvent;
 import teamthree.twodo.model.Model;
+import teamthree.twodo.model.TaskListChange;
+import teamthree.twodo.model.VersionedTaskList;
 import teamthree.twodo.model.task.Deadline;
 import teamthree.twodo.model.task.ReadOnlyTask;
 import teamthree.twodo.model.task.TaskWithDeadline;
-import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
 
 //@@author A0139267W
 // Manages the auto-completion marking of tasks whose deadline has elapsed
@@ -29,22 +35,34 @@ public class AutoMarkManager extends ComponentManager {
      */
     private static boolean setToRun = false;
 
-    // List of tasks yet to be completed
-    private final List<ReadOnlyTask> uncompletedList = new ArrayList<ReadOnlyTask>();
-    // Keeps track of tasks that have been completed
-    private final HashSet<ReadOnlyTask> completed = new HashSet<ReadOnlyTask>();
+    // Tasks yet to be completed, by id
+    private final Map<Long, ReadOnlyTask> uncompletedList = new HashMap<>();
+    // Tasks whose deadline elapsed while the functionality was disabled, in the order they elapsed
+    private final Map<Long, ReadOnlyTask> elapsedWhileDisabled = new LinkedHashMap<>();
+    // Keeps track of the ids of tasks that have been completed
+    private final HashSet<Long> completed = new HashSet<Long>();
 
     private final Model model;
 
     // In charge of scheduling and executing auto-completion markings
-    private final Timer masterClock = new Timer();
-
-    // Deadline of the most imminent task
-    private Date nextDeadline;
+    private final DeadlineScheduler.Timeline deadlines;
+    // Version of the task list the markings are scheduled for
+    private long trackedVersion;
+    // Runs the markings on the thread that changes the model
+    private final Executor fxThread;
 
     public AutoMarkManager(Model model) {
+        this(model, DeadlineScheduler.getInstance(), Platform::runLater);
+    }
+
+    /**
+     * @param fxThread Runs the markings, in the order they are given, on the thread that changes the model.
+     */
+    public AutoMarkManager(Model model, DeadlineScheduler scheduler, Executor fxThread) {
         this.model = model;
-        syncWithMasterTaskList(model.getTaskList().getTaskList());
+        this.fxThread = fxThread;
+        this.deadlines = scheduler.register("automark", this::autoMark);
+        resync();
     }
 
     public static boolean getSetToRun() {
@@ -57,144 +75,136 @@ public class AutoMarkManager extends ComponentManager {
     }
 
     /**
-     * Synchronizes internal uncompleted list with the main task list
-     *
-     * @param masterList Full list of tasks from the task list
+     * Schedules each task in the model's task list that is yet to be completed at its deadline,
+     * in place of the tasks scheduled before.
      */
-    private synchronized void syncWithMasterTaskList(List<ReadOnlyTask> masterList) {
-        if (masterList == null || masterList.isEmpty()) {
-            return;
-        }
-        // Clears list first to avoid duplicates
+    private synchronized void resync() {
+        deadlines.clear();
         uncompletedList.clear();
-        // Adds tasks which are not in the completed set
-        masterList.forEach((t) -> {
-            if (t instanceof TaskWithDeadline && !completed.contains(t)) {
-                uncompletedList.add(t);
-            }
-        });
-        sortTasksByDeadline();
-        updateNextDeadline();
-        // If this feature is disabled, do not execute the auto completion markings
-        if (!setToRun) {
-            return;
-        }
-        startTimerTask();
+        elapsedWhileDisabled.clear();
+        // Read from the published snapshot, which the FX thread does not change while it is being read
+        VersionedTaskList published = model.getPublishedTaskList();
+        trackedVersion = published.getVersion();
+        published.getTaskList().getTaskList().forEach(this::scheduleCompletion);
     }
 
-    public void startTimerTask() {
-        if (nextDeadline == null) {
-            return;
+    // Reschedules the task that was changed
+    private void applyChange(TaskListChange change) {
+        if (isCompletionDueAgain(change)) {
+            completed.remove(change.getBefore().orElseGet(() -> change.getAfter().get()).getId());
         }
-        masterClock.schedule(new NextAutomark(), nextDeadline);
-
-    }
-
-    private Date getCompletionTime(ReadOnlyTask task) {
-        return task.getDeadline().get().getEndDate();
+        change.getBefore().ifPresent(task -> cancelCompletion(task.getId()));
+        change.getAfter().ifPresent(task -> {
+            cancelCompletion(task.getId());
+            scheduleCompletion(task);
+        });
+        trackedVersion = change.getVersion();
     }
 
-    // =====================HELPER CLASS==========================
-
-    private class NextAutomark extends TimerTask {
-
-        /**
-         * The following command will be run upon reaching the scheduled timing.
-         * It will raise a DeadlineTimeReachedEvent with all the tasks that have
-         * reached the deadline.
-         *
-         * After that it will update internal information.
-         */
-        @Override
-        public void run() {
-            List<ReadOnlyTask> tasksToAutoMark = new ArrayList<ReadOnlyTask>();
-            Date currentDate = new Date();
-            uncompletedList.forEach((t) -> {
-                if (getCompletionTime(t).before(currentDate) || getCompletionTime(t).equals(nextDeadline)) {
-                    tasksToAutoMark.add(t);
-                    Platform.runLater(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                model.markTask(t);
-                            } catch (TaskNotFoundException e) {
-                                e.printStackTrace();
-                            }
-                        }
-                    });
-                }
-            });
-            if (tasksToAutoMark.size() > 0) {
-                raise(new DeadlineTimeReachedEvent(tasksToAutoMark));
-            }
-
-            updateInternalData(tasksToAutoMark);
-
-            startTimerTask();
+    /**
+     * Returns true if the task changed can be marked again at its deadline: it was removed, unmarked,
+     * or given another deadline.
+     */
+    private static boolean isCompletionDueAgain(TaskListChange change) {
+        switch (change.getKind()) {
+        case REMOVED:
+            return true;
+        case COMPLETION_TOGGLED:
+            return !change.getAfter().get().isCompleted();
+        case UPDATED:
+            ReadOnlyTask before = change.getBefore().get();
+            ReadOnlyTask after = change.getAfter().get();
+            return !before.getDeadline().equals(after.getDeadline()) || before.isCompleted() && !after.isCompleted();
+        default:
+            return false;
         }
-
     }
 
-    // =========================HELPER METHODS=================================
+    private void cancelCompletion(long taskId) {
+        uncompletedList.remove(taskId);
+        elapsedWhileDisabled.remove(taskId);
+        deadlines.cancel(taskId);
+    }
 
     /**
-     * Transfers the most recently auto marked tasks from the uncompleted list
-     * to the completed set. Updates the nextDeadline with the deadline of the
-     * next activity on the uncompleted list. Called only after a
-     * DeadlineTimeReachedEvent.
-     *
-     * @param completedTasks Tasks which were sent with the DeadlineTimeReachedEvent
+     * Schedules {@code task} to be marked at its deadline, if it has one and is
+     * not completed yet. Tasks with the default date are never marked.
      */
-
-    private synchronized void updateInternalData(List<ReadOnlyTask> completedTasks) {
-        uncompletedList.removeAll(completedTasks);
-        completed.addAll(completedTasks);
-        updateNextDeadline();
+    private void scheduleCompletion(ReadOnlyTask task) {
+        if (!(task instanceof TaskWithDeadline) || task.isCompleted() || completed.contains(task.getId())) {
+            return;
+        }
+        long completionTime = task.getDeadline().get().getEndTime();
+        if (completionTime <= Deadline.DEFAULT_DATE.getTime()) {
+            completed.add(task.getId());
+            return;
+        }
+        uncompletedList.put(task.getId(), task);
+        deadlines.schedule(task.getId(), completionTime);
     }
 
-    // Sorts task list by their deadline
-    private void sortTasksByDeadline() {
-        uncompletedList.sort(new Comparator<ReadOnlyTask>() {
-
-            @Override
-            public int compare(ReadOnlyTask t, ReadOnlyTask u) {
-                return getCompletionTime(t).compareTo(getCompletionTime(u));
+    /**
+     * Marks all the tasks that have reached their deadline in one model
+     * operation and then raises a single DeadlineTimeReachedEvent with the ones
+     * that were marked. While the functionality is disabled,
+     * the tasks are kept until it is enabled and the task list next changes.
+     */
+    private void autoMark(List<Long> dueTaskIds) {
+        List<ReadOnlyTask> tasksToAutoMark = new ArrayList<ReadOnlyTask>();
+        synchronized (this) {
+            for (Long taskId : dueTaskIds) {
+                ReadOnlyTask task = uncompletedList.remove(taskId);
+                if (task != null) {
+                    elapsedWhileDisabled.put(taskId, task);
+                }
             }
-
-        });
-    }
-
-    // Updates nextDeadline to the next one on the uncompletedList.
-    private void updateNextDeadline() {
-        if (!uncompletedList.isEmpty()) {
-            nextDeadline = removeInvalidDates() ? null : getCompletionTime(uncompletedList.get(0));
-        } else {
-            nextDeadline = null;
+            if (!setToRun) {
+                return;
+            }
+            tasksToAutoMark.addAll(elapsedWhileDisabled.values());
+            elapsedWhileDisabled.clear();
+            tasksToAutoMark.forEach(task -> completed.add(task.getId()));
+        }
+        if (tasksToAutoMark.isEmpty()) {
+            return;
         }
+        fxThread.execute(() -> markTasks(tasksToAutoMark));
     }
 
-    /**
-     * Transfers all invalid dates (i.e Default Dates) from uncompleted list to
-     * completed set. This avoids an invalid date exception from being thrown at
-     * startTimerTask. Returns whether uncompleted list is empty after
-     * operation.
-     *
-     * @return true if completion list is empty after removing all invalid
-     *         dates.
-     */
-    private boolean removeInvalidDates() {
-        while (!getCompletionTime(uncompletedList.get(0)).after(Deadline.DEFAULT_DATE)) {
-            completed.add(uncompletedList.remove(0));
+    // Marks the tasks in one change, so the task list is saved and redisplayed once, and announces those marked
+    private void markTasks(List<ReadOnlyTask> tasksToAutoMark) {
+        List<Long> taskIds = new ArrayList<>(tasksToAutoMark.size());
+        tasksToAutoMark.forEach(task -> taskIds.add(task.getId()));
+        // Tasks removed or completed since their deadline was reached are left out
+        Set<Long> markedIds = new HashSet<>(model.markTasks(taskIds));
+        List<ReadOnlyTask> markedTasks = tasksToAutoMark.stream()
+                .filter(task -> markedIds.contains(task.getId())).collect(Collectors.toList());
+        if (!markedTasks.isEmpty()) {
+            raise(new DeadlineTimeReachedEvent(markedTasks));
         }
-        return uncompletedList.isEmpty();
     }
 
     // =======================EVENT HANDLERS===========================
 
-    // Synchronizes the uncompleted list with the master list when there is a change
+    /**
+     * Reschedules the changed tasks, or all tasks if some changes were missed, and
+     * marks the tasks whose deadline elapsed while the functionality was disabled.
+     */
     @Subscribe
     public void handleTaskListChangedEvent(TaskListChangedEvent event) {
-        syncWithMasterTaskList(model.getTaskList().getTaskList());
+        boolean hasElapsedTasks;
+        synchronized (this) {
+            Optional<List<TaskListChange>> changes = event.getChangesSince(trackedVersion);
+            if (changes.isPresent()) {
+                changes.get().forEach(this::applyChange);
+            } else {
+                resync();
+            }
+            hasElapsedTasks = setToRun && !elapsedWhileDisabled.isEmpty();
+        }
+        if (hasElapsedTasks) {
+            autoMark(Collections.emptyList());
+        }
     }
 
 }
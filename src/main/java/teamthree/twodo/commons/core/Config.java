@@ -8,6 +8,14 @@ import java.util.regex.Pattern;
 // Config values used by the application
 public class Config {
 
+    // Default time in milliseconds over which changes to the task list are collected into one save
+    public static final long DEFAULT_SAVE_QUIET_PERIOD = 500;
+    // Default number of the latest commands entered that are kept in the command history
+    public static final int DEFAULT_COMMAND_HISTORY_CAPACITY = 500;
+    // Default number of the latest commands that can be undone, and bytes of changes kept to undo them
+    public static final int DEFAULT_UNDO_DEPTH = 100;
+    public static final long DEFAULT_UNDO_BYTES = 4L * 1024 * 1024;
+
     // Default notification period of 1 day. Can be changed by user.
     private static Long notificationPeriod = (long) (1000 * 60 * 60 * 24);
     private static String notificationPeriodToString = "1 day";
@@ -22,6 +30,14 @@ public class Config {
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
     private String taskBookFilePath = "data/2Do.xml";
+    private long saveQuietPeriod = DEFAULT_SAVE_QUIET_PERIOD;
+    private boolean journalTaskList = false;
+    private String taskListFormat = "xml";
+    private boolean asyncEventDispatch = true;
+    private String commandHistoryFilePath = "data/history.txt";
+    private int commandHistoryCapacity = DEFAULT_COMMAND_HISTORY_CAPACITY;
+    private int undoDepth = DEFAULT_UNDO_DEPTH;
+    private long undoBytes = DEFAULT_UNDO_BYTES;
 
     public static Long getDefaultNotificationPeriod() {
         return notificationPeriod;
@@ -59,6 +75,92 @@ public class Config {
         this.taskBookFilePath = taskBookFilePath;
     }
 
+    public long getSaveQuietPeriod() {
+        return saveQuietPeriod;
+    }
+
+    public void setSaveQuietPeriod(long saveQuietPeriod) {
+        this.saveQuietPeriod = saveQuietPeriod;
+    }
+
+    /**
+     * Returns true if changes to the task list are appended to a journal next to the task list file
+     * instead of rewriting the whole file.
+     */
+    public boolean isJournalTaskList() {
+        return journalTaskList;
+    }
+
+    public void setJournalTaskList(boolean journalTaskList) {
+        this.journalTaskList = journalTaskList;
+    }
+
+    /**
+     * Returns the name of the format the task list file is stored in: "xml" or "binary".
+     */
+    public String getTaskListFormat() {
+        return taskListFormat;
+    }
+
+    public void setTaskListFormat(String taskListFormat) {
+        this.taskListFormat = taskListFormat;
+    }
+
+    /**
+     * Returns true if event handlers run on the threads their classes declare, so that raising an
+     * event does not wait for them, instead of inline on the thread that raised the event.
+     */
+    public boolean isAsyncEventDispatch() {
+        return asyncEventDispatch;
+    }
+
+    public void setAsyncEventDispatch(boolean asyncEventDispatch) {
+        this.asyncEventDispatch = asyncEventDispatch;
+    }
+
+    public String getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(String commandHistoryFilePath) {
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    /**
+     * Returns the number of the latest commands entered that are kept in the command history,
+     * both in memory and in the command history file.
+     */
+    public int getCommandHistoryCapacity() {
+        return commandHistoryCapacity;
+    }
+
+    public void setCommandHistoryCapacity(int commandHistoryCapacity) {
+        this.commandHistoryCapacity = commandHistoryCapacity;
+    }
+
+    /**
+     * Returns the number of the latest commands that can be undone.
+     */
+    public int getUndoDepth() {
+        return undoDepth;
+    }
+
+    public void setUndoDepth(int undoDepth) {
+        this.undoDepth = undoDepth;
+    }
+
+    /**
+     * Returns roughly how many bytes of changed tasks are kept to undo the latest commands. The oldest
+     * commands can no longer be undone once this is exceeded, even within the undo depth.
+     */
+    public long getUndoBytes() {
+        return undoBytes;
+    }
+
+    public void setUndoBytes(long undoBytes) {
+        this.undoBytes = undoBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,12 +173,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(appTitle, o.appTitle) && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath) && saveQuietPeriod == o.saveQuietPeriod
+                && journalTaskList == o.journalTaskList && Objects.equals(taskListFormat, o.taskListFormat)
+                && asyncEventDispatch == o.asyncEventDispatch
+                && Objects.equals(commandHistoryFilePath, o.commandHistoryFilePath)
+                && commandHistoryCapacity == o.commandHistoryCapacity
+                && undoDepth == o.undoDepth && undoBytes == o.undoBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, saveQuietPeriod, journalTaskList, taskListFormat,
+                asyncEventDispatch, commandHistoryFilePath, commandHistoryCapacity, undoDepth, undoBytes);
     }
 
     @Override
@@ -0,0 +1,112 @@
+package teamthree.twodo.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
+import org.ocpsoft.prettytime.nlp.parse.DateGroup;
+
+/**
+ * Parses natural language date expressions such as "fri 10am" with a single
+ * shared {@link PrettyTimeParser}, remembering the most recently used results.
+ *
+ * Results are remembered for the day they were parsed on, since expressions
+ * like "tomorrow 5pm" mean a different time on another day. Expressions that
+ * do not resolve to a whole minute, such as "in 3 hours", depend on the time
+ * of day as well and are parsed afresh every time.
+ */
+public class DateParser {
+    public static final int DEFAULT_CACHE_CAPACITY = 256;
+
+    private static final long MINUTE_TO_MILLIS = 1000 * 60;
+    private static final String WARM_UP_EXPRESSION = "tomorrow 10am";
+    private static DateParser instance;
+
+    private final PrettyTimeParser parser = new PrettyTimeParser();
+    private final Map<CacheKey, Optional<Long>> cache;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    public DateParser(int cacheCapacity) {
+        cache = new LinkedHashMap<CacheKey, Optional<Long>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Optional<Long>> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+        // The first parse loads the parser's grammar, so get it out of the way here
+        parser.parseSyntax(WARM_UP_EXPRESSION);
+    }
+
+    public static synchronized DateParser getInstance() {
+        if (instance == null) {
+            instance = new DateParser(DEFAULT_CACHE_CAPACITY);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the first time described by {@code expression}, in milliseconds
+     * since the epoch, or an empty Optional if it does not describe a time.
+     */
+    public synchronized Optional<Long> parse(String expression) {
+        requireNonNull(expression);
+        CacheKey key = new CacheKey(expression, LocalDate.now());
+        Optional<Long> time = cache.get(key);
+        if (time != null) {
+            hitCount++;
+            return time;
+        }
+        missCount++;
+        List<DateGroup> groups = parser.parseSyntax(expression);
+        time = groups.isEmpty() ? Optional.empty() : Optional.of(groups.get(0).getDates().get(0).getTime());
+        if (!time.isPresent() || time.get() % MINUTE_TO_MILLIS == 0) {
+            cache.put(key, time);
+        }
+        return time;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * An expression together with the day it is parsed on.
+     */
+    private static class CacheKey {
+        private final String expression;
+        private final LocalDate referenceDay;
+
+        CacheKey(String expression, LocalDate referenceDay) {
+            this.expression = expression;
+            this.referenceDay = referenceDay;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof CacheKey
+                            && expression.equals(((CacheKey) other).expression)
+                            && referenceDay.equals(((CacheKey) other).referenceDay));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression, referenceDay);
+        }
+    }
+}
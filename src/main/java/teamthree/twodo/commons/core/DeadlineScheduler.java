@@ -0,0 +1,286 @@
+package teamthree.twodo.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Wakes up components when the times they wait for, such as the deadlines and
+ * notification times of tasks, are reached.
+ *
+ * Components register a {@link Timeline} and schedule task ids on it, each
+ * at a fire time. All timelines share one heap ordered by fire time and task
+ * id, so scheduling, rescheduling and cancelling a task each take O(log n),
+ * and one daemon thread sleeps until the earliest fire time. When it wakes
+ * up, each timeline is handed the ids of all of its tasks that are due, in
+ * the order they became due.
+ */
+public class DeadlineScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(DeadlineScheduler.class);
+    private static DeadlineScheduler instance;
+
+    // Binary min-heap of all scheduled entries; entries know their own position. Guarded by this.
+    private final List<Entry> heap = new ArrayList<>();
+    private long nextTimelineId = 0;
+    private Thread wakeUpThread;
+    private boolean isShutDown = false;
+
+    /**
+     * Returns the scheduler the application's components share, starting a new one if the last was shut down.
+     */
+    public static synchronized DeadlineScheduler getInstance() {
+        if (instance == null || instance.isShutDown()) {
+            instance = new DeadlineScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns a new timeline, whose tasks are handed to {@code onDue} once their fire time is reached.
+     * {@code onDue} is called on the scheduler's thread, and should hand longer work to another thread.
+     */
+    public synchronized Timeline register(String name, Consumer<List<Long>> onDue) {
+        requireNonNull(name);
+        requireNonNull(onDue);
+        return new Timeline(nextTimelineId++, name, onDue);
+    }
+
+    /**
+     * Returns the number of tasks scheduled across all timelines.
+     */
+    public synchronized int size() {
+        return heap.size();
+    }
+
+    /**
+     * Stops the scheduler's thread. No task fires afterwards.
+     */
+    public synchronized void shutdown() {
+        isShutDown = true;
+        notifyAll();
+    }
+
+    public synchronized boolean isShutDown() {
+        return isShutDown;
+    }
+
+    // ================ Heap ==============================
+
+    private synchronized void schedule(Timeline timeline, long taskId, long fireTime) {
+        if (isShutDown) {
+            return;
+        }
+        Entry entry = timeline.entries.get(taskId);
+        if (entry == null) {
+            entry = new Entry(timeline, taskId, fireTime);
+            timeline.entries.put(taskId, entry);
+            entry.position = heap.size();
+            heap.add(entry);
+            siftUp(entry.position);
+        } else if (entry.fireTime != fireTime) {
+            entry.fireTime = fireTime;
+            siftDown(siftUp(entry.position));
+        } else {
+            return;
+        }
+        if (heap.get(0) == entry) {
+            wakeUp();
+        }
+    }
+
+    private synchronized void cancel(Timeline timeline, long taskId) {
+        Entry entry = timeline.entries.remove(taskId);
+        if (entry != null) {
+            removeAt(entry.position);
+        }
+    }
+
+    private synchronized void clear(Timeline timeline) {
+        for (Entry entry : timeline.entries.values()) {
+            removeAt(entry.position);
+        }
+        timeline.entries.clear();
+    }
+
+    private void removeAt(int position) {
+        Entry last = heap.remove(heap.size() - 1);
+        if (position < heap.size()) {
+            heap.set(position, last);
+            last.position = position;
+            siftDown(siftUp(position));
+        }
+    }
+
+    // Moves the entry at position up to its place, and returns where it ended up
+    private int siftUp(int position) {
+        Entry entry = heap.get(position);
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (heap.get(parent).compareTo(entry) <= 0) {
+                break;
+            }
+            place(heap.get(parent), position);
+            position = parent;
+        }
+        place(entry, position);
+        return position;
+    }
+
+    private void siftDown(int position) {
+        Entry entry = heap.get(position);
+        int half = heap.size() / 2;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < heap.size() && heap.get(child + 1).compareTo(heap.get(child)) < 0) {
+                child++;
+            }
+            if (entry.compareTo(heap.get(child)) <= 0) {
+                break;
+            }
+            place(heap.get(child), position);
+            position = child;
+        }
+        place(entry, position);
+    }
+
+    private void place(Entry entry, int position) {
+        heap.set(position, entry);
+        entry.position = position;
+    }
+
+    // ================ Waking up ==============================
+
+    // Starts the thread on the first schedule, or makes it recompute how long to sleep
+    private void wakeUp() {
+        if (wakeUpThread == null) {
+            wakeUpThread = new Thread(this::runWakeUps, "DeadlineScheduler");
+            wakeUpThread.setDaemon(true);
+            wakeUpThread.start();
+        }
+        notifyAll();
+    }
+
+    private void runWakeUps() {
+        while (true) {
+            Map<Timeline, List<Long>> due;
+            try {
+                due = awaitDueTasks();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (due == null) {
+                return;
+            }
+            due.forEach((timeline, taskIds) -> {
+                try {
+                    timeline.onDue.accept(taskIds);
+                } catch (RuntimeException e) {
+                    logger.warning("Timeline " + timeline.name + " failed on due tasks: " + e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Waits until at least one task is due, then removes all due tasks and
+     * returns their ids by timeline. Returns null once the scheduler is shut down.
+     */
+    private synchronized Map<Timeline, List<Long>> awaitDueTasks() throws InterruptedException {
+        while (!isShutDown) {
+            long now = System.currentTimeMillis();
+            if (heap.isEmpty()) {
+                wait();
+            } else if (heap.get(0).fireTime > now) {
+                wait(heap.get(0).fireTime - now);
+            } else {
+                Map<Timeline, List<Long>> due = new LinkedHashMap<>();
+                while (!heap.isEmpty() && heap.get(0).fireTime <= now) {
+                    Entry entry = heap.get(0);
+                    removeAt(0);
+                    entry.timeline.entries.remove(entry.taskId);
+                    due.computeIfAbsent(entry.timeline, timeline -> new ArrayList<>()).add(entry.taskId);
+                }
+                return due;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A task waiting for its fire time.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final Timeline timeline;
+        private final long taskId;
+        private long fireTime;
+        private int position;
+
+        Entry(Timeline timeline, long taskId, long fireTime) {
+            this.timeline = timeline;
+            this.taskId = taskId;
+            this.fireTime = fireTime;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byFireTime = Long.compare(fireTime, other.fireTime);
+            if (byFireTime != 0) {
+                return byFireTime;
+            }
+            int byTaskId = Long.compare(taskId, other.taskId);
+            return byTaskId != 0 ? byTaskId : Long.compare(timeline.id, other.timeline.id);
+        }
+    }
+
+    /**
+     * The tasks one component waits on, each scheduled at most once.
+     */
+    public class Timeline {
+        private final long id;
+        private final String name;
+        private final Consumer<List<Long>> onDue;
+        // Guarded by the scheduler
+        private final Map<Long, Entry> entries = new HashMap<>();
+
+        private Timeline(long id, String name, Consumer<List<Long>> onDue) {
+            this.id = id;
+            this.name = name;
+            this.onDue = onDue;
+        }
+
+        /**
+         * Schedules the task with id {@code taskId} to fire at {@code fireTime}, in milliseconds since the
+         * epoch, replacing any time it was scheduled at before. Times in the past fire right away.
+         */
+        public void schedule(long taskId, long fireTime) {
+            DeadlineScheduler.this.schedule(this, taskId, fireTime);
+        }
+
+        /**
+         * Stops the task with id {@code taskId} from firing, if it is scheduled.
+         */
+        public void cancel(long taskId) {
+            DeadlineScheduler.this.cancel(this, taskId);
+        }
+
+        /**
+         * Stops all tasks of this timeline from firing.
+         */
+        public void clear() {
+            DeadlineScheduler.this.clear(this);
+        }
+
+        public boolean isScheduled(long taskId) {
+            synchronized (DeadlineScheduler.this) {
+                return entries.containsKey(taskId);
+            }
+        }
+    }
+}
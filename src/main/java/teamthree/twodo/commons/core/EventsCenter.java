@@ -1,46 +1,109 @@
 package teamthree.twodo.commons.core;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
 
+import javafx.application.Platform;
 import teamthree.twodo.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of 2Do.
+ *
+ * By default every handler runs inline, on the thread that posted the event.
+ * Once set to dispatch asynchronously, each handler runs in the
+ * {@link DispatchContext} its class declares with {@link HandlesEventsOn}.
+ * {@code FX} handlers run one event at a time on the JavaFX application
+ * thread, so posting returns without waiting for them and each handler still
+ * receives events in the order they were posted. Handlers with slow work,
+ * such as the storage's, hand it to threads of their own.
  */
 public class EventsCenter {
+
+    /**
+     * The threads event handlers can run on.
+     */
+    public enum DispatchContext {
+        // The thread that posted the event
+        INLINE,
+        // The JavaFX application thread
+        FX
+    }
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    // All handlers, used while dispatching synchronously
+    private final EventBus eventBus = new EventBus();
+    // The handlers of each context, used while dispatching asynchronously
+    private final Map<DispatchContext, EventBus> contextBuses = new EnumMap<>(DispatchContext.class);
+    // The contexts that have handlers, so events are not handed to threads with nothing to run
+    private final Set<DispatchContext> contextsInUse = Collections.synchronizedSet(
+            EnumSet.noneOf(DispatchContext.class));
+    private volatile boolean isAsynchronous = false;
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        for (DispatchContext context : DispatchContext.values()) {
+            contextBuses.put(context, new EventBus(context.name()));
+        }
     }
 
-    public static EventsCenter getInstance() {
+    public static synchronized EventsCenter getInstance() {
         if (instance == null) {
             instance = new EventsCenter();
         }
         return instance;
     }
 
-    public static void clearSubscribers() {
+    public static synchronized void clearSubscribers() {
         instance = null;
     }
 
     public EventsCenter registerHandler(Object handler) {
         eventBus.register(handler);
+        DispatchContext context = getDispatchContext(handler);
+        contextBuses.get(context).register(handler);
+        contextsInUse.add(context);
         return this;
     }
 
+    /**
+     * Sets whether handlers run in the context their class declares, instead of inline.
+     */
+    public void setAsynchronous(boolean isAsynchronous) {
+        this.isAsynchronous = isAsynchronous;
+    }
+
+    public boolean isAsynchronous() {
+        return isAsynchronous;
+    }
+
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.fine(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        if (!isAsynchronous) {
+            eventBus.post(event);
+            return this;
+        }
+        if (contextsInUse.contains(DispatchContext.INLINE)) {
+            contextBuses.get(DispatchContext.INLINE).post(event);
+        }
+        if (contextsInUse.contains(DispatchContext.FX)) {
+            Platform.runLater(() -> contextBuses.get(DispatchContext.FX).post(event));
+        }
         return this;
     }
 
+    private static DispatchContext getDispatchContext(Object handler) {
+        HandlesEventsOn declaration = handler.getClass().getAnnotation(HandlesEventsOn.class);
+        return declaration == null ? DispatchContext.INLINE : declaration.value();
+    }
+
 }
@@ -0,0 +1,19 @@
+package teamthree.twodo.commons.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the thread on which the event handlers of a class run when
+ * {@link EventsCenter} dispatches asynchronously. Handlers of classes without
+ * this annotation run inline, on the thread that posted the event.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface HandlesEventsOn {
+    EventsCenter.DispatchContext value();
+}
@@ -20,6 +20,8 @@ public class Messages {
             + "notification period.";
     public static final String MESSAGE_INVALID_NOTIFICATION_ADD = "Add an end date before adding "
             + "notification period.";
+    public static final String MESSAGE_LOADING_TASK_LIST = "Loading tasks from %1$s...";
+    public static final String MESSAGE_TASK_LIST_LOADED = "%1$d tasks loaded";
     public static final String MESSAGE_INVALID_AUTOMARK_ARGUMENT = "Automark argument must be either true or false!";
 
 }
@@ -0,0 +1,76 @@
+package teamthree.twodo.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * A list of at most {@code capacity} elements, in the order they were added. Once it is full, adding an
+ * element drops the oldest one. Adding and getting take O(1), and the elements are never copied or moved.
+ *
+ * @param <E> the type of the elements
+ */
+public class RingBuffer<E> {
+
+    private final Object[] elements;
+    // Index in elements of the oldest element
+    private int head = 0;
+    private int size = 0;
+
+    public RingBuffer(int capacity) {
+        assert capacity > 0;
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Appends {@code element}, dropping the oldest element if the buffer is full.
+     */
+    public void add(E element) {
+        requireNonNull(element);
+        if (size < elements.length) {
+            elements[(head + size) % elements.length] = element;
+            size++;
+        } else {
+            elements[head] = element;
+            head = (head + 1) % elements.length;
+        }
+    }
+
+    /**
+     * Returns the element at {@code index}, counting from the oldest element kept.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) elements[(head + index) % elements.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements, from the oldest to the newest, which follows later
+     * additions. Takes O(1).
+     */
+    public List<E> asList() {
+        return new AbstractList<E>() {
+            @Override
+            public E get(int index) {
+                return RingBuffer.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return RingBuffer.this.size();
+            }
+        };
+    }
+}
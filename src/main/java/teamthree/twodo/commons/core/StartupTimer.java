@@ -0,0 +1,78 @@
+package teamthree.twodo.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Runs the stages of application startup, on the calling thread or in the
+ * background, and logs how long each stage took and when it finished relative
+ * to the start of startup.
+ */
+public class StartupTimer {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimer.class);
+
+    private final long startTime = System.nanoTime();
+    private final ExecutorService background;
+
+    /**
+     * @param backgroundThreads Number of stages that can run in the background at the same time.
+     */
+    public StartupTimer(int backgroundThreads) {
+        background = Executors.newFixedThreadPool(backgroundThreads, runnable -> {
+            Thread thread = new Thread(runnable, "Startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs {@code stage} on the calling thread and returns its result.
+     */
+    public <T> T run(String name, Supplier<T> stage) {
+        requireNonNull(stage);
+        long stageStart = System.nanoTime();
+        T result = stage.get();
+        logStage(name, stageStart);
+        return result;
+    }
+
+    /**
+     * Starts {@code stage} in the background and returns its future result.
+     */
+    public <T> CompletableFuture<T> runInBackground(String name, Supplier<T> stage) {
+        requireNonNull(stage);
+        return CompletableFuture.supplyAsync(() -> run(name, stage), background);
+    }
+
+    /**
+     * Logs that startup has reached {@code milestone}, such as the first frame being shown.
+     */
+    public void mark(String milestone) {
+        logger.info("Startup reached " + milestone + " after " + toMillis(System.nanoTime() - startTime) + " ms");
+    }
+
+    /**
+     * Marks the end of startup and lets the background threads finish.
+     */
+    public void finish() {
+        mark("the end of startup");
+        background.shutdown();
+    }
+
+    private void logStage(String name, long stageStart) {
+        long now = System.nanoTime();
+        logger.info("Startup stage " + name + " took " + toMillis(now - stageStart) + " ms, done after "
+                + toMillis(now - startTime) + " ms");
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -1,19 +1,54 @@
 package teamthree.twodo.commons.events.model;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 import teamthree.twodo.commons.events.BaseEvent;
 import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskListChange;
 
-/** Indicates the TaskList in the model has changed*/
+/**
+ * Indicates the TaskList in the model has changed, with the changes made since the
+ * previous such event, in order. {@code version} is the version the task list is at, and
+ * {@code data} a snapshot of it at that version, which later changes do not affect.
+ */
 public class TaskListChangedEvent extends BaseEvent {
 
     public final ReadOnlyTaskList data;
+    public final List<TaskListChange> changes;
+    public final long version;
 
-    public TaskListChangedEvent(ReadOnlyTaskList data) {
+    public TaskListChangedEvent(ReadOnlyTaskList data, List<TaskListChange> changes, long version) {
         this.data = data;
+        this.changes = Collections.unmodifiableList(changes);
+        this.version = version;
+    }
+
+    /**
+     * Returns the changes made after version {@code lastVersion}. Returns an empty Optional if
+     * some of those changes are missing from this event, or one of them replaced the whole task list,
+     * in which case the whole task list should be read again.
+     */
+    public Optional<List<TaskListChange>> getChangesSince(long lastVersion) {
+        int firstUnseen = 0;
+        while (firstUnseen < changes.size() && changes.get(firstUnseen).getVersion() <= lastVersion) {
+            firstUnseen++;
+        }
+        List<TaskListChange> unseen = changes.subList(firstUnseen, changes.size());
+        long firstUnseenVersion = unseen.isEmpty() ? version + 1 : unseen.get(0).getVersion();
+        if (version > lastVersion && firstUnseenVersion != lastVersion + 1) {
+            return Optional.empty();
+        }
+        if (unseen.stream().anyMatch(change -> change.getKind() == TaskListChange.Kind.RESET)) {
+            return Optional.empty();
+        }
+        return Optional.of(unseen);
     }
 
     @Override
     public String toString() {
-        return "number of tasks " + data.getTaskList().size() + ", number of tags " + data.getTagList().size();
+        return "number of tasks " + data.getTaskList().size() + ", number of tags " + data.getTagList().size()
+                + ", " + changes.size() + " change(s) up to version " + version;
     }
 }
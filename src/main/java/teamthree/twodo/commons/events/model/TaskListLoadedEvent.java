@@ -0,0 +1,21 @@
+package teamthree.twodo.commons.events.model;
+
+import teamthree.twodo.commons.events.BaseEvent;
+
+/**
+ * Indicates that the task list read from storage at startup is in the model,
+ * so commands can now be run on it.
+ */
+public class TaskListLoadedEvent extends BaseEvent {
+
+    public final int taskCount;
+
+    public TaskListLoadedEvent(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + ": " + taskCount + " tasks";
+    }
+}
@@ -0,0 +1,29 @@
+package teamthree.twodo.commons.events.storage;
+
+import teamthree.twodo.commons.events.BaseEvent;
+
+/**
+ * Indicates that the task list has been written to disk
+ */
+public class TaskListSavedEvent extends BaseEvent {
+
+    public final String filePath;
+    // Time the file was written, in milliseconds since the epoch
+    public final long savedAt;
+    // Time from the first change included in this save until it was on disk, in milliseconds
+    public final long latency;
+    // Number of task list changes written by this save
+    public final int changesSaved;
+
+    public TaskListSavedEvent(String filePath, long savedAt, long latency, int changesSaved) {
+        this.filePath = filePath;
+        this.savedAt = savedAt;
+        this.latency = latency;
+        this.changesSaved = changesSaved;
+    }
+
+    @Override
+    public String toString() {
+        return changesSaved + " change(s) saved to " + filePath + " after " + latency + "ms";
+    }
+}
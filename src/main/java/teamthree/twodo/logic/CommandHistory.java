@@ -4,12 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static teamthree.twodo.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static teamthree.twodo.logic.parser.CliSyntax.PREFIX_CATEGORY;
 
-import java.util.ArrayList;
-import java.util.Stack;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 
+import teamthree.twodo.commons.core.Config;
 import teamthree.twodo.commons.core.EventsCenter;
-import teamthree.twodo.commons.core.options.Options;
+import teamthree.twodo.commons.core.RingBuffer;
 import teamthree.twodo.commons.events.logic.NewUserInputEvent;
 import teamthree.twodo.logic.commands.AddCommand;
 import teamthree.twodo.logic.commands.DeleteCommand;
@@ -18,9 +20,6 @@ import teamthree.twodo.logic.commands.RedoCommand;
 import teamthree.twodo.logic.commands.UndoCommand;
 import teamthree.twodo.logic.parser.Parser;
 import teamthree.twodo.logic.parser.exceptions.ParseException;
-import teamthree.twodo.model.ReadOnlyTaskList;
-import teamthree.twodo.model.tag.Tag;
-import teamthree.twodo.model.task.ReadOnlyTask;
 
 
 //@@author A0162253M
@@ -29,59 +28,72 @@ public class CommandHistory {
 
     //private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
 
-    private Stack<String> userInputHistory;
-    private Stack<ReadOnlyTask> beforeEditHistory;
-    private Stack<ReadOnlyTask> afterEditHistory;
-    private Stack<ReadOnlyTask> deleteHistory;
-    private Stack<ReadOnlyTask> addHistory;
-    private Stack<ReadOnlyTask> markHistory;
-    private Stack<ReadOnlyTask> unmarkHistory;
-    private Stack<ReadOnlyTaskList> clearHistory;
-    private Stack<Options> optionsHistory;
-    private ArrayList<String> fullUserInputHistory;
-    private Stack<ReadOnlyTaskList> delTagHistory;
-    private Stack<Tag> tagDeletedHistory;
-    private Stack<ReadOnlyTaskList> addTagHistory;
-    private Stack<Tag> tagAddedHistory;
+    // The latest user input entered, up to the capacity of the history
+    private final RingBuffer<String> userInputHistory;
+    private final OperationLog operationLog;
+    // Operation made by the command being executed, recorded with its command word once it is done
+    private Optional<Operation> pendingOperation;
 
     public CommandHistory() {
-        beforeEditHistory = new Stack<ReadOnlyTask>();
-        afterEditHistory = new Stack<ReadOnlyTask>();
-        addHistory = new Stack<ReadOnlyTask>();
-        deleteHistory = new Stack<ReadOnlyTask>();
-        markHistory = new Stack<ReadOnlyTask>();
-        unmarkHistory = new Stack<ReadOnlyTask>();
-        clearHistory = new Stack<ReadOnlyTaskList>();
-        optionsHistory = new Stack<Options>();
-        userInputHistory = new Stack<String>();
-        fullUserInputHistory = new ArrayList<>();
-        delTagHistory = new Stack<ReadOnlyTaskList>();
-        addTagHistory = new Stack<ReadOnlyTaskList>();
-        tagAddedHistory = new Stack<Tag>();
-        tagDeletedHistory = new Stack<Tag>();
+        this(Config.DEFAULT_COMMAND_HISTORY_CAPACITY, Collections.emptyList());
     }
 
     /**
-     * Appends {@code userInput} to the list of user input entered.
+     * @param capacity Number of the latest user input entries kept.
+     * @param previousUserInput User input entered in earlier sessions, from the earliest to the most recent.
+     */
+    public CommandHistory(int capacity, List<String> previousUserInput) {
+        this(capacity, previousUserInput, Config.DEFAULT_UNDO_DEPTH, Config.DEFAULT_UNDO_BYTES);
+    }
+
+    /**
+     * @param capacity Number of the latest user input entries kept.
+     * @param previousUserInput User input entered in earlier sessions, from the earliest to the most recent.
+     * @param undoDepth Number of the latest commands that can be undone.
+     * @param undoBytes Rough number of bytes of changed tasks kept to undo them.
+     */
+    public CommandHistory(int capacity, List<String> previousUserInput, int undoDepth, long undoBytes) {
+        requireNonNull(previousUserInput);
+        this.userInputHistory = new RingBuffer<>(capacity);
+        previousUserInput.forEach(userInputHistory::add);
+        this.operationLog = new OperationLog(undoDepth, undoBytes);
+        this.pendingOperation = Optional.empty();
+    }
+
+    /**
+     * Appends {@code userInput} to the list of user input entered, dropping the earliest entry once the
+     * history is full. Only the new entry is posted, as the history itself can be read with {@link #getHistory()}.
      */
     public void add(String userInput) {
         requireNonNull(userInput);
-        fullUserInputHistory.add(userInput);
-        EventsCenter.getInstance().post(new NewUserInputEvent(this.getHistory()));
+        userInputHistory.add(userInput);
+        EventsCenter.getInstance().post(new NewUserInputEvent(userInput));
     }
 
     /**
-     * Returns a defensive copy of {@code userInputHistory}.
+     * Returns an unmodifiable view of the user input entered, from the earliest to the most recent, which
+     * follows later input.
      */
-    public ArrayList<String> getHistory() {
-        return new ArrayList<String>(fullUserInputHistory);
+    public List<String> getHistory() {
+        return userInputHistory.asList();
     }
 
     /**
-     * Appends {@code userInput} to the list of user input entered.
+     * Records {@code operation} as the change made by the command being executed.
+     */
+    public void recordOperation(Operation operation) {
+        requireNonNull(operation);
+        pendingOperation = Optional.of(operation);
+    }
+
+    /**
+     * Records the command word of {@code userInput} in the operation log, with the operation the command made.
+     * Undo and redo commands are not recorded, as they step through the log instead.
      */
     public void addToUserInputHistory(String userInput) throws ParseException {
         requireNonNull(userInput);
+        Optional<Operation> operation = pendingOperation;
+        pendingOperation = Optional.empty();
         String[] arguments = seperateInput(userInput);
         boolean isUndoRedo = arguments[0].equals(RedoCommand.COMMAND_WORD)
                 || arguments[0].equals(RedoCommand.COMMAND_WORD_FAST)
@@ -99,199 +111,40 @@ public class CommandHistory {
                     || arguments[0].equals(AddCommand.COMMAND_WORD_FAST);
 
             if (isDeleteCommandWord) {
-                organiseDeleteCommandInput(arguments);
+                operationLog.record(organiseDeleteCommandInput(arguments), operation);
             } else if (isAddCommandWord) {
-                organiseAddCommandInput(arguments);
+                operationLog.record(organiseAddCommandInput(arguments), operation);
             } else {
-                getUserInputHistory().push(arguments[0]);
+                operationLog.record(arguments[0], operation);
             }
         }
     }
 
-    private void organiseAddCommandInput(String[] arguments) {
+    private String organiseAddCommandInput(String[] arguments) {
         String[] splitArgs = arguments[1].trim().split(" ");
         boolean isAddTag = splitArgs.length > 1
             && splitArgs[0].trim().equals(PREFIX_CATEGORY.toString());
 
         if (isAddTag) {
-            getUserInputHistory().push(UndoCommand.ADD_TAG);
-        } else {
-            getUserInputHistory().push(arguments[0]);
+            return UndoCommand.ADD_TAG;
         }
+        return arguments[0];
     }
 
-    private void organiseDeleteCommandInput(String[] arguments) {
+    private String organiseDeleteCommandInput(String[] arguments) {
         String[] splitArgs = arguments[1].trim().split(" ");
         boolean isDeleteTag = splitArgs.length > 1
             && splitArgs[0].trim().equals(PREFIX_CATEGORY.toString());
 
         if (isDeleteTag) {
-            getUserInputHistory().push(UndoCommand.DELETE_TAG);
-        } else {
-            getUserInputHistory().push(arguments[0]);
+            return UndoCommand.DELETE_TAG;
         }
+        return arguments[0];
     }
 
-    /**
-     * Appends {@code task} to the list of task before edits entered.
-     */
-    public void addToBeforeEditHistory(ReadOnlyTask task) {
-        requireNonNull(task);
-        beforeEditHistory.push(task);
-    }
-
-    /**
-     * Appends {@code task} to the list of task after edits entered.
-     */
-    public void addToAfterEditHistory(ReadOnlyTask task) {
-        requireNonNull(task);
-        afterEditHistory.push(task);
-    }
-
-    /**
-     * Appends {@code task} to the list of added tasks entered.
-     */
-    public void addToAddHistory(ReadOnlyTask task) {
-        requireNonNull(task);
-        addHistory.push(task);
-    }
-
-    /**
-     * Appends {@code task} to the list of deleted tasks entered.
-     */
-    public void addToDeleteHistory(ReadOnlyTask task) {
-        requireNonNull(task);
-        deleteHistory.push(task);
-    }
-
-    /**
-     * Appends {@code task} to the list of marked tasks entered.
-     */
-    public void addToMarkHistory(ReadOnlyTask task) {
-        requireNonNull(task);
-        markHistory.push(task);
-    }
-
-    /**
-     * Appends {@code task} to the list of unmarked tasks entered.
-     */
-    public void addToUnmarkHistory(ReadOnlyTask task) {
-        requireNonNull(task);
-        unmarkHistory.push(task);
-    }
-
-    /**
-     * Appends {@code filePath} to the list of cleared filePath entered.
-     */
-    public void addToClearHistory(ReadOnlyTaskList taskBook) {
-        requireNonNull(taskBook);
-        clearHistory.push(taskBook);
-    }
-
-    /**
-     * Appends {@code option} to the list of options edits entered.
-     */
-    public void addToOptionsHistory(Options option) {
-        requireNonNull(option);
-        optionsHistory.push(option);
+    public OperationLog getOperationLog() {
+        return operationLog;
     }
-    /**
-     * Appends {@code taskList} to the list of taskList changed due to deleting tags.
-     */
-    public void addToDelTagHistory(ReadOnlyTaskList taskList) {
-        requireNonNull(taskList);
-        delTagHistory.push(taskList);
-    }
-
-    /**
-     * Appends {@code tag} to the list of tags deleted.
-     */
-    public void addToTagDeletedHistory(Tag tag) {
-        requireNonNull(tag);
-        tagDeletedHistory.push(tag);
-    }
-
-    /**
-     * Appends {@code taskList} to the list of taskList changed due to added tags.
-     */
-    public void addToAddTagHistory(ReadOnlyTaskList taskList) {
-        requireNonNull(taskList);
-        addTagHistory.push(taskList);
-    }
-
-    /**
-     * Appends {@code tag} to the list of tags added.
-     */
-    public void addToTagAddedHistory(Tag tag) {
-        requireNonNull(tag);
-        tagAddedHistory.push(tag);
-    }
-
-    public Stack<String> getUserInputHistory() {
-        requireNonNull(userInputHistory);
-        return userInputHistory;
-    }
-
-    public Stack<ReadOnlyTask> getBeforeEditHistory() {
-        requireNonNull(beforeEditHistory);
-        return beforeEditHistory;
-    }
-
-    public Stack<ReadOnlyTask> getAfterEditHistory() {
-        requireNonNull(afterEditHistory);
-        return afterEditHistory;
-    }
-
-    public Stack<ReadOnlyTask> getAddHistory() {
-        requireNonNull(addHistory);
-        return addHistory;
-    }
-
-    public Stack<ReadOnlyTask> getDeleteHistory() {
-        requireNonNull(deleteHistory);
-        return deleteHistory;
-    }
-
-    public Stack<ReadOnlyTask> getMarkHistory() {
-        requireNonNull(markHistory);
-        return markHistory;
-    };
-
-    public Stack<ReadOnlyTask> getUnmarkHistory() {
-        requireNonNull(unmarkHistory);
-        return unmarkHistory;
-    }
-
-    public Stack<ReadOnlyTaskList> getClearHistory() {
-        requireNonNull(clearHistory);
-        return clearHistory;
-    }
-
-    public Stack<Options> getOptionsHistory() {
-        requireNonNull(optionsHistory);
-        return optionsHistory;
-    }
-
-    public Stack<ReadOnlyTaskList> getDelTagHistory() {
-        requireNonNull(delTagHistory);
-        return delTagHistory;
-    }
-
-    public Stack<Tag> getTagDeletedHistory() {
-        requireNonNull(tagDeletedHistory);
-        return tagDeletedHistory;
-    }
-
-    public Stack<ReadOnlyTaskList> getAddTagHistory() {
-        requireNonNull(addTagHistory);
-        return addTagHistory;
-    }
-
-    public Stack<Tag> getTagAddedHistory() {
-        requireNonNull(tagAddedHistory);
-        return tagAddedHistory;
-    }
-
 
     private String[] seperateInput(String userInput) throws ParseException {
         final Matcher matcher = Parser.BASIC_COMMAND_FORMAT.matcher(userInput.trim());
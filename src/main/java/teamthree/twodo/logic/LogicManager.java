@@ -23,30 +23,33 @@ public class LogicManager extends ComponentManager implements Logic {
     private Model model;
     private CategoryManager catMan;
     private final CommandHistory history;
-    private final UndoCommandHistory undoHistory;
     private final Parser parser;
 
     public LogicManager(Model model, CategoryManager catMan) {
+        this(model, catMan, new CommandHistory());
+    }
+
+    public LogicManager(Model model, CategoryManager catMan, CommandHistory history) {
         this.model = model;
-        this.history = new CommandHistory();
+        this.history = history;
         this.parser = new Parser();
-        this.undoHistory = new UndoCommandHistory();
         this.catMan = catMan;
     }
     public LogicManager(Model model) {
         this.model = model;
         this.history = new CommandHistory();
         this.parser = new Parser();
-        this.undoHistory = new UndoCommandHistory();
         this.catMan = null;
     }
 
     @Override
+    @SuppressWarnings("try") // the change scope only needs closing
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        try {
+        // However many tasks the command changes, the change is announced once, after the command is done
+        try (Model.ChangeScope changeScope = model.openChangeScope()) {
             logger.info("----------------[USER COMMAND][" + commandText + "]");
             Command command = parser.parseCommand(commandText);
-            command.setData(model, history, undoHistory, catMan);
+            command.setData(model, history, catMan);
             return command.execute();
         } finally {
             history.addToUserInputHistory(commandText);
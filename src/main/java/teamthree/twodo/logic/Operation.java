@@ -0,0 +1,262 @@
+package teamthree.twodo.logic;
+
+import static java.util.Objects.requireNonNull;
+import static teamthree.twodo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teamthree.twodo.commons.core.options.Options;
+import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskList;
+import teamthree.twodo.model.tag.Tag;
+import teamthree.twodo.model.tag.UniqueTagList;
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.model.task.Task;
+import teamthree.twodo.model.task.TaskWithDeadline;
+import teamthree.twodo.model.task.exceptions.DuplicateTaskException;
+
+/**
+ * A change made by a command, holding just enough to undo and redo it: the tasks it changed as they were
+ * before and after it, and for commands that change tags or options, the tags or options before and after it.
+ */
+public class Operation {
+
+    /**
+     * The kinds of change a command can make.
+     */
+    public enum Kind {
+        ADD, DELETE, EDIT, MARK, UNMARK, CLEAR, ADD_TAG, DELETE_TAG, OPTIONS
+    }
+
+    // Rough sizes in bytes, used to keep the undo log within its memory budget
+    private static final long OPERATION_SIZE = 64;
+    private static final long TASK_SIZE = 160;
+    private static final long TAG_SIZE = 48;
+    private static final long BYTES_PER_CHAR = 2;
+
+    private final Kind kind;
+    private final List<ReadOnlyTask> before;
+    private final List<ReadOnlyTask> after;
+    private final List<Tag> tagsBefore;
+    private final List<Tag> tagsAfter;
+    private final Tag tag;
+    private final Options optionsBefore;
+    private final Options optionsAfter;
+    private final long byteSize;
+
+    private Operation(Kind kind, List<ReadOnlyTask> before, List<ReadOnlyTask> after, List<Tag> tagsBefore,
+            List<Tag> tagsAfter, Tag tag, Options optionsBefore, Options optionsAfter) {
+        this.kind = kind;
+        this.before = Collections.unmodifiableList(new ArrayList<>(before));
+        this.after = Collections.unmodifiableList(new ArrayList<>(after));
+        this.tagsBefore = Collections.unmodifiableList(new ArrayList<>(tagsBefore));
+        this.tagsAfter = Collections.unmodifiableList(new ArrayList<>(tagsAfter));
+        this.tag = tag;
+        this.optionsBefore = optionsBefore;
+        this.optionsAfter = optionsAfter;
+        this.byteSize = estimateByteSize();
+    }
+
+    //// factories, one for each kind
+
+    public static Operation added(ReadOnlyTask task) {
+        requireNonNull(task);
+        return ofTasks(Kind.ADD, Collections.emptyList(), Collections.singletonList(task));
+    }
+
+    public static Operation deleted(ReadOnlyTask task) {
+        requireNonNull(task);
+        return ofTasks(Kind.DELETE, Collections.singletonList(task), Collections.emptyList());
+    }
+
+    /**
+     * Returns the edit of {@code original} into {@code edited}. Both must be copies, as tasks are edited in place.
+     */
+    public static Operation edited(ReadOnlyTask original, ReadOnlyTask edited) {
+        requireAllNonNull(original, edited);
+        return ofTasks(Kind.EDIT, Collections.singletonList(original), Collections.singletonList(edited));
+    }
+
+    public static Operation marked(ReadOnlyTask task) {
+        requireNonNull(task);
+        return ofTasks(Kind.MARK, Collections.singletonList(task), Collections.singletonList(task));
+    }
+
+    public static Operation unmarked(ReadOnlyTask task) {
+        requireNonNull(task);
+        return ofTasks(Kind.UNMARK, Collections.singletonList(task), Collections.singletonList(task));
+    }
+
+    /**
+     * Returns the clearing of {@code cleared}. The tasks are kept as they are, not copied, since a cleared
+     * task is no longer changed by anything else.
+     */
+    public static Operation cleared(ReadOnlyTaskList cleared) {
+        requireNonNull(cleared);
+        return new Operation(Kind.CLEAR, cleared.getTaskList(), Collections.emptyList(), cleared.getTagList(),
+                Collections.emptyList(), null, null, null);
+    }
+
+    /**
+     * Returns the adding of {@code tag} to the tasks in {@code before}, which became the tasks in {@code after}.
+     * The tasks must be copies, and {@code tagsBefore} and {@code tagsAfter} the tag lists of the task list
+     * before and after.
+     */
+    public static Operation tagAdded(Tag tag, List<ReadOnlyTask> before, List<ReadOnlyTask> after,
+            List<Tag> tagsBefore, List<Tag> tagsAfter) {
+        requireAllNonNull(tag, before, after, tagsBefore, tagsAfter);
+        return new Operation(Kind.ADD_TAG, before, after, tagsBefore, tagsAfter, tag, null, null);
+    }
+
+    /**
+     * Returns the deleting of {@code tag}, in the same form as {@link #tagAdded}.
+     */
+    public static Operation tagDeleted(Tag tag, List<ReadOnlyTask> before, List<ReadOnlyTask> after,
+            List<Tag> tagsBefore, List<Tag> tagsAfter) {
+        requireAllNonNull(tag, before, after, tagsBefore, tagsAfter);
+        return new Operation(Kind.DELETE_TAG, before, after, tagsBefore, tagsAfter, tag, null, null);
+    }
+
+    public static Operation optionsChanged(Options optionsBefore, Options optionsAfter) {
+        requireAllNonNull(optionsBefore, optionsAfter);
+        return new Operation(Kind.OPTIONS, Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), null, optionsBefore, optionsAfter);
+    }
+
+    private static Operation ofTasks(Kind kind, List<ReadOnlyTask> before, List<ReadOnlyTask> after) {
+        return new Operation(kind, before, after, Collections.emptyList(), Collections.emptyList(), null, null,
+                null);
+    }
+
+    /**
+     * Returns a copy of {@code task} that later edits of the task do not change.
+     */
+    public static ReadOnlyTask copyOf(ReadOnlyTask task) {
+        return task instanceof TaskWithDeadline ? new TaskWithDeadline(task) : new Task(task);
+    }
+
+    //// applying to a task list
+
+    /**
+     * Returns {@code current} with the tasks and tags this operation changed put back as they were before it.
+     * Used for the operations that change many tasks at once: CLEAR, ADD_TAG and DELETE_TAG.
+     */
+    public TaskList revert(ReadOnlyTaskList current) throws DuplicateTaskException {
+        return replace(current, after, before, tagsBefore);
+    }
+
+    /**
+     * Returns {@code current} with the tasks and tags this operation changed as they were after it.
+     * Used for the operations that change many tasks at once: CLEAR, ADD_TAG and DELETE_TAG.
+     */
+    public TaskList reapply(ReadOnlyTaskList current) throws DuplicateTaskException {
+        return replace(current, before, after, tagsAfter);
+    }
+
+    /**
+     * Returns a task list with the tasks of {@code current} in the same order, where the tasks in
+     * {@code replaced} are swapped for the tasks with the same id in {@code replacements}, and the tags are
+     * {@code tags}. Tasks in {@code replaced} without a replacement are left out, and replacements without a
+     * task in {@code current} are appended.
+     */
+    private static TaskList replace(ReadOnlyTaskList current, List<ReadOnlyTask> replaced,
+            List<ReadOnlyTask> replacements, List<Tag> tags) throws DuplicateTaskException {
+        Map<Long, ReadOnlyTask> replacementsById = new HashMap<>();
+        replacements.forEach(task -> replacementsById.put(task.getId(), task));
+        Map<Long, ReadOnlyTask> replacedById = new HashMap<>();
+        replaced.forEach(task -> replacedById.put(task.getId(), task));
+
+        List<ReadOnlyTask> tasks = new ArrayList<>();
+        for (ReadOnlyTask task : current.getTaskList()) {
+            ReadOnlyTask replacement = replacementsById.remove(task.getId());
+            if (replacement != null) {
+                tasks.add(replacement);
+            } else if (!replacedById.containsKey(task.getId())) {
+                tasks.add(task);
+            }
+        }
+        for (ReadOnlyTask replacement : replacements) {
+            if (replacementsById.containsKey(replacement.getId())) {
+                tasks.add(replacement);
+            }
+        }
+
+        TaskList result = new TaskList();
+        result.setTasks(tasks);
+        try {
+            result.setTags(tags);
+        } catch (UniqueTagList.DuplicateTagException e) {
+            assert false : "TaskLists should not have duplicate tags";
+        }
+        return result;
+    }
+
+    //// getters
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the task an ADD, DELETE, MARK or UNMARK operation was made on.
+     */
+    public ReadOnlyTask getTask() {
+        return after.isEmpty() ? before.get(0) : after.get(0);
+    }
+
+    public List<ReadOnlyTask> getBefore() {
+        return before;
+    }
+
+    public List<ReadOnlyTask> getAfter() {
+        return after;
+    }
+
+    public Tag getTag() {
+        return tag;
+    }
+
+    public Options getOptionsBefore() {
+        return optionsBefore;
+    }
+
+    public Options getOptionsAfter() {
+        return optionsAfter;
+    }
+
+    /**
+     * Returns roughly how many bytes this operation keeps alive.
+     */
+    public long getByteSize() {
+        return byteSize;
+    }
+
+    private long estimateByteSize() {
+        long size = OPERATION_SIZE;
+        // MARK and UNMARK keep the same task on both sides, which is counted once. Tasks are told apart by
+        // identity, as equal tasks may still differ in their tags.
+        Set<ReadOnlyTask> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ReadOnlyTask task : before) {
+            counted.add(task);
+            size += estimateByteSize(task);
+        }
+        for (ReadOnlyTask task : after) {
+            if (counted.add(task)) {
+                size += estimateByteSize(task);
+            }
+        }
+        size += TAG_SIZE * (tagsBefore.size() + tagsAfter.size());
+        return size;
+    }
+
+    private static long estimateByteSize(ReadOnlyTask task) {
+        long textLength = task.getName().fullName.length() + task.getDescription().value.length();
+        return TASK_SIZE + BYTES_PER_CHAR * textLength + TAG_SIZE * task.getTags().size();
+    }
+}
@@ -0,0 +1,131 @@
+package teamthree.twodo.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import teamthree.twodo.commons.core.Config;
+
+/**
+ * The commands entered, with the operations they made, that undo and redo step through.
+ *
+ * Undo moves a cursor back over the entries and redo moves it forward again. Recording a new entry drops the
+ * entries after the cursor, which can no longer be redone. The log keeps at most {@code maxDepth} entries and
+ * roughly {@code maxBytes} bytes of operations, dropping the oldest entries once either is exceeded, so that
+ * a long session does not hold on to every task it ever changed.
+ */
+public class OperationLog {
+
+    public static final int DEFAULT_MAX_DEPTH = Config.DEFAULT_UNDO_DEPTH;
+    public static final long DEFAULT_MAX_BYTES = Config.DEFAULT_UNDO_BYTES;
+
+    private final int maxDepth;
+    private final long maxBytes;
+    private final List<Entry> entries = new ArrayList<>();
+    // Number of entries that can be undone; the entries from the cursor on can be redone
+    private int cursor = 0;
+    private long byteSize = 0;
+
+    public OperationLog() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_BYTES);
+    }
+
+    public OperationLog(int maxDepth, long maxBytes) {
+        assert maxDepth > 0 && maxBytes > 0;
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records that the command {@code commandWord} was entered and made {@code operation}, which is empty for
+     * commands that change nothing or failed. The newest entry is always kept, even if it is over the budget.
+     */
+    public void record(String commandWord, Optional<Operation> operation) {
+        requireNonNull(commandWord);
+        requireNonNull(operation);
+        while (entries.size() > cursor) {
+            byteSize -= entries.remove(entries.size() - 1).getByteSize();
+        }
+        Entry entry = new Entry(commandWord, operation);
+        entries.add(entry);
+        byteSize += entry.getByteSize();
+        cursor = entries.size();
+        while (entries.size() > 1 && (entries.size() > maxDepth || byteSize > maxBytes)) {
+            byteSize -= entries.remove(0).getByteSize();
+            cursor--;
+        }
+    }
+
+    /**
+     * Steps back over the latest entry that has not been undone, and returns it.
+     */
+    public Optional<Entry> undo() {
+        if (cursor == 0) {
+            return Optional.empty();
+        }
+        cursor--;
+        return Optional.of(entries.get(cursor));
+    }
+
+    /**
+     * Steps forward over the earliest entry that has been undone, and returns it.
+     */
+    public Optional<Entry> redo() {
+        if (cursor == entries.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(entries.get(cursor++));
+    }
+
+    public boolean canUndo() {
+        return cursor > 0;
+    }
+
+    public boolean canRedo() {
+        return cursor < entries.size();
+    }
+
+    /**
+     * Returns the number of entries kept, both those that can be undone and those that can be redone.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns roughly how many bytes the operations kept take up.
+     */
+    public long getByteSize() {
+        return byteSize;
+    }
+
+    /**
+     * A command entered, and the operation it made, if any.
+     */
+    public static class Entry {
+        // Rough size in bytes of an entry without its operation
+        private static final long ENTRY_SIZE = 48;
+
+        private final String commandWord;
+        private final Optional<Operation> operation;
+
+        Entry(String commandWord, Optional<Operation> operation) {
+            this.commandWord = commandWord;
+            this.operation = operation;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public Optional<Operation> getOperation() {
+            return operation;
+        }
+
+        long getByteSize() {
+            return ENTRY_SIZE + operation.map(Operation::getByteSize).orElse(0L);
+        }
+    }
+}
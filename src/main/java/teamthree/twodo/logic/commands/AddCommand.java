@@ -17,8 +17,8 @@ import teamthree.twodo.commons.core.Messages;
 import teamthree.twodo.commons.core.index.Index;
 import teamthree.twodo.commons.events.model.AddOrEditCommandExecutedEvent;
 import teamthree.twodo.commons.exceptions.IllegalValueException;
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
-import teamthree.twodo.model.TaskList;
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.ReadOnlyTask;
 import teamthree.twodo.model.task.Task;
@@ -82,13 +82,17 @@ public class AddCommand extends Command {
         requireNonNull(model);
         if (toAdd == null && !taskIndices.isEmpty()) {
             ArrayList<Task> tasksForCategory = getTasksFromIndices();
+            List<ReadOnlyTask> tasksBefore = new ArrayList<>();
+            tasksForCategory.forEach(task -> tasksBefore.add(Operation.copyOf(task)));
+            List<Tag> tagsBefore = new ArrayList<>(model.getTaskList().getTagList());
             try {
-                history.addToAddTagHistory(new TaskList(model.getTaskList()));
                 Tag added = catMan.addCategory(tagName, tasksForCategory);
-                history.addToTagAddedHistory(added);
+                history.recordOperation(Operation.tagAdded(added, tasksBefore, copyCurrentTasks(tasksBefore),
+                        tagsBefore, model.getTaskList().getTagList()));
                 return new CommandResult(String.format(MESSAGE_SUCCESS_TAG, added.tagName));
             } catch (IllegalValueException e) {
-                throw new CommandException(Tag.MESSAGE_TAG_CONSTRAINTS);
+                // Either the tag name is invalid or one of the tasks could not be tagged
+                throw new CommandException(e.getMessage());
             }
         }
         try {
@@ -96,7 +100,7 @@ public class AddCommand extends Command {
                 throw new CommandException(Messages.MESSAGE_INVALID_DEADLINE);
             }
             model.addTask(toAdd);
-            history.addToAddHistory(toAdd);
+            history.recordOperation(Operation.added(toAdd));
             EventsCenter.getInstance().post(new AddOrEditCommandExecutedEvent(toAdd));
             return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
         } catch (DuplicateTaskException e) {
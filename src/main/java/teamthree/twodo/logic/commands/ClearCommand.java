@@ -2,6 +2,7 @@ package teamthree.twodo.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.model.TaskList;
 
 /**
@@ -18,8 +19,10 @@ public class ClearCommand extends Command {
     @Override
     public CommandResult execute() {
         requireNonNull(model);
-        history.addToClearHistory(new TaskList(model.getTaskList()));
+        // Only the cleared list of tasks is kept for undo, as nothing changes the tasks once they are cleared
+        Operation operation = Operation.cleared(model.getTaskList());
         model.resetData(new TaskList());
+        history.recordOperation(operation);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -1,11 +1,16 @@
 package teamthree.twodo.logic.commands;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import teamthree.twodo.commons.core.Messages;
 import teamthree.twodo.logic.CommandHistory;
-import teamthree.twodo.logic.UndoCommandHistory;
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.model.Model;
 import teamthree.twodo.model.category.CategoryManager;
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
 
 /**
  * Represents a command with hidden internal logic and the ability to be
@@ -15,7 +20,6 @@ public abstract class Command {
     protected Model model;
     protected CategoryManager catMan;
     protected CommandHistory history;
-    protected UndoCommandHistory undoHistory;
 
     /**
      * Constructs a feedback message to summarize an operation that displayed a
@@ -37,22 +41,33 @@ public abstract class Command {
      */
     public abstract CommandResult execute() throws CommandException;
 
+    /**
+     * Returns copies of the tasks in the model with the same ids as {@code tasks}, as they are now.
+     */
+    protected List<ReadOnlyTask> copyCurrentTasks(List<ReadOnlyTask> tasks) {
+        List<ReadOnlyTask> copies = new ArrayList<>();
+        for (ReadOnlyTask task : tasks) {
+            try {
+                copies.add(Operation.copyOf(model.getTask(task.getId())));
+            } catch (TaskNotFoundException e) {
+                assert false : "The changed task cannot be missing";
+            }
+        }
+        return copies;
+    }
+
     /**
      * Provides dependencies that the command requires.
-     * @param undoHistory, history, model
+     * @param history, model
      */
-    public void setData(Model model, CommandHistory history,
-            UndoCommandHistory undoHistory, CategoryManager catMan) {
+    public void setData(Model model, CommandHistory history, CategoryManager catMan) {
         this.model = model;
         this.history = history;
-        this.undoHistory = undoHistory;
         this.catMan = catMan;
     }
-    public void setData(Model model, CommandHistory history,
-            UndoCommandHistory undoHistory) {
+    public void setData(Model model, CommandHistory history) {
         this.model = model;
         this.history = history;
-        this.undoHistory = undoHistory;
         this.catMan = null;
     }
 }
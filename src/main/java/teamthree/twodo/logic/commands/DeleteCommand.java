@@ -1,11 +1,14 @@
 package teamthree.twodo.logic.commands;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import teamthree.twodo.commons.core.Messages;
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
 import teamthree.twodo.commons.core.index.Index;
 import teamthree.twodo.commons.exceptions.IllegalValueException;
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
-import teamthree.twodo.model.TaskList;
 import teamthree.twodo.model.category.CategoryManager;
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.ReadOnlyTask;
@@ -48,15 +51,17 @@ public class DeleteCommand extends Command {
                 throw new CommandException(Messages.MESSAGE_DEFAULT_TAG_INDEX);
             }
             try {
-                history.addToDelTagHistory(new TaskList(model.getTaskList()));
-                Tag toDel = catMan.deleteCategory(targetIndex);
-                history.addToTagDeletedHistory(toDel);
+                Tag toDel = new Tag(catMan.getCategoryList().get(targetIndex.getZeroBased()).getName());
+                List<ReadOnlyTask> tasksBefore = new ArrayList<>();
+                model.getTasksWithTag(toDel).forEach(task -> tasksBefore.add(Operation.copyOf(task)));
+                List<Tag> tagsBefore = new ArrayList<>(model.getTaskList().getTagList());
+                toDel = catMan.deleteCategory(targetIndex);
+                history.recordOperation(Operation.tagDeleted(toDel, tasksBefore, copyCurrentTasks(tasksBefore),
+                        tagsBefore, model.getTaskList().getTagList()));
                 return new CommandResult(String.format(MESSAGE_DELETE_TAG_SUCCESS, toDel.tagName));
             } catch (IllegalValueException e) {
-                //impossible to get this exception
-                e.printStackTrace();
+                throw new CommandException(e.getMessage());
             }
-            return new CommandResult("Delete category failed.");
         }
 
         UnmodifiableObservableList<ReadOnlyTask> lastShownList = model.getFilteredAndSortedTaskList();
@@ -68,8 +73,8 @@ public class DeleteCommand extends Command {
         ReadOnlyTask taskToDelete = lastShownList.get(targetIndex.getZeroBased());
 
         try {
-            model.deleteTask(taskToDelete);
-            history.addToDeleteHistory(taskToDelete);
+            model.deleteTask(taskToDelete.getId());
+            history.recordOperation(Operation.deleted(taskToDelete));
         } catch (TaskNotFoundException pnfe) {
             assert false : "The target task cannot be missing";
         }
@@ -17,6 +17,7 @@ import teamthree.twodo.commons.core.Messages;
 import teamthree.twodo.commons.core.index.Index;
 import teamthree.twodo.commons.events.model.AddOrEditCommandExecutedEvent;
 import teamthree.twodo.commons.util.CollectionUtil;
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.Deadline;
@@ -70,11 +71,12 @@ public class EditCommand extends Command {
 
         ReadOnlyTask taskToEdit = lastShownList.get(index.getZeroBased());
         Task editedTask = createEditedTask(taskToEdit, editTaskDescriptor);
-        updateBeforeEditHistory(taskToEdit);
-        updateAfterEditHistory(editedTask);
+        // The task is edited in place, so it is copied for undo before it changes
+        ReadOnlyTask originalTask = Operation.copyOf(taskToEdit);
 
         try {
-            model.updateTask(taskToEdit, editedTask);
+            model.updateTask(taskToEdit.getId(), editedTask);
+            history.recordOperation(Operation.edited(originalTask, editedTask));
         } catch (DuplicateTaskException dpe) {
             throw new CommandException(MESSAGE_DUPLICATE_TASK);
         } catch (TaskNotFoundException pnfe) {
@@ -99,22 +101,6 @@ public class EditCommand extends Command {
         }
     }
 
-    public void updateAfterEditHistory(Task editedTask) {
-        if (editedTask.getDeadline().isPresent()) {
-            history.addToAfterEditHistory(new TaskWithDeadline(editedTask));
-        } else {
-            history.addToAfterEditHistory(new Task(editedTask));
-        }
-    }
-
-    public void updateBeforeEditHistory(ReadOnlyTask taskToEdit) {
-        if (taskToEdit.getDeadline().isPresent()) {
-            history.addToBeforeEditHistory(new TaskWithDeadline(taskToEdit));
-        } else {
-            history.addToBeforeEditHistory(new Task(taskToEdit));
-        }
-    }
-
     /**
      * Creates and returns a {@code Task} with the details of {@code taskToEdit}
      * edited with {@code editTaskDescriptor}.
@@ -132,14 +118,15 @@ public class EditCommand extends Command {
         Set<Tag> updatedTags = editTaskDescriptor.getTags().orElse(taskToEdit.getTags());
 
         if (editTaskDescriptor.getDeadline() == null) {
-            return new Task(updatedName, updatedDescription, updatedTags, taskToEdit.getCompleted());
+            return new Task(updatedName, updatedDescription, updatedTags, taskToEdit.getCompleted(),
+                    taskToEdit.getId());
         }
         if (editTaskDescriptor.getDeadline().isPresent() || taskToEdit instanceof TaskWithDeadline) {
             Deadline updatedDeadline = getUpdatedDeadline(taskToEdit, editTaskDescriptor);
             return new TaskWithDeadline(updatedName, updatedDeadline, updatedDescription, updatedTags,
-                    taskToEdit.getCompleted());
+                    taskToEdit.getCompleted(), taskToEdit.getId());
         }
-        return new Task(updatedName, updatedDescription, updatedTags, taskToEdit.getCompleted());
+        return new Task(updatedName, updatedDescription, updatedTags, taskToEdit.getCompleted(), taskToEdit.getId());
     }
 
     /**
@@ -17,6 +17,7 @@ public class ListCommand extends Command {
     public static final String COMMAND_WORD_FAST = "l";
     public static final String COMMAND_WORD_HISTORY = "/h";
     public static final String COMMAND_WORD_FLOATING = "/f";
+    public static final String COMMAND_WORD_OVERLAP = "/o";
 
     public static final String MESSAGE_SUCCESS_INCOMPLETE = "Listed all incomplete tasks";
     public static final String MESSAGE_SUCCESS_INCOMPLETE_FLOATING = "Listed all incomplete floating tasks";
@@ -28,6 +29,10 @@ public class ListCommand extends Command {
     public static final String MESSAGE_SUCCESS_COMPLETE_END = "Listed all completed tasks before %1$s";
     public static final String MESSAGE_SUCCESS_INCOMPLETE_BOTH = "Listed all incomplete tasks between %1$s and %1$s";
     public static final String MESSAGE_SUCCESS_COMPLETE_BOTH = "Listed all completed tasks between %1$s and %1$s";
+    public static final String MESSAGE_SUCCESS_INCOMPLETE_OVERLAP =
+            "Listed all incomplete tasks running between %1$s and %2$s";
+    public static final String MESSAGE_SUCCESS_COMPLETE_OVERLAP =
+            "Listed all completed tasks running between %1$s and %2$s";
     public static final String MESSAGE_SUCCESS_INCOMPLETE_TAG = "Listed all incompleted tasks with specified tag(s)";
     public static final String MESSAGE_SUCCESS_COMPLETE_TAG = "Listed all completed tasks with specified tag(s)";
     public static final String MESSAGE_EMPTY_LIST = "No tasks to show\n"
@@ -40,13 +45,15 @@ public class ListCommand extends Command {
             + "Add " + COMMAND_WORD_HISTORY
             + " to list completed tasks instead of incomplete tasks within specified period.\n"
             + "Add " + COMMAND_WORD_FLOATING + " to list floating tasks instead of tasks with deadlines.\n"
+            + "Add " + COMMAND_WORD_OVERLAP + " with both START and END to list tasks running at any time "
+            + "within the period instead of only those starting within it.\n"
             + "Parameters: [" + COMMAND_WORD_HISTORY + "] " + PREFIX_DEADLINE_START + "[START] "
             + PREFIX_DEADLINE_END + "[END] " + PREFIX_TAG + "[TAG1, TAG2,...]\n"
             + "Example: " + COMMAND_WORD + " " + COMMAND_WORD_HISTORY + " " + PREFIX_DEADLINE_START + "today "
             + PREFIX_DEADLINE_END + "next week" + PREFIX_TAG + "personal";
 
     private Deadline deadline;
-    public enum AttributeInputted { NONE, START, END, BOTH };
+    public enum AttributeInputted { NONE, START, END, BOTH, OVERLAP };
 
     private AttributeInputted attInput;
     private boolean listIncomplete;
@@ -121,6 +128,15 @@ public class ListCommand extends Command {
                             deadline.getEndDate());
                 }
                 break;
+            case OVERLAP:
+                if (listIncomplete) {
+                    message = String.format(MESSAGE_SUCCESS_INCOMPLETE_OVERLAP, deadline.getStartDate(),
+                            deadline.getEndDate());
+                } else {
+                    message = String.format(MESSAGE_SUCCESS_COMPLETE_OVERLAP, deadline.getStartDate(),
+                            deadline.getEndDate());
+                }
+                break;
             default:
                 if (listIncomplete) {
                     message = MESSAGE_SUCCESS_INCOMPLETE;
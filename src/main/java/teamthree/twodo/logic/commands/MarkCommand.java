@@ -3,6 +3,7 @@ package teamthree.twodo.logic.commands;
 import teamthree.twodo.commons.core.Messages;
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
 import teamthree.twodo.commons.core.index.Index;
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.model.task.ReadOnlyTask;
 import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
@@ -59,8 +60,8 @@ public class MarkCommand extends Command {
         checkForCompletedTask(taskToMark);
 
         try {
-            model.markTask(taskToMark);
-            history.addToMarkHistory(taskToMark);
+            model.markTask(taskToMark.getId());
+            history.recordOperation(Operation.marked(taskToMark));
         } catch (TaskNotFoundException pnfe) {
             assert false : "The target task cannot be missing";
         }
@@ -9,6 +9,7 @@ import teamthree.twodo.commons.core.Config;
 import teamthree.twodo.commons.core.options.Alarm;
 import teamthree.twodo.commons.core.options.AutoMark;
 import teamthree.twodo.commons.core.options.Options;
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 
 //@@author A0139267W
@@ -87,10 +88,11 @@ public class OptionsCommand extends Command {
         requireNonNull(defaultOption);
         checkIfSameAsDefault();
 
-        history.addToOptionsHistory(getDefaultOption());
+        Options optionsBefore = getDefaultOption();
 
         updateAlarm();
         updateAutoMark();
+        history.recordOperation(Operation.optionsChanged(optionsBefore, getDefaultOption()));
 
         model.changeOptions();
         return new CommandResult(String.format(MESSAGE_UPDATE_OPTIONS_SUCCESS, defaultOption));
@@ -1,15 +1,15 @@
 package teamthree.twodo.logic.commands;
 
+import java.util.Optional;
+
 import teamthree.twodo.automark.AutoMarkManager;
 import teamthree.twodo.commons.core.Config;
 import teamthree.twodo.commons.core.options.Alarm;
 import teamthree.twodo.commons.core.options.AutoMark;
 import teamthree.twodo.commons.core.options.Options;
+import teamthree.twodo.logic.Operation;
+import teamthree.twodo.logic.OperationLog;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
-import teamthree.twodo.logic.parser.exceptions.ParseException;
-import teamthree.twodo.model.ReadOnlyTaskList;
-import teamthree.twodo.model.TaskList;
-import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.ReadOnlyTask;
 import teamthree.twodo.model.task.exceptions.DuplicateTaskException;
 import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
@@ -30,179 +30,151 @@ public class RedoCommand extends Command {
 
     @Override
     public CommandResult execute() throws CommandException {
-        if (undoHistory.getUserInputHistory().isEmpty()) {
+        Optional<OperationLog.Entry> undoneEntry = history.getOperationLog().redo();
+        if (!undoneEntry.isPresent()) {
             return new CommandResult(MESSAGE_NO_HISTORY);
         }
 
         CommandResult redoResult = null;
         try {
-            redoResult = processUndoCommand();
+            redoResult = processEntry(undoneEntry.get());
         } catch (DuplicateTaskException e) {
             throw new CommandException(AddCommand.MESSAGE_DUPLICATE_TASK);
         } catch (TaskNotFoundException e) {
             assert false : "The target task cannot be missing";
-        } catch (ParseException e) {
-            assert false : "The Command called previously is invalid";
         }
 
         return redoResult;
     }
 
-    private CommandResult processUndoCommand() throws TaskNotFoundException, DuplicateTaskException, ParseException {
-        final String previousCommandWord = undoHistory.getUserInputHistory().pop();
-        history.addToUserInputHistory(previousCommandWord);
+    private CommandResult processEntry(OperationLog.Entry undoneEntry)
+            throws TaskNotFoundException, DuplicateTaskException {
+        if (!undoneEntry.getOperation().isPresent()) {
+            String message = MESSAGE_INVALID_PREVIOUS_COMMAND.concat(undoneEntry.getCommandWord());
+            return new CommandResult(message);
+        }
 
-        switch (previousCommandWord) {
+        Operation operation = undoneEntry.getOperation().get();
+        switch (operation.getKind()) {
 
-        case DeleteCommand.COMMAND_WORD:
-        case DeleteCommand.COMMAND_WORD_QUICK:
-        case DeleteCommand.COMMAND_WORD_FAST:
-        case DeleteCommand.COMMAND_WORD_SHORT:
-            return redoDeleteCommand();
+        case DELETE:
+            return redoDeleteCommand(operation);
 
-        case UndoCommand.DELETE_TAG:
-            return redoDeleteTagCommand();
+        case DELETE_TAG:
+            return redoDeleteTagCommand(operation);
 
-        case UndoCommand.ADD_TAG:
-            return redoAddTagCommand();
+        case ADD_TAG:
+            return redoAddTagCommand(operation);
 
-        case EditCommand.COMMAND_WORD:
-        case EditCommand.COMMAND_WORD_FAST:
-            return redoEditCommand();
+        case EDIT:
+            return redoEditCommand(operation);
 
-        case AddCommand.COMMAND_WORD_QUICK:
-        case AddCommand.COMMAND_WORD_FAST:
-        case AddCommand.COMMAND_WORD:
-            return redoAddCommand();
+        case ADD:
+            return redoAddCommand(operation);
 
-        case ClearCommand.COMMAND_WORD:
-            return redoClearCommand();
+        case CLEAR:
+            return redoClearCommand(operation);
 
-        case UnmarkCommand.COMMAND_WORD:
-        case UnmarkCommand.COMMAND_WORD_FAST:
-            return redoUnmarkCommand();
+        case UNMARK:
+            return redoUnmarkCommand(operation);
 
-        case MarkCommand.COMMAND_WORD:
-        case MarkCommand.COMMAND_WORD_FAST:
-            return redoMarkCommand();
+        case MARK:
+            return redoMarkCommand(operation);
 
-        case OptionsCommand.COMMAND_WORD:
-        case OptionsCommand.COMMAND_WORD_FAST:
-            return redoOptionsCommand();
+        case OPTIONS:
+            return redoOptionsCommand(operation);
 
         default:
-            String message = MESSAGE_INVALID_PREVIOUS_COMMAND.concat(previousCommandWord);
-            return new CommandResult(message);
+            assert false : "Unknown operation " + operation.getKind();
+            return new CommandResult(MESSAGE_INVALID_PREVIOUS_COMMAND.concat(undoneEntry.getCommandWord()));
         }
     }
 
     /**
-     * Restores options settings that was undone previously and stores {@code edittedOptions} for UndoCommand
+     * Restores options settings that was undone previously
      */
-    private CommandResult redoOptionsCommand() {
-        Options edittedOptions = undoHistory.getOptionsHistory().pop();
-        assert edittedOptions != null;
-        history.addToOptionsHistory(edittedOptions);
-        Options currentOptions = updateOptions(edittedOptions);
+    private CommandResult redoOptionsCommand(Operation operation) {
+        Options currentOptions = updateOptions(operation.getOptionsAfter());
         fullMessage = MESSAGE_SUCCESS.concat(OptionsCommand.MESSAGE_UPDATE_OPTIONS_SUCCESS);
         return new CommandResult(String.format(fullMessage, currentOptions));
     }
 
     /**
-     * Mark a task that was previously unmark due to undoCommand and stores {@code taskToMark} for the next UndoCommand
+     * Mark a task that was previously unmarked due to undoCommand
      */
-    private CommandResult redoMarkCommand() throws TaskNotFoundException {
-        ReadOnlyTask taskToMark = undoHistory.getUnmarkHistory().pop();
-        history.addToMarkHistory(taskToMark);
-        model.markTask(taskToMark);
+    private CommandResult redoMarkCommand(Operation operation) throws TaskNotFoundException {
+        ReadOnlyTask taskToMark = operation.getTask();
+        model.markTask(taskToMark.getId());
         fullMessage = MESSAGE_SUCCESS.concat(MarkCommand.MESSAGE_MARK_TASK_SUCCESS);
         return new CommandResult(String.format(fullMessage, taskToMark));
     }
 
     /**
-     * Unmark a task that was previously mark due to undoCommand
-     * and stores {@code taskToUnmark} for the next UndoCommand
+     * Unmark a task that was previously marked due to undoCommand
      */
-    private CommandResult redoUnmarkCommand() throws TaskNotFoundException {
-        ReadOnlyTask taskToUnmark = undoHistory.getMarkHistory().pop();
-        history.addToUnmarkHistory(taskToUnmark);
-        model.unmarkTask(taskToUnmark);
+    private CommandResult redoUnmarkCommand(Operation operation) throws TaskNotFoundException {
+        ReadOnlyTask taskToUnmark = operation.getTask();
+        model.unmarkTask(taskToUnmark.getId());
         fullMessage = MESSAGE_SUCCESS.concat(UnmarkCommand.MESSAGE_UNMARK_TASK_SUCCESS);
         return new CommandResult(String.format(fullMessage, taskToUnmark));
     }
 
     /**
-     * Clears taskList that was previously restored due to a undoCommand
-     * and stores the current TaskList for the next UndoCommand
+     * Clears the tasks that were previously restored due to a undoCommand
      */
-    private CommandResult redoClearCommand() {
-        history.addToClearHistory(new TaskList(model.getTaskList()));
-        model.resetData(new TaskList());
+    private CommandResult redoClearCommand(Operation operation) throws DuplicateTaskException {
+        model.resetData(operation.reapply(model.getTaskList()));
         fullMessage = MESSAGE_SUCCESS.concat(ClearCommand.MESSAGE_SUCCESS);
         return new CommandResult(fullMessage);
     }
 
     /**
-     * Add task that was previously deleted due to a undoCommand and stores {@code taskToAdd} for the next UndoCommand
+     * Add task that was previously deleted due to a undoCommand
      */
-    private CommandResult redoAddCommand() throws DuplicateTaskException {
-        ReadOnlyTask taskToAdd = undoHistory.getDeleteHistory().pop();
-        history.addToAddHistory(taskToAdd);
+    private CommandResult redoAddCommand(Operation operation) throws DuplicateTaskException {
+        ReadOnlyTask taskToAdd = operation.getTask();
         model.addTask(taskToAdd);
         fullMessage = MESSAGE_SUCCESS.concat(AddCommand.MESSAGE_SUCCESS);
         return new CommandResult(String.format(fullMessage, taskToAdd));
     }
 
     /**
-     * Restores the task that was edited due to a previous undoCommand and
-     * stores {@code taskToEdit} and {@code currentTask} for the next UndoCommand
+     * Restores the task that was edited due to a previous undoCommand
      */
-    private CommandResult redoEditCommand() throws DuplicateTaskException, TaskNotFoundException {
-        ReadOnlyTask taskToEdit = undoHistory.getBeforeEditHistory().pop();
-        ReadOnlyTask currentTask = undoHistory.getAfterEditHistory().pop();
-        history.addToBeforeEditHistory(currentTask);
-        history.addToAfterEditHistory(taskToEdit);
-        model.updateTask(currentTask, taskToEdit);
+    private CommandResult redoEditCommand(Operation operation) throws DuplicateTaskException, TaskNotFoundException {
+        ReadOnlyTask currentTask = operation.getBefore().get(0);
+        ReadOnlyTask taskToEdit = operation.getAfter().get(0);
+        model.updateTask(currentTask.getId(), taskToEdit);
         fullMessage = MESSAGE_SUCCESS.concat(EditCommand.MESSAGE_EDIT_TASK_SUCCESS);
         return new CommandResult(String.format(fullMessage, taskToEdit));
     }
 
     /**
-     * Delete tag that was previously added due to a undoCommand
-     * and stores {@code tag} and {@code taskList} for the next UndoCommand
+     * Delete tag that was previously added back due to a undoCommand
      */
-    private CommandResult redoDeleteTagCommand() {
-        ReadOnlyTaskList taskList = undoHistory.getDelTagHistory().pop();
-        Tag tag = undoHistory.getTagDeletedHistory().pop();
-        history.addToDelTagHistory(new TaskList(model.getTaskList())); //Store current model b4 tag is deleted
-        history.addToTagDeletedHistory(tag); //Store Tag for UndoCommand
-        model.resetData(taskList);
-        fullMessage = MESSAGE_SUCCESS.concat(String.format(DeleteCommand.MESSAGE_DELETE_TAG_SUCCESS, tag.tagName));
+    private CommandResult redoDeleteTagCommand(Operation operation) throws DuplicateTaskException {
+        model.resetData(operation.reapply(model.getTaskList()));
+        fullMessage = MESSAGE_SUCCESS.concat(String.format(DeleteCommand.MESSAGE_DELETE_TAG_SUCCESS,
+                operation.getTag().tagName));
         return new CommandResult(fullMessage);
     }
 
     /**
      * Add tag that was previously deleted due to a undoCommand
-     * and stores {@code tag} and {@code taskList} for the next UndoCommand
      */
-    private CommandResult redoAddTagCommand() {
-        ReadOnlyTaskList taskList = undoHistory.getAddTagHistory().pop();
-        Tag tag = undoHistory.getTagAddedHistory().pop();
-        history.addToAddTagHistory(new TaskList(model.getTaskList())); //Store current model b4 tag is added
-        history.addToTagAddedHistory(tag); //Store Tag for UndoCommand
-        model.resetData(taskList);
-        fullMessage = MESSAGE_SUCCESS.concat(String.format(AddCommand.MESSAGE_SUCCESS_TAG, tag.tagName));
+    private CommandResult redoAddTagCommand(Operation operation) throws DuplicateTaskException {
+        model.resetData(operation.reapply(model.getTaskList()));
+        fullMessage = MESSAGE_SUCCESS.concat(String.format(AddCommand.MESSAGE_SUCCESS_TAG,
+                operation.getTag().tagName));
         return new CommandResult(fullMessage);
     }
 
     /**
      * Delete task that was previously added due to a undoCommand
-     * and stores {@code taskToDelete} for the next UndoCommand
      */
-    private CommandResult redoDeleteCommand() throws TaskNotFoundException {
-        ReadOnlyTask taskToDelete = undoHistory.getAddHistory().pop();
-        history.addToDeleteHistory(taskToDelete);
-        model.deleteTask(taskToDelete);
+    private CommandResult redoDeleteCommand(Operation operation) throws TaskNotFoundException {
+        ReadOnlyTask taskToDelete = operation.getTask();
+        model.deleteTask(taskToDelete.getId());
         fullMessage = MESSAGE_SUCCESS.concat(DeleteCommand.MESSAGE_DELETE_TASK_SUCCESS);
         return new CommandResult(String.format(fullMessage, taskToDelete));
     }
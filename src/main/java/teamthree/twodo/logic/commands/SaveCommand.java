@@ -6,6 +6,7 @@ import java.nio.file.Paths;
 import teamthree.twodo.commons.core.EventsCenter;
 import teamthree.twodo.commons.events.storage.TaskListFilePathChangedEvent;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
+import teamthree.twodo.storage.TaskListFormat;
 
 //@@author A0162253M
 // Saves TaskList to the specified directory
@@ -15,13 +16,12 @@ public class SaveCommand extends Command {
     public static final String COMMAND_WORD_FAST = "s";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Save the TaskList created with 2Do into"
-            + "FILE_PATH/FILENAME.xml\n" + "Example for Windows: C:/Users/Desktop/2Do.xml\n"
-            + "Example for Mac: /User/Username/Desktop/2Do.xml\n";
+            + "FILE_PATH/FILENAME.xml or FILE_PATH/FILENAME.bin\n" + "Example for Windows: C:/Users/Desktop/2Do.xml\n"
+            + "Example for Mac: /User/Username/Desktop/2Do.bin\n";
 
     public static final String MESSAGE_SUCCESS = "File is successfully saved to: %1$s\n";
     public static final String MESSAGE_INVALID_PATH = "File Path %1$s is invalid\n";
     public static final String MESSAGE_FAILURE = "Failed to save file to %1$s\n";
-    private static final String XML = ".xml";
     public final String filePath;
 
     public SaveCommand(String filePath) {
@@ -30,7 +30,7 @@ public class SaveCommand extends Command {
 
     @Override
     public CommandResult execute() throws CommandException {
-        if (!isXml(filePath)) {
+        if (!isTaskListFile(filePath)) {
             throw new CommandException(String.format(MESSAGE_INVALID_PATH, filePath));
         }
         try {
@@ -43,7 +43,7 @@ public class SaveCommand extends Command {
         }
     }
 
-    private boolean isXml(String filePath) {
-        return filePath.endsWith(XML);
+    private boolean isTaskListFile(String filePath) {
+        return TaskListFormat.fromFilePath(filePath).isPresent();
     }
 }
@@ -1,19 +1,16 @@
 package teamthree.twodo.logic.commands;
 
+import java.util.Optional;
+
 import teamthree.twodo.automark.AutoMarkManager;
 import teamthree.twodo.commons.core.Config;
 import teamthree.twodo.commons.core.options.Alarm;
 import teamthree.twodo.commons.core.options.AutoMark;
 import teamthree.twodo.commons.core.options.Options;
-import teamthree.twodo.commons.exceptions.IllegalValueException;
+import teamthree.twodo.logic.Operation;
+import teamthree.twodo.logic.OperationLog;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
-import teamthree.twodo.logic.parser.exceptions.ParseException;
-import teamthree.twodo.model.ReadOnlyTaskList;
-import teamthree.twodo.model.TaskList;
-import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.ReadOnlyTask;
-import teamthree.twodo.model.task.Task;
-import teamthree.twodo.model.task.TaskWithDeadline;
 import teamthree.twodo.model.task.exceptions.DuplicateTaskException;
 import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
 
@@ -38,83 +35,72 @@ public class UndoCommand extends Command {
 
     @Override
     public CommandResult execute() throws CommandException {
-        if (history.getUserInputHistory().isEmpty()) {
+        Optional<OperationLog.Entry> previousEntry = history.getOperationLog().undo();
+        if (!previousEntry.isPresent()) {
             return new CommandResult(MESSAGE_NO_HISTORY);
         }
 
         CommandResult undoResult = null;
         try {
-            undoResult = processUserInput();
+            undoResult = processEntry(previousEntry.get());
         } catch (DuplicateTaskException e) {
             throw new CommandException(AddCommand.MESSAGE_DUPLICATE_TASK);
         } catch (TaskNotFoundException e) {
             assert false : "The target task cannot be missing";
-        } catch (ParseException e) {
-            assert false : "The Command is invalid";
-        } catch (IllegalValueException e) {
-            assert false : "The Value is illegal";
         }
         return undoResult;
     }
 
-    private CommandResult processUserInput() throws TaskNotFoundException, IllegalValueException, CommandException {
-        final String previousCommandWord = history.getUserInputHistory().pop();
-        undoHistory.addToUserInputHistory(previousCommandWord); //Save CommandWord for RedoCommand
+    private CommandResult processEntry(OperationLog.Entry previousEntry)
+            throws TaskNotFoundException, DuplicateTaskException {
+        if (!previousEntry.getOperation().isPresent()) {
+            //For Previous Command like find, list which cannot be undone
+            String message = MESSAGE_INVALID_PREVIOUS_COMMAND.concat(previousEntry.getCommandWord());
+            return new CommandResult(message);
+        }
 
-        //Process previous Command Word and undo the command
-        switch (previousCommandWord) {
+        //Process previous operation and undo it
+        Operation operation = previousEntry.getOperation().get();
+        switch (operation.getKind()) {
 
-        case AddCommand.COMMAND_WORD:
-        case AddCommand.COMMAND_WORD_QUICK:
-        case AddCommand.COMMAND_WORD_FAST:
-            return undoAddCommand();
+        case ADD:
+            return undoAddCommand(operation);
 
-        case EditCommand.COMMAND_WORD:
-        case EditCommand.COMMAND_WORD_FAST:
-            return undoEditCommand();
+        case EDIT:
+            return undoEditCommand(operation);
 
-        case DeleteCommand.COMMAND_WORD_QUICK:
-        case DeleteCommand.COMMAND_WORD_FAST:
-        case DeleteCommand.COMMAND_WORD_SHORT:
-        case DeleteCommand.COMMAND_WORD:
-            return undoDeleteCommand();
+        case DELETE:
+            return undoDeleteCommand(operation);
 
         case DELETE_TAG:
-            return undoDeleteTagCommand();
+            return undoDeleteTagCommand(operation);
 
         case ADD_TAG:
-            return undoAddTagCommand();
+            return undoAddTagCommand(operation);
 
-        case ClearCommand.COMMAND_WORD:
-            return undoClearCommand();
+        case CLEAR:
+            return undoClearCommand(operation);
 
-        case MarkCommand.COMMAND_WORD:
-        case MarkCommand.COMMAND_WORD_FAST:
-            return undoMarkCommand();
+        case MARK:
+            return undoMarkCommand(operation);
 
-        case UnmarkCommand.COMMAND_WORD:
-        case UnmarkCommand.COMMAND_WORD_FAST:
-            return undoUnmarkCommand();
+        case UNMARK:
+            return undoUnmarkCommand(operation);
 
-        case OptionsCommand.COMMAND_WORD:
-        case OptionsCommand.COMMAND_WORD_FAST:
-            return undoOptionsCommand();
+        case OPTIONS:
+            return undoOptionsCommand(operation);
 
         default:
-            //For Previous Command like find, list which cannot be undone
-            String message = MESSAGE_INVALID_PREVIOUS_COMMAND.concat(previousCommandWord);
-            return new CommandResult(message);
+            assert false : "Unknown operation " + operation.getKind();
+            return new CommandResult(MESSAGE_INVALID_PREVIOUS_COMMAND.concat(previousEntry.getCommandWord()));
         }
     }
 
     /**
-     * Restore previous options settings and store {@code edittedOptions} for RedoCommand
+     * Restore previous options settings
      */
-    private CommandResult undoOptionsCommand() {
-        undoHistory.addToOptionsHistory(getDefaultOption());
-        Options edittedOptions = history.getOptionsHistory().pop();
-        assert edittedOptions != null;
-        Options currentOptions = updateOptions(edittedOptions);
+    private CommandResult undoOptionsCommand(Operation operation) {
+        Options currentOptions = updateOptions(operation.getOptionsBefore());
         fullMessage = MESSAGE_SUCCESS.concat(OptionsCommand.MESSAGE_UPDATE_OPTIONS_SUCCESS);
         return new CommandResult(String.format(fullMessage, currentOptions));
     }
@@ -143,124 +129,83 @@ public class UndoCommand extends Command {
     }
 
     /**
-     * Mark task that was marked and store {@code taskToUnmark} for RedoCommand
+     * Mark task that was unmarked
      */
-    private CommandResult undoUnmarkCommand() throws TaskNotFoundException {
-        ReadOnlyTask taskToMark = history.getUnmarkHistory().pop(); //Retrieve Task to mark
-        undoHistory.addToMarkHistory(taskToMark); //Store Task for RedoCommand
-        model.markTask(taskToMark);
+    private CommandResult undoUnmarkCommand(Operation operation) throws TaskNotFoundException {
+        ReadOnlyTask taskToMark = operation.getTask();
+        model.markTask(taskToMark.getId());
         fullMessage = MESSAGE_SUCCESS.concat(MarkCommand.MESSAGE_MARK_TASK_SUCCESS);
         return new CommandResult(String.format(fullMessage, taskToMark));
     }
 
     /**
-     * Unmark task that was marked and store {@code taskToUnmark} for RedoCommand
+     * Unmark task that was marked
      */
-    private CommandResult undoMarkCommand() throws TaskNotFoundException {
-        ReadOnlyTask taskToUnmark = history.getMarkHistory().pop();
-        undoHistory.addToUnmarkHistory(taskToUnmark); //Store Task for RedoCommand
-        model.unmarkTask(taskToUnmark);
+    private CommandResult undoMarkCommand(Operation operation) throws TaskNotFoundException {
+        ReadOnlyTask taskToUnmark = operation.getTask();
+        model.unmarkTask(taskToUnmark.getId());
         fullMessage = MESSAGE_SUCCESS.concat(UnmarkCommand.MESSAGE_UNMARK_TASK_SUCCESS);
         return new CommandResult(String.format(fullMessage, taskToUnmark));
     }
 
     /**
-     * Restores Original TaskLIst before Clear Command
+     * Restores the tasks and tags that were cleared
      */
-    private CommandResult undoClearCommand() {
-        ReadOnlyTaskList taskBook = history.getClearHistory().pop();
-        model.resetData(taskBook);
+    private CommandResult undoClearCommand(Operation operation) throws DuplicateTaskException {
+        model.resetData(operation.revert(model.getTaskList()));
         fullMessage = MESSAGE_SUCCESS.concat("Restored TaskList");
         return new CommandResult(fullMessage);
     }
 
     /**
-     * Add back Deleted Tag and Stores {@code tag} and {@code taskList} for RedoCommand
+     * Add back Deleted Tag to the tasks it was deleted from
      */
-    private CommandResult undoDeleteTagCommand() {
-        ReadOnlyTaskList taskList = history.getDelTagHistory().pop();
-        Tag tag = history.getTagDeletedHistory().pop();
-        undoHistory.addToDelTagHistory(new TaskList(model.getTaskList())); //Store current model b4 tag is added
-        undoHistory.addToTagDeletedHistory(tag); //Store Tag for RedoCommand
-        model.resetData(taskList);
-        fullMessage = MESSAGE_SUCCESS.concat(String.format(AddCommand.MESSAGE_SUCCESS_TAG, tag.tagName));
+    private CommandResult undoDeleteTagCommand(Operation operation) throws DuplicateTaskException {
+        model.resetData(operation.revert(model.getTaskList()));
+        fullMessage = MESSAGE_SUCCESS.concat(String.format(AddCommand.MESSAGE_SUCCESS_TAG,
+                operation.getTag().tagName));
         return new CommandResult(fullMessage);
     }
 
     /**
-     * Delete back Added Tag and Stores {@code tag} and {@code taskList} for RedoCommand
+     * Delete back Added Tag from the tasks it was added to
      */
-    private CommandResult undoAddTagCommand() {
-        ReadOnlyTaskList taskList = history.getAddTagHistory().pop();
-        Tag tag = history.getTagAddedHistory().pop();
-        undoHistory.addToAddTagHistory(new TaskList(model.getTaskList())); //Store current model b4 tag is added
-        undoHistory.addToTagAddedHistory(tag); //Store Tag for RedoCommand
-        model.resetData(taskList);
-        fullMessage = MESSAGE_SUCCESS.concat(String.format(DeleteCommand.MESSAGE_DELETE_TAG_SUCCESS, tag.tagName));
+    private CommandResult undoAddTagCommand(Operation operation) throws DuplicateTaskException {
+        model.resetData(operation.revert(model.getTaskList()));
+        fullMessage = MESSAGE_SUCCESS.concat(String.format(DeleteCommand.MESSAGE_DELETE_TAG_SUCCESS,
+                operation.getTag().tagName));
         return new CommandResult(fullMessage);
     }
 
     /**
-     * Add back Deleted Task and Stores {@code taskToAdd} for RedoCommand
+     * Add back Deleted Task
      */
-    private CommandResult undoDeleteCommand() throws DuplicateTaskException {
-        ReadOnlyTask taskToAdd = history.getDeleteHistory().pop();
-        undoHistory.addToAddHistory(taskToAdd); //Store Task for RedoCommand
+    private CommandResult undoDeleteCommand(Operation operation) throws DuplicateTaskException {
+        ReadOnlyTask taskToAdd = operation.getTask();
         model.addTask(taskToAdd);
         fullMessage = MESSAGE_SUCCESS.concat(AddCommand.MESSAGE_SUCCESS);
         return new CommandResult(String.format(fullMessage, taskToAdd));
     }
 
     /**
-     * Restores back original Task and Stores {@code originalTask} and {@code edittedTask} for RedoCommand
+     * Restores back original Task
      */
-    private CommandResult undoEditCommand() throws DuplicateTaskException, TaskNotFoundException {
-        ReadOnlyTask originalTask = history.getBeforeEditHistory().pop();
-        ReadOnlyTask edittedTask = history.getAfterEditHistory().pop();
-        saveTargetTaskForRedo(originalTask);
-        saveEditedTargetTaskForRedo(edittedTask);
-        model.updateTask(edittedTask, originalTask);
+    private CommandResult undoEditCommand(Operation operation) throws DuplicateTaskException, TaskNotFoundException {
+        ReadOnlyTask originalTask = operation.getBefore().get(0);
+        ReadOnlyTask edittedTask = operation.getAfter().get(0);
+        model.updateTask(edittedTask.getId(), originalTask);
         fullMessage = MESSAGE_SUCCESS.concat(EditCommand.MESSAGE_EDIT_TASK_SUCCESS);
         return new CommandResult(String.format(fullMessage, edittedTask));
     }
 
     /**
-     * Store Target Task to be edited during RedoCommand to reverse action of this current UndoCommand
-     * Create a new Task/TaskWithDeadline depending on whether the task has deadline
-     * @param originalTask must not be null
-     */
-    private void saveTargetTaskForRedo(ReadOnlyTask originalTask) {
-        assert originalTask != null;
-        if (originalTask.getDeadline().isPresent()) {
-            undoHistory.addToAfterEditHistory(new TaskWithDeadline(originalTask));
-        } else {
-            undoHistory.addToAfterEditHistory(new Task(originalTask));
-        }
-    }
-
-    /**
-     * Store Editted Task that should be in model after RedoCommand.
-     * Create a new Task/TaskWithDeadline depending on whether the task has deadline
-     * @param edittedTask must not be null
-     */
-    private void saveEditedTargetTaskForRedo(ReadOnlyTask edittedTask) {
-        assert edittedTask != null;
-        if (edittedTask.getDeadline().isPresent()) {
-            undoHistory.addToBeforeEditHistory(new TaskWithDeadline(edittedTask));
-        } else {
-            undoHistory.addToBeforeEditHistory(new Task(edittedTask));
-        }
-    }
-
-    /**
-     * Deleting the task added and stores {@code taskToDelete} for RedoCommand
+     * Deleting the task added
      */
-    private CommandResult undoAddCommand() throws TaskNotFoundException {
-        ReadOnlyTask taskToDelete = history.getAddHistory().pop();
+    private CommandResult undoAddCommand(Operation operation) throws TaskNotFoundException {
+        ReadOnlyTask taskToDelete = operation.getTask();
         assert taskToDelete != null;
 
-        undoHistory.addToDeleteHistory(taskToDelete); //Store Task for RedoCommand
-        model.deleteTask(taskToDelete);
+        model.deleteTask(taskToDelete.getId());
         fullMessage = MESSAGE_SUCCESS.concat(DeleteCommand.MESSAGE_DELETE_TASK_SUCCESS);
         return new CommandResult(String.format(fullMessage, taskToDelete));
     }
@@ -3,6 +3,7 @@ package teamthree.twodo.logic.commands;
 import teamthree.twodo.commons.core.Messages;
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
 import teamthree.twodo.commons.core.index.Index;
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.model.task.ReadOnlyTask;
 import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
@@ -59,8 +60,8 @@ public class UnmarkCommand extends Command {
         checkForIncompletedTask(taskToUnmark);
 
         try {
-            model.unmarkTask(taskToUnmark);
-            history.addToUnmarkHistory(taskToUnmark);
+            model.unmarkTask(taskToUnmark.getId());
+            history.recordOperation(Operation.unmarked(taskToUnmark));
         } catch (TaskNotFoundException pnfe) {
             assert false : "The target task cannot be missing";
         }
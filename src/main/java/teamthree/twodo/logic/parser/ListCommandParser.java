@@ -4,6 +4,7 @@ import static teamthree.twodo.logic.parser.CliSyntax.PREFIX_DEADLINE_END;
 import static teamthree.twodo.logic.parser.CliSyntax.PREFIX_DEADLINE_START;
 import static teamthree.twodo.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -26,6 +27,9 @@ public class ListCommandParser implements CommandParser {
     public ListCommand parse(String args) throws ParseException {
         boolean listIncomplete = !args.contains(ListCommand.COMMAND_WORD_HISTORY);
         boolean listFloating = args.contains(ListCommand.COMMAND_WORD_FLOATING);
+        // Matched as a whole word so that a date such as "s/oct 5" is not mistaken for the flag
+        boolean listOverlapping = Arrays.asList(args.trim().split("\\s+"))
+                .contains(ListCommand.COMMAND_WORD_OVERLAP);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DEADLINE_START,
                 PREFIX_DEADLINE_END, PREFIX_TAG);
         try {
@@ -39,7 +43,7 @@ public class ListCommandParser implements CommandParser {
             AttributeInputted attInput;
             if (argMultimap.getValue(PREFIX_DEADLINE_START).isPresent()
                     && argMultimap.getValue(PREFIX_DEADLINE_END).isPresent()) {
-                attInput = AttributeInputted.BOTH;
+                attInput = listOverlapping ? AttributeInputted.OVERLAP : AttributeInputted.BOTH;
             } else {
                 if (argMultimap.getValue(PREFIX_DEADLINE_START).isPresent()) {
                     attInput = AttributeInputted.START;
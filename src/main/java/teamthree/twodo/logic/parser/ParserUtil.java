@@ -28,6 +28,7 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INSUFFICIENT_PARTS = "Number of parts must be more than 1.";
+    private static final Pattern DAY_PARSE_PATTERN = Pattern.compile(Deadline.DAY_PARSE_REGEX);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it.
@@ -178,7 +179,7 @@ public class ParserUtil {
      * @return Optional containing autocorrected dateTime
      */
     public static Optional<String> parseAndCorrectDayFromUserDeadline(String dateTime) {
-        Matcher matcher = Pattern.compile(Deadline.DAY_PARSE_REGEX).matcher(dateTime.trim());
+        Matcher matcher = DAY_PARSE_PATTERN.matcher(dateTime.trim());
         if (matcher.find()) {
             String[] dayAndPrefix = matcher.group().split(" ");
             String day = extractDay(dayAndPrefix);
@@ -1,5 +1,7 @@
 package teamthree.twodo.model;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
@@ -17,24 +19,65 @@ public interface Model {
     /** Clears existing backing model and replaces with the provided new data. */
     void resetData(ReadOnlyTaskList newData);
 
+    /**
+     * Replaces the existing data with {@code newData} read from storage as a new version of the TaskList,
+     * without indicating or recording a change, since storage already holds the data.
+     */
+    void loadTaskList(ReadOnlyTaskList newData);
+
     /** Returns the TaskList */
     ReadOnlyTaskList getTaskList();
 
     /** Changes the TaskList */
     void setTaskList(ReadOnlyTaskList taskList);
 
+    /**
+     * Returns the version of the TaskList, which every change raises by one. TaskListChangedEvents carry the
+     * changes made since the previous event, each numbered with the version it produced.
+     */
+    long getTaskListVersion();
+
+    /**
+     * Returns the TaskList as of the latest committed change, with its version. Takes no lock, and the
+     * TaskList returned is a snapshot that later changes do not affect, so it can be read from any thread.
+     */
+    VersionedTaskList getPublishedTaskList();
+
+    /** Returns the task with the given id. */
+    ReadOnlyTask getTask(long taskId) throws TaskNotFoundException;
+
     /** Deletes the given task. */
     void deleteTask(ReadOnlyTask target) throws TaskNotFoundException;
 
+    /** Deletes the task with the given id. */
+    void deleteTask(long targetId) throws TaskNotFoundException;
+
     /** Adds the given task. */
     void addTask(ReadOnlyTask task) throws DuplicateTaskException;
 
     /** Marks the given task as complete. */
     void markTask(ReadOnlyTask task) throws TaskNotFoundException;
 
+    /** Marks the task with the given id as complete. */
+    void markTask(long taskId) throws TaskNotFoundException;
+
+    /**
+     * Marks the tasks with the given ids as complete, as one change to the task list. Ids of tasks that
+     * are no longer in the task list or already complete are skipped.
+     *
+     * @return the ids of the tasks that were marked.
+     */
+    List<Long> markTasks(Collection<Long> taskIds);
+
     /** Marks the given task as incomplete. */
     void unmarkTask(ReadOnlyTask task) throws TaskNotFoundException;
 
+    /** Marks the task with the given id as incomplete. */
+    void unmarkTask(long taskId) throws TaskNotFoundException;
+
+    /** Returns the tasks that carry the given tag. */
+    List<ReadOnlyTask> getTasksWithTag(Tag tag);
+
     /** Indicates a change in the default options of 2Do. */
     void changeOptions();
 
@@ -48,6 +91,16 @@ public interface Model {
     void updateTask(ReadOnlyTask target, ReadOnlyTask editedTask)
             throws DuplicateTaskException, TaskNotFoundException;
 
+    /**
+     * Replaces the task with id {@code targetId} with {@code editedTask}. The task keeps its id.
+     *
+     * @throws DuplicateTaskException if updating the task's details causes the task to be equivalent to
+     *      another existing task in the list.
+     * @throws TaskNotFoundException if no task has the given id.
+     */
+    void updateTask(long targetId, ReadOnlyTask editedTask)
+            throws DuplicateTaskException, TaskNotFoundException;
+
     /** Returns the filtered task list as an {@code UnmodifiableObservableList<ReadOnlyTask>} */
     UnmodifiableObservableList<ReadOnlyTask> getFilteredAndSortedTaskList();
 
@@ -70,4 +123,19 @@ public interface Model {
     /** Updates the filter to show no tasks*/
     void updateFilteredTaskListToEmpty();
 
+    /**
+     * Opens a change scope. Until it is closed, changes to the task list raise no TaskListChangedEvent;
+     * closing the outermost open scope raises a single one if the task list changed. Scopes can be nested.
+     * Scopes are counted for the whole model, so they must be opened on the thread that changes the model.
+     */
+    ChangeScope openChangeScope();
+
+    /**
+     * A batch of changes to the task list that is announced once, when closed.
+     */
+    interface ChangeScope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
 }
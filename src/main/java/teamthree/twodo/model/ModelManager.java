@@ -1,15 +1,22 @@
 package teamthree.twodo.model;
 
+import static java.util.Objects.requireNonNull;
 import static teamthree.twodo.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import teamthree.twodo.commons.core.ComponentManager;
@@ -17,18 +24,25 @@ import teamthree.twodo.commons.core.LogsCenter;
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
 import teamthree.twodo.commons.events.LoadNewModelEvent;
 import teamthree.twodo.commons.events.model.TaskListChangedEvent;
-import teamthree.twodo.commons.util.StringUtil;
 import teamthree.twodo.logic.commands.ListCommand.AttributeInputted;
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.Deadline;
 import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.model.task.TagIndex;
+import teamthree.twodo.model.task.Task;
 import teamthree.twodo.model.task.TaskWithDeadline;
+import teamthree.twodo.model.task.TextIndex;
 import teamthree.twodo.model.task.exceptions.DuplicateTaskException;
 import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
 
 /**
  * Represents the in-memory model of the task list data. All changes to any
  * model should be synchronized.
+ *
+ * Only one thread, the JavaFX application thread, may change the model: change
+ * scopes are counted for the whole model rather than per thread, and change
+ * events are raised in version order only because a single thread raises them.
+ * Other threads read the snapshot from {@link #getPublishedTaskList()}.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -36,6 +50,18 @@ public class ModelManager extends ComponentManager implements Model {
     private TaskList taskList;
     private final FilteredList<ReadOnlyTask> filteredTasks;
     private final SortedList<ReadOnlyTask> sortedTasks;
+    private final UnmodifiableObservableList<ReadOnlyTask> sortedTasksView;
+    // Sort key of every task in the task list, by task id
+    private final Map<Long, SortKey> sortKeys = new HashMap<>();
+    private final Comparator<ReadOnlyTask> taskOrder = (task1, task2) -> sortKeyOf(task1).compareTo(sortKeyOf(task2));
+    // Number of change scopes open, and whether the task list changed since the outermost opened. Guarded by this.
+    private int openChangeScopes = 0;
+    private boolean hasPendingChange = false;
+    // Version of the task list, raised by every change, and the changes not announced yet. Guarded by this.
+    private long version = 0;
+    private final List<TaskListChange> pendingChanges = new ArrayList<>();
+    // Snapshot of the task list as of the latest committed change, for threads that must not lock the model
+    private volatile VersionedTaskList published;
 
     /**
      * Initializes a ModelManager with the given filePath and userPrefs.
@@ -47,9 +73,14 @@ public class ModelManager extends ComponentManager implements Model {
         logger.fine("Initializing with task list: " + taskList + " and user prefs " + userPrefs);
 
         this.taskList = new TaskList(taskList);
+        this.taskList.getTaskList().forEach(task -> sortKeys.put(task.getId(), new SortKey(task)));
+        // Registered before the filtered list so that keys are up to date by the time the sorted list re-sorts
+        this.taskList.getTaskList().addListener(this::updateSortKeys);
         filteredTasks = new FilteredList<>(this.taskList.getTaskList());
-        sortedTasks = new SortedList<>(filteredTasks);
+        sortedTasks = new SortedList<>(filteredTasks, taskOrder);
+        sortedTasksView = new UnmodifiableObservableList<>(sortedTasks);
         updateFilteredTaskListToShowAll(null, false, true);
+        publish();
     }
 
     public ModelManager() {
@@ -58,54 +89,219 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyTaskList newData) {
-        taskList.resetData(newData);
+        synchronized (this) {
+            taskList.resetData(newData);
+            recordChange(TaskListChange.reset(version + 1));
+        }
         indicateTaskListChanged();
     }
 
+    @Override
+    public synchronized void loadTaskList(ReadOnlyTaskList newData) {
+        taskList.resetData(newData);
+        // A new version with no change recorded for it, so the next save writes only the changes made after it.
+        // Anyone holding an earlier version sees the gap and reads the whole task list again.
+        version++;
+        publish();
+    }
+
     @Override
     public ReadOnlyTaskList getTaskList() {
         return taskList;
     }
 
     @Override
-    public void setTaskList(ReadOnlyTaskList taskList) {
+    public synchronized void setTaskList(ReadOnlyTaskList taskList) {
         this.taskList = new TaskList(taskList);
+        recordChange(TaskListChange.reset(version + 1));
+        publish();
+    }
+
+    @Override
+    public synchronized long getTaskListVersion() {
+        return version;
+    }
+
+    @Override
+    public VersionedTaskList getPublishedTaskList() {
+        return published;
+    }
+
+    /** Publishes a snapshot of the task list as it is now, taking O(1) */
+    private synchronized VersionedTaskList publish() {
+        published = new VersionedTaskList(taskList.snapshot(), version);
+        return published;
+    }
+
+    /** Moves the task list to the version of {@code change}, to be announced with the next change event */
+    private synchronized void recordChange(TaskListChange change) {
+        version = change.getVersion();
+        pendingChanges.add(change);
+    }
+
+    // Tasks are edited in place, so changes keep copies of the tasks as they were when the change was made
+    private static ReadOnlyTask copyOf(ReadOnlyTask task) {
+        return task instanceof TaskWithDeadline ? new TaskWithDeadline(task) : new Task(task);
     }
 
-    /** Raises an event to indicate the model has changed */
+    /**
+     * Raises an event to indicate the model has changed, or notes the change until the open change scopes close.
+     * Must not be called while holding the model's lock: the event is taken under the lock but raised after it is
+     * released, so that handlers running inline do not hold up other threads reading the model.
+     */
     private void indicateTaskListChanged() {
-        raise(new TaskListChangedEvent(taskList));
+        assert !Thread.holdsLock(this);
+        TaskListChangedEvent event;
+        synchronized (this) {
+            if (openChangeScopes > 0) {
+                hasPendingChange = true;
+                return;
+            }
+            List<TaskListChange> changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+            VersionedTaskList committed = publish();
+            event = new TaskListChangedEvent(committed.getTaskList(), changes, committed.getVersion());
+        }
+        raise(event);
+    }
+
+    @Override
+    public synchronized ChangeScope openChangeScope() {
+        openChangeScopes++;
+        return new ChangeScope() {
+            private boolean isClosed = false;
+
+            @Override
+            public void close() {
+                synchronized (ModelManager.this) {
+                    if (isClosed) {
+                        return;
+                    }
+                    isClosed = true;
+                    openChangeScopes--;
+                    if (openChangeScopes > 0 || !hasPendingChange) {
+                        return;
+                    }
+                    hasPendingChange = false;
+                }
+                indicateTaskListChanged();
+            }
+        };
+    }
+
+    @Override
+    public ReadOnlyTask getTask(long taskId) throws TaskNotFoundException {
+        return taskList.getTask(taskId);
     }
 
     @Override
-    public synchronized void deleteTask(ReadOnlyTask target) throws TaskNotFoundException {
-        taskList.removeTask(target);
+    public void deleteTask(ReadOnlyTask target) throws TaskNotFoundException {
+        synchronized (this) {
+            ReadOnlyTask removed = taskList.getTask(target);
+            taskList.removeTask(target);
+            recordChange(TaskListChange.removed(version + 1, removed));
+        }
         indicateTaskListChanged();
     }
 
     @Override
-    public synchronized void addTask(ReadOnlyTask toAdd) throws DuplicateTaskException {
-        taskList.addTask(toAdd);
-        if (toAdd instanceof TaskWithDeadline) {
-            updateFilteredTaskListToShowAll(null, false, true);
-        } else {
-            updateFilteredTaskListToShowAll(null, true, true);
+    public void deleteTask(long targetId) throws TaskNotFoundException {
+        synchronized (this) {
+            ReadOnlyTask removed = taskList.getTask(targetId);
+            taskList.removeTask(targetId);
+            recordChange(TaskListChange.removed(version + 1, removed));
+        }
+        indicateTaskListChanged();
+    }
+
+    @Override
+    public void addTask(ReadOnlyTask toAdd) throws DuplicateTaskException {
+        synchronized (this) {
+            taskList.addTask(toAdd);
+            recordAdded(toAdd.getId());
+            if (toAdd instanceof TaskWithDeadline) {
+                updateFilteredTaskListToShowAll(null, false, true);
+            } else {
+                updateFilteredTaskListToShowAll(null, true, true);
+            }
         }
         indicateTaskListChanged();
     }
 
     @Override
     public void markTask(ReadOnlyTask target) throws TaskNotFoundException {
-        taskList.markTask(target);
+        synchronized (this) {
+            ReadOnlyTask marked = taskList.getTask(target);
+            taskList.markTask(target);
+            recordChange(TaskListChange.completionToggled(version + 1, copyOf(marked)));
+        }
         indicateTaskListChanged();
     }
 
+    @Override
+    public void markTask(long taskId) throws TaskNotFoundException {
+        synchronized (this) {
+            taskList.markTask(taskId);
+            recordChange(TaskListChange.completionToggled(version + 1, copyOf(taskList.getTask(taskId))));
+        }
+        indicateTaskListChanged();
+    }
+
+    @Override
+    public List<Long> markTasks(Collection<Long> taskIds) {
+        List<Long> markedIds = new ArrayList<>(taskIds.size());
+        synchronized (this) {
+            for (Long taskId : taskIds) {
+                try {
+                    ReadOnlyTask task = taskList.getTask(taskId);
+                    if (!task.isCompleted()) {
+                        taskList.markTask(taskId);
+                        recordChange(TaskListChange.completionToggled(version + 1, copyOf(task)));
+                        markedIds.add(taskId);
+                    }
+                } catch (TaskNotFoundException e) {
+                    logger.fine("Task " + taskId + " was removed before it could be marked");
+                }
+            }
+        }
+        if (!markedIds.isEmpty()) {
+            indicateTaskListChanged();
+        }
+        return markedIds;
+    }
+
     @Override
     public void unmarkTask(ReadOnlyTask target) throws TaskNotFoundException {
-        taskList.unmarkTask(target);
+        synchronized (this) {
+            ReadOnlyTask unmarked = taskList.getTask(target);
+            taskList.unmarkTask(target);
+            recordChange(TaskListChange.completionToggled(version + 1, copyOf(unmarked)));
+        }
         indicateTaskListChanged();
     }
 
+    @Override
+    public void unmarkTask(long taskId) throws TaskNotFoundException {
+        synchronized (this) {
+            taskList.unmarkTask(taskId);
+            recordChange(TaskListChange.completionToggled(version + 1, copyOf(taskList.getTask(taskId))));
+        }
+        indicateTaskListChanged();
+    }
+
+    @Override
+    public List<ReadOnlyTask> getTasksWithTag(Tag tag) {
+        List<ReadOnlyTask> tasksWithTag = new ArrayList<>();
+        for (Long id : taskList.getTagIndex().getTaskIdsWith(tag)) {
+            try {
+                tasksWithTag.add(taskList.getTask(id));
+            } catch (TaskNotFoundException e) {
+                assert false : "Tasks in the tag index must be in the task list";
+            }
+        }
+        return tasksWithTag;
+    }
+
     @Override
     public void changeOptions() {
         indicateTaskListChanged();
@@ -120,10 +316,44 @@ public class ModelManager extends ComponentManager implements Model {
             throws DuplicateTaskException, TaskNotFoundException {
         requireAllNonNull(target, editedTask);
 
-        taskList.updateTask(target, editedTask);
+        synchronized (this) {
+            ReadOnlyTask before = copyOf(taskList.getTask(target));
+            taskList.updateTask(target, editedTask);
+            recordUpdated(before);
+        }
+        indicateTaskListChanged();
+    }
+
+    @Override
+    public void updateTask(long targetId, ReadOnlyTask editedTask)
+            throws DuplicateTaskException, TaskNotFoundException {
+        requireNonNull(editedTask);
+
+        synchronized (this) {
+            ReadOnlyTask before = copyOf(taskList.getTask(targetId));
+            taskList.updateTask(targetId, editedTask);
+            recordUpdated(before);
+        }
         indicateTaskListChanged();
     }
 
+    private void recordAdded(long taskId) {
+        try {
+            recordChange(TaskListChange.added(version + 1, copyOf(taskList.getTask(taskId))));
+        } catch (TaskNotFoundException e) {
+            assert false : "An added task must be in the task list";
+        }
+    }
+
+    // Tasks keep their id when edited
+    private void recordUpdated(ReadOnlyTask before) {
+        try {
+            recordChange(TaskListChange.updated(version + 1, before, copyOf(taskList.getTask(before.getId()))));
+        } catch (TaskNotFoundException e) {
+            assert false : "An updated task must be in the task list";
+        }
+    }
+
     //@@author A0107433N
     // =========== Filtered Task List Accessors
     // =============================================================
@@ -134,8 +364,7 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public UnmodifiableObservableList<ReadOnlyTask> getFilteredAndSortedTaskList() {
-        sort();
-        return new UnmodifiableObservableList<>(sortedTasks);
+        return sortedTasksView;
     }
 
     @Override
@@ -165,26 +394,30 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Sorts list by deadline
+     * Sorts list by deadline. The sorted list keeps itself in order as tasks
+     * change, so this only installs the task order if it is not in place.
      */
     @Override
     public void sort() {
-        sortedTasks.setComparator(new Comparator<ReadOnlyTask>() {
-            @Override
-            public int compare(ReadOnlyTask task1, ReadOnlyTask task2) {
-                if (task1.getDeadline().isPresent() && task2.getDeadline().isPresent()) {
-                    return task1.getDeadline().get().getEndDate().compareTo(task2.getDeadline().get().getEndDate());
-                } else {
-                    if (task1.getDeadline().isPresent()) {
-                        return -1;
-                    } else if (task2.getDeadline().isPresent()) {
-                        return 1;
-                    } else {
-                        return task1.getName().fullName.compareTo(task2.getName().fullName);
-                    }
-                }
+        if (sortedTasks.getComparator() != taskOrder) {
+            sortedTasks.setComparator(taskOrder);
+        }
+    }
+
+    // Keeps the sort keys in step with the tasks removed from and added to the task list
+    private void updateSortKeys(ListChangeListener.Change<? extends ReadOnlyTask> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
             }
-        });
+            change.getRemoved().forEach(task -> sortKeys.remove(task.getId()));
+            change.getAddedSubList().forEach(task -> sortKeys.put(task.getId(), new SortKey(task)));
+        }
+    }
+
+    private SortKey sortKeyOf(ReadOnlyTask task) {
+        SortKey key = sortKeys.get(task.getId());
+        return key != null ? key : new SortKey(task);
     }
 
     @Override
@@ -219,6 +452,31 @@ public class ModelManager extends ComponentManager implements Model {
         });
     }
 
+    /**
+     * The fields a task is sorted by, read once when the task enters the list
+     * or changes. Tasks with deadlines come first, ordered by end date, then
+     * floating tasks ordered by name.
+     */
+    private static final class SortKey implements Comparable<SortKey> {
+        private final boolean isFloating;
+        private final long endTime;
+        private final String name;
+
+        SortKey(ReadOnlyTask task) {
+            isFloating = !task.getDeadline().isPresent();
+            endTime = isFloating ? 0 : task.getDeadline().get().getEndTime();
+            name = task.getName().fullName;
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            if (isFloating != other.isFloating) {
+                return isFloating ? 1 : -1;
+            }
+            return isFloating ? name.compareTo(other.name) : Long.compare(endTime, other.endTime);
+        }
+    }
+
     // ========== Inner classes/interfaces used for filtering
     // =================================================
 
@@ -255,9 +513,17 @@ public class ModelManager extends ComponentManager implements Model {
         String toString();
     }
 
+    /**
+     * Qualifies tasks whose name, tags or, for tasks with deadlines, description
+     * contain any of the keywords within a word, ignoring case. The matching
+     * tasks are looked up in the task list's full-text index, again only after
+     * the task list has changed.
+     */
     private class TotalQualifier implements Qualifier {
         private Set<String> keyWords;
         private boolean listIncomplete;
+        private Set<Long> matchingIds;
+        private int textIndexVersion;
 
         TotalQualifier(Set<String> keyWords, boolean listIncomplete) {
             this.keyWords = keyWords;
@@ -266,38 +532,16 @@ public class ModelManager extends ComponentManager implements Model {
 
         @Override
         public boolean run(ReadOnlyTask task) {
-            return (nameQualifies(task) || descriptionQualifies(task) || tagsQualifies(task))
-                    && completedQualifies(task);
+            return keywordsQualify(task) && completedQualifies(task);
         }
 
-        private boolean nameQualifies(ReadOnlyTask task) {
-            return keyWords.stream()
-                    .filter(keyword -> StringUtil.containsWordIgnoreCase(task.getName().fullName, keyword)).findAny()
-                    .isPresent();
-        }
-
-        private boolean descriptionQualifies(ReadOnlyTask task) {
-            if (task.getDeadline().isPresent()) {
-                return keyWords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getDescription().value, keyword));
-            } else {
-                return false;
-            }
-        }
-
-        private boolean tagsQualifies(ReadOnlyTask task) {
-            Set<Tag> tags = task.getTags();
-            if (tags.isEmpty()) {
-                return false;
-            }
-            boolean qualifies = false;
-            Iterator<Tag> tagIterator = tags.iterator();
-            while (!qualifies && tagIterator.hasNext()) {
-                Tag tag = tagIterator.next();
-                qualifies = keyWords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword));
+        private boolean keywordsQualify(ReadOnlyTask task) {
+            TextIndex textIndex = taskList.getTextIndex();
+            if (matchingIds == null || textIndexVersion != textIndex.getVersion()) {
+                textIndexVersion = textIndex.getVersion();
+                matchingIds = textIndex.findTaskIdsContainingAny(keyWords);
             }
-            return qualifies;
+            return matchingIds.contains(task.getId());
         }
 
         private boolean completedQualifies(ReadOnlyTask task) {
@@ -315,18 +559,21 @@ public class ModelManager extends ComponentManager implements Model {
         private Deadline deadlineToCheck;
         private AttributeInputted attInput;
         private boolean listIncomplete;
-        private Set<Tag> tagList;
+        private TagMatcher tagMatcher;
+        // Ids of the tasks in the period, looked up in the task list's deadline index
+        private Set<Long> idsInPeriod;
+        private int deadlineIndexVersion;
 
         PeriodQualifier(Deadline deadline, AttributeInputted attInput, boolean listIncomplete, Set<Tag> tagList) {
             this.deadlineToCheck = deadline;
             this.attInput = attInput;
             this.listIncomplete = listIncomplete;
-            this.tagList = tagList;
+            this.tagMatcher = new TagMatcher(tagList);
         }
 
         @Override
         public boolean run(ReadOnlyTask task) {
-            return deadlineQualifies(task) && tagsQualifies(task) && completedQualifies(task);
+            return deadlineQualifies(task) && tagMatcher.matches(task) && completedQualifies(task);
         }
 
         public boolean deadlineQualifies(ReadOnlyTask task) {
@@ -334,35 +581,22 @@ public class ModelManager extends ComponentManager implements Model {
                 return false;
             }
             if (task.isCompleted() == !listIncomplete) {
-                switch (attInput) {
-                case START:
-                    return task.getDeadline().get().getStartDate().after(deadlineToCheck.getStartDate());
-                case END:
-                    return task.getDeadline().get().getStartDate().before(deadlineToCheck.getEndDate());
-                case BOTH:
-                    return task.getDeadline().get().getStartDate().after(deadlineToCheck.getStartDate())
-                                && task.getDeadline().get().getStartDate().before(deadlineToCheck.getEndDate());
-                default:
-                    return false;
-                }
+                return getIdsInPeriod().contains(task.getId());
             } else {
                 return false;
             }
         }
 
-        private boolean tagsQualifies(ReadOnlyTask task) {
-            if (tagList == null || tagList.isEmpty()) {
-                return true;
-            }
-            boolean qualifies = false;
-            Set<Tag> tags = task.getTags();
-            Iterator<Tag> tagIterator = tags.iterator();
-            while (!qualifies && tagIterator.hasNext()) {
-                Tag tag = tagIterator.next();
-                qualifies = tagList.stream()
-                        .anyMatch(taskTag -> StringUtil.containsWordIgnoreCase(tag.tagName, taskTag.tagName));
+        /**
+         * Returns the ids of all tasks in the period, querying the deadline
+         * index again only if the task list has changed since the last query.
+         */
+        private Set<Long> getIdsInPeriod() {
+            if (idsInPeriod == null || deadlineIndexVersion != taskList.getDeadlineIndexVersion()) {
+                deadlineIndexVersion = taskList.getDeadlineIndexVersion();
+                idsInPeriod = taskList.getTaskIdsInPeriod(deadlineToCheck, attInput);
             }
-            return qualifies;
+            return idsInPeriod;
         }
 
         private boolean completedQualifies(ReadOnlyTask task) {
@@ -370,35 +604,50 @@ public class ModelManager extends ComponentManager implements Model {
         }
     }
 
+    /**
+     * Matches tasks that have a tag whose name contains the name of any of the
+     * given tags, ignoring case. Matches every task if no tags are given.
+     * The matching tasks are looked up in the task list's tag index, again
+     * only after the task list has changed.
+     */
+    private class TagMatcher {
+        private final Set<Tag> tagList;
+        private BitSet selection;
+        private int tagIndexVersion;
+
+        TagMatcher(Set<Tag> tagList) {
+            this.tagList = tagList;
+        }
+
+        boolean matches(ReadOnlyTask task) {
+            if (tagList == null || tagList.isEmpty()) {
+                return true;
+            }
+            TagIndex tagIndex = taskList.getTagIndex();
+            if (selection == null || tagIndexVersion != tagIndex.getVersion()) {
+                tagIndexVersion = tagIndex.getVersion();
+                selection = tagIndex.selectTasksMatchingAny(tagList);
+            }
+            return tagIndex.isSelected(selection, task.getId());
+        }
+    }
+
     private class TagQualifier implements Qualifier {
         private Set<Tag> tagList;
+        private TagMatcher tagMatcher;
         private boolean listIncomplete;
         private boolean showFloating;
 
         TagQualifier(Set<Tag> tagList, boolean listIncomplete, boolean showFloating) {
             this.tagList = tagList;
+            this.tagMatcher = new TagMatcher(tagList);
             this.listIncomplete = listIncomplete;
             this.showFloating = showFloating;
         }
 
         @Override
         public boolean run(ReadOnlyTask task) {
-            return tagsQualifies(task) && completedQualifies(task) && floatingQualifies(task);
-        }
-
-        private boolean tagsQualifies(ReadOnlyTask task) {
-            if (tagList == null || tagList.isEmpty()) {
-                return true;
-            }
-            boolean qualifies = false;
-            Set<Tag> tags = task.getTags();
-            Iterator<Tag> tagIterator = tags.iterator();
-            while (!qualifies && tagIterator.hasNext()) {
-                Tag tag = tagIterator.next();
-                qualifies = tagList.stream()
-                        .anyMatch(taskTag -> StringUtil.containsWordIgnoreCase(tag.tagName, taskTag.tagName));
-            }
-            return qualifies;
+            return tagMatcher.matches(task) && completedQualifies(task) && floatingQualifies(task);
         }
 
         private boolean completedQualifies(ReadOnlyTask task) {
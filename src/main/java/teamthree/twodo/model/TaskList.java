@@ -1,10 +1,12 @@
 package teamthree.twodo.model;
 
 import static java.util.Objects.requireNonNull;
+import static teamthree.twodo.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -12,11 +14,16 @@ import java.util.Set;
 
 import javafx.collections.ObservableList;
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
+import teamthree.twodo.logic.commands.ListCommand.AttributeInputted;
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.tag.UniqueTagList;
+import teamthree.twodo.model.task.Deadline;
+import teamthree.twodo.model.task.DeadlineIndex;
 import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.model.task.TagIndex;
 import teamthree.twodo.model.task.Task;
 import teamthree.twodo.model.task.TaskWithDeadline;
+import teamthree.twodo.model.task.TextIndex;
 import teamthree.twodo.model.task.UniqueTaskList;
 import teamthree.twodo.model.task.exceptions.DuplicateTaskException;
 import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
@@ -127,6 +134,43 @@ public class TaskList implements ReadOnlyTaskList {
         tasks.updateTask(target, editedTask);
     }
 
+    /**
+     * Replaces the task with id {@code targetId} in the list with
+     * {@code editedReadOnlyTask}. The task keeps its id.
+     *
+     * @see #updateTask(ReadOnlyTask, ReadOnlyTask)
+     */
+    public void updateTask(long targetId, ReadOnlyTask editedReadOnlyTask)
+            throws DuplicateTaskException, TaskNotFoundException {
+        requireNonNull(editedReadOnlyTask);
+
+        Task editedTask;
+        if (editedReadOnlyTask instanceof TaskWithDeadline) {
+            editedTask = new TaskWithDeadline(editedReadOnlyTask);
+        } else {
+            editedTask = new Task(editedReadOnlyTask);
+        }
+        syncMasterTagListWith(editedTask);
+        tasks.updateTask(targetId, editedTask);
+    }
+
+    /**
+     * Returns the task with the given id.
+     *
+     * @throws TaskNotFoundException
+     *             if no task has the given id.
+     */
+    public ReadOnlyTask getTask(long id) throws TaskNotFoundException {
+        return tasks.find(id).orElseThrow(TaskNotFoundException::new);
+    }
+
+    /**
+     * Returns the task stored in this list that is equivalent to {@code target}.
+     */
+    public ReadOnlyTask getTask(ReadOnlyTask target) throws TaskNotFoundException {
+        return tasks.find(target).orElseThrow(TaskNotFoundException::new);
+    }
+
     /**
      * Ensures that every tag in this task: - exists in the master list
      * {@link #tags} - points to a Tag object in the master list
@@ -153,7 +197,18 @@ public class TaskList implements ReadOnlyTaskList {
      * @see #syncMasterTagListWith(Task)
      */
     private void syncMasterTagListWith(UniqueTaskList tasks) {
-        tasks.forEach(this::syncMasterTagListWith);
+        // Merges the tags of all tasks first, so the map of master tag objects is built once rather than per task
+        final Set<Tag> allTaskTags = new LinkedHashSet<>();
+        tasks.forEach(task -> allTaskTags.addAll(task.getTags()));
+        tags.mergeFrom(new UniqueTagList(allTaskTags));
+
+        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
+        tags.forEach(tag -> masterTagObjects.put(tag, tag));
+        for (Task task : tasks) {
+            final Set<Tag> correctTagReferences = new HashSet<>();
+            task.getTags().forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
+            task.setTags(correctTagReferences);
+        }
     }
 
     public boolean removeTask(ReadOnlyTask key) throws TaskNotFoundException {
@@ -164,6 +219,10 @@ public class TaskList implements ReadOnlyTaskList {
         }
     }
 
+    public boolean removeTask(long id) throws TaskNotFoundException {
+        return tasks.remove(id);
+    }
+
     public boolean markTask(ReadOnlyTask key) throws TaskNotFoundException {
         if (tasks.mark(key)) {
             return true;
@@ -172,6 +231,10 @@ public class TaskList implements ReadOnlyTaskList {
         }
     }
 
+    public boolean markTask(long id) throws TaskNotFoundException {
+        return tasks.mark(id);
+    }
+
     public boolean unmarkTask(ReadOnlyTask key) throws TaskNotFoundException {
         if (tasks.unmark(key)) {
             return true;
@@ -180,6 +243,61 @@ public class TaskList implements ReadOnlyTaskList {
         }
     }
 
+    public boolean unmarkTask(long id) throws TaskNotFoundException {
+        return tasks.unmark(id);
+    }
+
+    //// period queries
+
+    /**
+     * Returns the ids of the tasks with deadlines that fall in the given
+     * period, as described by {@code attInput}:
+     * START - starting after the period's start date,
+     * END - starting before the period's end date,
+     * BOTH - starting between the period's start and end dates,
+     * OVERLAP - running at any time between the period's start and end dates.
+     */
+    public Set<Long> getTaskIdsInPeriod(Deadline period, AttributeInputted attInput) {
+        requireAllNonNull(period, attInput);
+        DeadlineIndex deadlineIndex = tasks.getDeadlineIndex();
+        long start = period.getStartTime();
+        long end = period.getEndTime();
+        switch (attInput) {
+        case START:
+            return deadlineIndex.startingAfter(start);
+        case END:
+            return deadlineIndex.startingBefore(end);
+        case BOTH:
+            return deadlineIndex.startingBetween(start, end);
+        case OVERLAP:
+            return deadlineIndex.overlapping(start, end);
+        default:
+            return new HashSet<>();
+        }
+    }
+
+    /**
+     * Returns the index from each tag to the tasks that carry it.
+     */
+    public TagIndex getTagIndex() {
+        return tasks.getTagIndex();
+    }
+
+    /**
+     * Returns the full-text index over the names, descriptions and tags of the tasks.
+     */
+    public TextIndex getTextIndex() {
+        return tasks.getTextIndex();
+    }
+
+    /**
+     * Returns a number that changes whenever the result of
+     * {@link #getTaskIdsInPeriod(Deadline, AttributeInputted)} may have changed.
+     */
+    public int getDeadlineIndexVersion() {
+        return tasks.getDeadlineIndex().getVersion();
+    }
+
     //// tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
@@ -193,6 +311,13 @@ public class TaskList implements ReadOnlyTaskList {
         return tasks.asObservableList().size() + " tasks, " + tags.asObservableList().size() + " tags";
     }
 
+    /**
+     * Returns the tasks and tags as they are now, unaffected by later changes. Takes O(1).
+     */
+    public TaskListSnapshot snapshot() {
+        return new TaskListSnapshot(tasks.snapshot(), tags.snapshot());
+    }
+
     @Override
     public ObservableList<ReadOnlyTask> getTaskList() {
         return new UnmodifiableObservableList<>(tasks.asObservableList());
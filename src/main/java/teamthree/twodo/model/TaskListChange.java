@@ -0,0 +1,103 @@
+package teamthree.twodo.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import teamthree.twodo.model.task.ReadOnlyTask;
+
+/**
+ * One change to the task list in the model, numbered with the version of the
+ * task list it produced. The tasks it holds are not changed afterwards, so it
+ * can be read on any thread.
+ */
+public class TaskListChange {
+
+    /**
+     * The kinds of changes made to the task list.
+     */
+    public enum Kind {
+        // A task was added; only the task after the change is known
+        ADDED,
+        // A task was removed; only the task before the change is known
+        REMOVED,
+        // A task was replaced by an edited one
+        UPDATED,
+        // A task was replaced by one differing only in its tags
+        TAGS_CHANGED,
+        // A task was marked or unmarked in place; only the task after the change is known
+        COMPLETION_TOGGLED,
+        // The whole task list was replaced; no task is known
+        RESET
+    }
+
+    private final Kind kind;
+    private final long version;
+    private final ReadOnlyTask before;
+    private final ReadOnlyTask after;
+
+    private TaskListChange(Kind kind, long version, ReadOnlyTask before, ReadOnlyTask after) {
+        this.kind = kind;
+        this.version = version;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static TaskListChange added(long version, ReadOnlyTask task) {
+        requireNonNull(task);
+        return new TaskListChange(Kind.ADDED, version, null, task);
+    }
+
+    public static TaskListChange removed(long version, ReadOnlyTask task) {
+        requireNonNull(task);
+        return new TaskListChange(Kind.REMOVED, version, task, null);
+    }
+
+    /**
+     * Returns the change replacing {@code before} with {@code after}, which is
+     * a TAGS_CHANGED change if only their tags differ.
+     */
+    public static TaskListChange updated(long version, ReadOnlyTask before, ReadOnlyTask after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        Kind kind = before.isSameStateAs(after) && !before.getTags().equals(after.getTags())
+                ? Kind.TAGS_CHANGED : Kind.UPDATED;
+        return new TaskListChange(kind, version, before, after);
+    }
+
+    public static TaskListChange completionToggled(long version, ReadOnlyTask task) {
+        requireNonNull(task);
+        return new TaskListChange(Kind.COMPLETION_TOGGLED, version, null, task);
+    }
+
+    public static TaskListChange reset(long version) {
+        return new TaskListChange(Kind.RESET, version, null, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the task as it was before the change, for REMOVED, UPDATED and TAGS_CHANGED changes.
+     */
+    public Optional<ReadOnlyTask> getBefore() {
+        return Optional.ofNullable(before);
+    }
+
+    /**
+     * Returns the task as it is after the change, for all changes but REMOVED and RESET.
+     */
+    public Optional<ReadOnlyTask> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    @Override
+    public String toString() {
+        return kind + " at version " + version;
+    }
+}
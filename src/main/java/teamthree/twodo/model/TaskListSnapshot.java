@@ -0,0 +1,69 @@
+package teamthree.twodo.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import teamthree.twodo.commons.core.PersistentList;
+import teamthree.twodo.model.tag.Tag;
+import teamthree.twodo.model.task.ReadOnlyTask;
+
+/**
+ * The tasks and tags of a task list at one point in time, which later changes
+ * to the task list do not affect. Lets the task list be written to disk or read
+ * on another thread while it keeps changing.
+ *
+ * A task list shares its unchanged tasks with its snapshots, so taking one with
+ * {@link TaskList#snapshot()} takes O(1).
+ */
+public class TaskListSnapshot implements ReadOnlyTaskList {
+
+    private final PersistentList<ReadOnlyTask> tasks;
+    private final PersistentList<Tag> tags;
+    private final ObservableList<ReadOnlyTask> taskView;
+    private final ObservableList<Tag> tagView;
+
+    public TaskListSnapshot(PersistentList<ReadOnlyTask> tasks, PersistentList<Tag> tags) {
+        this.tasks = requireNonNull(tasks);
+        this.tags = requireNonNull(tags);
+        this.taskView = FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks.asList()));
+        this.tagView = FXCollections.unmodifiableObservableList(FXCollections.observableList(tags.asList()));
+    }
+
+    /**
+     * Returns a snapshot of tasks and tags read from a file, which nothing else refers to.
+     */
+    public static TaskListSnapshot of(List<ReadOnlyTask> tasks, List<Tag> tags) {
+        return new TaskListSnapshot(PersistentList.of(tasks), PersistentList.of(tags));
+    }
+
+    @Override
+    public ObservableList<ReadOnlyTask> getTaskList() {
+        return taskView;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tagView;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskListSnapshot // instanceof handles nulls
+                        && tasks.equals(((TaskListSnapshot) other).tasks)
+                        && tags.equals(((TaskListSnapshot) other).tags));
+    }
+
+    @Override
+    public int hashCode() {
+        return tasks.hashCode() * 31 + tags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return tasks.size() + " tasks, " + tags.size() + " tags";
+    }
+}
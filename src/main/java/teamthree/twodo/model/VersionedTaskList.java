@@ -0,0 +1,34 @@
+package teamthree.twodo.model;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A snapshot of the task list together with the version it was taken at, as published by the model
+ * after each committed change.
+ */
+public class VersionedTaskList {
+
+    private final ReadOnlyTaskList taskList;
+    private final long version;
+
+    public VersionedTaskList(ReadOnlyTaskList taskList, long version) {
+        this.taskList = requireNonNull(taskList);
+        this.version = version;
+    }
+
+    /**
+     * Returns the task list as it was at {@link #getVersion()}, which later changes do not affect.
+     */
+    public ReadOnlyTaskList getTaskList() {
+        return taskList;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return taskList + " at version " + version;
+    }
+}
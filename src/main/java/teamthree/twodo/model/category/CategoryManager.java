@@ -4,26 +4,42 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import teamthree.twodo.commons.core.ComponentManager;
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.core.HandlesEventsOn;
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
 import teamthree.twodo.commons.core.index.Index;
 import teamthree.twodo.commons.events.model.TaskListChangedEvent;
 import teamthree.twodo.commons.exceptions.IllegalValueException;
 import teamthree.twodo.model.Model;
+import teamthree.twodo.model.ReadOnlyTaskList;
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.ReadOnlyTask;
 import teamthree.twodo.model.task.Task;
 import teamthree.twodo.model.task.TaskWithDeadline;
+import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
 
 //@@author A0124399W
 /**
  * Manager class for maintaining the different categories in the task manager.
+ *
+ * The number of tasks in each category is kept up to date from the changes
+ * reported by the model's task list, so a change to one task only touches the
+ * rows of the categories that task enters or leaves. The category list is
+ * shown by the UI, so it is only changed on the JavaFX application thread,
+ * whichever thread changed the task list.
  */
+@HandlesEventsOn(EventsCenter.DispatchContext.FX)
 public class CategoryManager extends ComponentManager {
     public static final Index INDEX_LAST_DEFAULT = Index.fromOneBased(5);
     private final Model model;
@@ -43,16 +59,31 @@ public class CategoryManager extends ComponentManager {
     private List<Category> defaultCategories = new ArrayList<Category>();
     private OtherCategoryManager otherCategories;
 
+    // What each counted task contributed to the categories, by task id
+    private final Map<Long, CountedTask> countedTasks = new HashMap<Long, CountedTask>();
+    private final ListChangeListener<ReadOnlyTask> taskListListener = this::handleTaskListChange;
+    private ReadOnlyTaskList trackedTaskList;
+    // Runs the updates to the counts and the category list on the thread the list is shown on
+    private final Executor fxThread;
+
     public CategoryManager(Model model) {
+        this(model, CategoryManager::runOnFxThread);
+    }
+
+    /**
+     * @param fxThread Runs updates to the category list, in the order they are given, on the thread showing it.
+     */
+    public CategoryManager(Model model, Executor fxThread) {
         this.model = model;
+        this.fxThread = fxThread;
         initDefaultCategories();
         otherCategories = new OtherCategoryManager();
         resetCategoryList();
+        trackTaskList();
     }
 
     //Initializes just the default categories
     private void initDefaultCategories() {
-        updateDefaultCategories();
         addToDefaultCategoryList(allTasks, completeTasks, incompleteTasks, floatingTasks, tasksWithDeadline);
     }
 
@@ -61,22 +92,11 @@ public class CategoryManager extends ComponentManager {
     }
 
     public synchronized Tag deleteCategory(Index targetIndex) throws IllegalValueException {
-        Tag toDel = otherCategories.deleteCategory(targetIndex);
-        resetCategoryList();
-        return toDel;
+        return otherCategories.deleteCategory(targetIndex);
     }
 
     public synchronized Tag addCategory(String newTagName, List<Task> tasks) throws IllegalValueException {
-        Tag toAdd = otherCategories.addCategory(newTagName, tasks);
-        resetCategoryList();
-        return toAdd;
-    }
-
-    //Updates all categories
-    private void refreshAllMainList() {
-        updateDefaultCategories();
-        otherCategories.syncWithMasterTagList();
-        resetCategoryList();
+        return otherCategories.addCategory(newTagName, tasks);
     }
 
     /**
@@ -88,13 +108,6 @@ public class CategoryManager extends ComponentManager {
         categoryList.addAll(otherCategories.getCategories());
     }
 
-    // Updates all the default categories
-    private void updateDefaultCategories() {
-        setAllTasks();
-        setCompleteTasks();
-        setFloatingTasks();
-    }
-
     //Adds multiple categories to the default list
     private void addToDefaultCategoryList(Category... categories) {
         for (Category category : categories) {
@@ -102,139 +115,229 @@ public class CategoryManager extends ComponentManager {
         }
     }
 
-    //Sets the number of all tasks category
-    private void setAllTasks() {
-        allTasks.setNumberOfConstituents(model.getTaskList().getTaskList().size());
+    /**
+     * Starts following the changes of the model's current task list, recounting
+     * all categories from it.
+     */
+    private synchronized void trackTaskList() {
+        if (trackedTaskList != null) {
+            trackedTaskList.getTaskList().removeListener(taskListListener);
+        }
+        trackedTaskList = model.getTaskList();
+        trackedTaskList.getTaskList().addListener(taskListListener);
+
+        List<CountedTask> tasks = new ArrayList<CountedTask>();
+        trackedTaskList.getTaskList().forEach(task -> tasks.add(new CountedTask(task)));
+        fxThread.execute(() -> recount(tasks));
+    }
+
+    private synchronized void recount(List<CountedTask> tasks) {
+        countedTasks.values().forEach(counted -> count(counted, -1));
+        countedTasks.clear();
+        tasks.forEach(this::countTask);
     }
 
-    // Sets the number of complete and incomplete tasks categories
-    private void setCompleteTasks() {
-        int numComplete = 0;
-        int numIncomplete = 0;
-        for (ReadOnlyTask t : model.getTaskList().getTaskList()) {
-            if (t.isCompleted()) {
-                numComplete++;
-            } else {
-                numIncomplete++;
+    // Updates the category counts with the tasks that were removed from and added to the task list.
+    // The tasks are read here, on the thread that changed them, and the counts updated on the FX thread.
+    private void handleTaskListChange(ListChangeListener.Change<? extends ReadOnlyTask> change) {
+        List<Runnable> updates = new ArrayList<Runnable>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
             }
+            change.getRemoved().forEach(task -> {
+                long taskId = task.getId();
+                updates.add(() -> uncountTask(taskId));
+            });
+            change.getAddedSubList().forEach(task -> {
+                CountedTask counted = new CountedTask(task);
+                updates.add(() -> countTask(counted));
+            });
         }
-        completeTasks.setNumberOfConstituents(numComplete);
-        incompleteTasks.setNumberOfConstituents(numIncomplete);
+        fxThread.execute(() -> applyUpdates(updates));
     }
 
-    /**
-     * Sets both floating and tasks with deadlines
-     */
-    private void setFloatingTasks() {
-        int numFloating = 0;
-        int numWithDeadline = 0;
-        for (ReadOnlyTask t : model.getTaskList().getTaskList()) {
-            if (!(t instanceof TaskWithDeadline)) {
-                numFloating++;
-            } else {
-                numWithDeadline++;
-            }
+    private synchronized void applyUpdates(List<Runnable> updates) {
+        updates.forEach(Runnable::run);
+    }
+
+    // Runs the update right away on the FX thread, or after the updates already waiting for it otherwise
+    private static void runOnFxThread(Runnable update) {
+        if (Platform.isFxApplicationThread()) {
+            update.run();
+        } else {
+            Platform.runLater(update);
+        }
+    }
+
+    private void countTask(CountedTask counted) {
+        CountedTask previous = countedTasks.put(counted.id, counted);
+        if (previous != null) {
+            count(previous, -1);
+        }
+        count(counted, 1);
+    }
+
+    private void uncountTask(long taskId) {
+        CountedTask counted = countedTasks.remove(taskId);
+        if (counted != null) {
+            count(counted, -1);
+        }
+    }
+
+    // Adds delta to the count of every category the task is in
+    private void count(CountedTask counted, int delta) {
+        changeCount(allTasks, delta);
+        changeCount(counted.isComplete ? completeTasks : incompleteTasks, delta);
+        changeCount(counted.hasDeadline ? tasksWithDeadline : floatingTasks, delta);
+        counted.tags.forEach(tag -> otherCategories.changeCount(tag, delta));
+    }
+
+    private void changeCount(Category defaultCategory, int delta) {
+        defaultCategory.setNumberOfConstituents(defaultCategory.getNumberOfConstituents() + delta);
+        refreshRow(defaultCategories.indexOf(defaultCategory));
+    }
+
+    // Makes the displayed list pick up the new count of the category at the given row
+    private void refreshRow(int row) {
+        if (row < categoryList.size()) {
+            categoryList.set(row, categoryList.get(row));
         }
-        floatingTasks.setNumberOfConstituents(numFloating);
-        tasksWithDeadline.setNumberOfConstituents(numWithDeadline);
     }
 
     /** ========================EVENT HANDLERS========================= */
     /**
-     * Updates the category list when there is a change in the tasklist.
+     * Follows the model's new task list if the model has swapped it out.
+     * Counts for the current task list are kept up to date as it changes.
      */
     @Subscribe
     public void handleTaskListChangedEvent(TaskListChangedEvent event) {
-        refreshAllMainList();
+        if (model.getTaskList() != trackedTaskList) {
+            trackTaskList();
+        }
     }
 
     /** =======================INNER CLASSES=========================== */
     /**
-     * Keeps track of the user-defined tags and the tasks which contain them.
+     * The categories a task was counted under.
+     */
+    private static class CountedTask {
+        private final long id;
+        private final boolean isComplete;
+        private final boolean hasDeadline;
+        private final Set<Tag> tags;
+
+        CountedTask(ReadOnlyTask task) {
+            id = task.getId();
+            isComplete = task.isCompleted();
+            hasDeadline = task.getDeadline().isPresent();
+            tags = new HashSet<Tag>(task.getTags());
+        }
+    }
+
+    /**
+     * Keeps track of the user-defined tags and the number of tasks which contain them.
      * Provides functionality to edit tags at a general level.
      */
     private class OtherCategoryManager {
-        //Main mapping between tags and tasks which contain them
-        private final HashMap<Tag, ArrayList<Task>> categoryMap = new HashMap<Tag, ArrayList<Task>>();
+        //Main mapping between tags and their categories, for tags which are on at least one task
+        private final HashMap<Tag, Category> categoryMap = new HashMap<Tag, Category>();
 
-        OtherCategoryManager() {
-            syncWithMasterTagList();
+        /**
+         * Returns a sorted list of all categories
+         */
+        private ArrayList<Category> getCategories() {
+            ArrayList<Category> otherCategoryList = new ArrayList<Category>(categoryMap.values());
+            otherCategoryList.sort((cat, next) -> cat.getName().compareTo(next.getName()));
+            return otherCategoryList;
         }
 
         /**
-         * Synchronizes inner categoryMap with the master tag list in the Model.
+         * Adds delta to the number of tasks under the category of {@code tag},
+         * adding the category to the list on its first task and removing it
+         * after its last.
          */
-        private synchronized void syncWithMasterTagList() {
-            categoryMap.clear();
-            ObservableList<Tag> masterList = model.getTaskList().getTagList();
-            masterList.forEach((tag) -> {
-                ArrayList<Task> tasksWithTag = new ArrayList<Task>();
-                model.getTaskList().getTaskList().forEach((task) -> {
-                    if (task.getTags().contains(tag)) {
-                        tasksWithTag
-                                .add(task instanceof TaskWithDeadline ? new TaskWithDeadline(task) : new Task(task));
-                    }
-                });
-                if (!tasksWithTag.isEmpty()) {
-                    categoryMap.put(tag, tasksWithTag);
-                }
-            });
+        private void changeCount(Tag tag, int delta) {
+            Category category = categoryMap.get(tag);
+            if (category == null) {
+                category = new Category(tag.tagName, delta);
+                categoryMap.put(tag, category);
+                categoryList.add(findRow(tag.tagName), category);
+                return;
+            }
+            category.setNumberOfConstituents(category.getNumberOfConstituents() + delta);
+            int row = findRow(tag.tagName);
+            if (category.getNumberOfConstituents() > 0) {
+                refreshRow(row);
+            } else {
+                categoryMap.remove(tag);
+                categoryList.remove(row);
+            }
         }
 
         /**
-         * Returns a sorted list of all categories
+         * Returns the row of the category with the given name among the sorted
+         * user-defined categories, or the row where it would be inserted.
          */
-        private ArrayList<Category> getCategories() {
-            ArrayList<Category> otherCategoryList = new ArrayList<Category>();
-            categoryMap.forEach((key, value) -> {
-                otherCategoryList.add(new Category(key.tagName, value.size()));
-            });
-            otherCategoryList.sort((cat, next) -> cat.getName().compareTo(next.getName()));
-            return otherCategoryList;
+        private int findRow(String name) {
+            int low = defaultCategories.size();
+            int high = categoryList.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (categoryList.get(mid).getName().compareTo(name) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
         }
 
         /**
          * Deletes a user-defined category. Returns the Tag that was deleted.
          *
          * @param targetIndex
-         * @throws IllegalValueException
+         * @throws IllegalValueException if a task under the category cannot be updated.
          */
         private Tag deleteCategory(Index targetIndex) throws IllegalValueException {
             //Get category to delete from last shown list
             Tag toDel = new Tag(categoryList.get(targetIndex.getZeroBased()).getName());
-            ArrayList<Task> tasksUnderCategory = categoryMap.get(toDel);
-            tasksUnderCategory.forEach((task) -> {
-                Task editedTask = task;
+            List<ReadOnlyTask> tasksUnderCategory = model.getTasksWithTag(toDel);
+            for (ReadOnlyTask task : tasksUnderCategory) {
+                Task editedTask = task instanceof TaskWithDeadline ? new TaskWithDeadline(task) : new Task(task);
                 HashSet<Tag> tags = new HashSet<Tag>(task.getTags());
                 tags.remove(toDel);
                 editedTask.setTags(tags);
-                try {
-                    model.updateTask(task, editedTask);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            });
-            syncWithMasterTagList();
+                updateTask(task, editedTask);
+            }
             return toDel;
         }
 
+        /**
+         * Adds a user-defined category to the given tasks. Returns the Tag that was added.
+         *
+         * @throws IllegalValueException if the tag name is invalid or a task cannot be updated.
+         */
         private Tag addCategory(String newTagName, List<Task> tasks) throws IllegalValueException {
             Tag toAdd = new Tag(newTagName);
             ArrayList<Task> tasksUnderCategory = new ArrayList<>();
             tasksUnderCategory.addAll(tasks);
-            tasksUnderCategory.forEach((task) -> {
+            for (Task task : tasksUnderCategory) {
                 Task editedTask = task;
                 HashSet<Tag> tags = new HashSet<Tag>(task.getTags());
                 tags.add(toAdd);
                 editedTask.setTags(tags);
-                try {
-                    model.updateTask(task, editedTask);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            });
-            syncWithMasterTagList();
+                updateTask(task, editedTask);
+            }
             return toAdd;
         }
+
+        private void updateTask(ReadOnlyTask task, ReadOnlyTask editedTask) throws IllegalValueException {
+            try {
+                model.updateTask(task.getId(), editedTask);
+            } catch (TaskNotFoundException e) {
+                throw new IllegalValueException("Task not found: " + task.getName(), e);
+            }
+        }
     }
 }
@@ -12,7 +12,9 @@ import java.util.List;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import teamthree.twodo.commons.core.PersistentList;
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
 import teamthree.twodo.commons.exceptions.DuplicateDataException;
 import teamthree.twodo.commons.exceptions.IllegalValueException;
@@ -29,6 +31,12 @@ import teamthree.twodo.commons.util.CollectionUtil;
 public class UniqueTagList implements Iterable<Tag> {
 
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    // Snapshot of internalList, dropped whenever the tags change
+    private PersistentList<Tag> snapshot;
+
+    {
+        internalList.addListener((ListChangeListener<Tag>) change -> snapshot = null);
+    }
 
     /**
      * Constructs empty TagList.
@@ -164,6 +172,17 @@ public class UniqueTagList implements Iterable<Tag> {
         return internalList.iterator();
     }
 
+    /**
+     * Returns the tags as they are now, unaffected by later changes. The snapshot is rebuilt only after the
+     * tags change.
+     */
+    public PersistentList<Tag> snapshot() {
+        if (snapshot == null) {
+            snapshot = PersistentList.of(internalList);
+        }
+        return snapshot;
+    }
+
     public UnmodifiableObservableList<Tag> asObservableList() {
         assert CollectionUtil.elementsAreUnique(internalList);
         return new UnmodifiableObservableList<>(internalList);
@@ -2,14 +2,16 @@ package teamthree.twodo.model.task;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
-
 import teamthree.twodo.commons.core.Config;
+import teamthree.twodo.commons.core.DateParser;
 import teamthree.twodo.commons.exceptions.IllegalValueException;
 //@@author A0124399W
 /**
@@ -17,6 +19,9 @@ import teamthree.twodo.commons.exceptions.IllegalValueException;
  * notification times. If task only has start time, end time will be = start
  * time. Notification time = start time + notification period (either default or
  * user provided)
+ *
+ * Times are held as milliseconds since the epoch. Two deadlines are equal when
+ * their start, end and notification times fall in the same minutes.
  */
 public class Deadline {
 
@@ -35,10 +40,16 @@ public class Deadline {
 
     private static final long DAY_TO_MILLIS = 1000 * 60 * 60 * 24;
     private static final long WEEK_TO_MILLIS = DAY_TO_MILLIS * 7;
-    // Java Date contains both time and date so don't need separate Time object.
-    private Long notificationPeriod = Config.getDefaultNotificationPeriod();
-    private Date startDate;
-    private Date endDate;
+    private static final long MINUTE_TO_MILLIS = 1000 * 60;
+    private static final Pattern DEADLINE_VALIDATION_PATTERN = Pattern.compile(DEADLINE_VALIDATION_REGEX);
+    // Shared by all deadlines for display; DateTimeFormatter is immutable and thread-safe
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
+
+    private long notificationPeriod = Config.getDefaultNotificationPeriod();
+    private long startTime;
+    private long endTime;
+    // Start time less notification period, kept up to date by the setters
+    private long notificationTime;
 
     public Deadline() {
 
@@ -48,17 +59,17 @@ public class Deadline {
         requireNonNull(startDate);
         requireNonNull(endDate);
         requireNonNull(notificationPeriod);
-        PrettyTimeParser dateParser = new PrettyTimeParser();
-        if (!isValidDeadline(startDate, endDate, dateParser)) {
+        Optional<Long> parsedStart = parse(startDate);
+        Optional<Long> parsedEnd = parse(endDate);
+        if (!isValidDeadline(startDate, endDate, parsedStart, parsedEnd)) {
             throw new IllegalValueException(MESSAGE_DEADLINE_CONSTRAINTS_STRICT);
         }
 
-        this.startDate = !startDate.equals(NULL_VALUE) ? dateParser.parseSyntax(startDate).get(0).getDates().get(0)
-                : DEFAULT_DATE;
-        this.endDate = !endDate.equals(NULL_VALUE) ? dateParser.parseSyntax(endDate).get(0).getDates().get(0)
-                : DEFAULT_DATE;
+        this.startTime = !startDate.equals(NULL_VALUE) ? parsedStart.get() : DEFAULT_DATE.getTime();
+        this.endTime = !endDate.equals(NULL_VALUE) ? parsedEnd.get() : DEFAULT_DATE.getTime();
         this.notificationPeriod = !notificationPeriod.equals(NULL_VALUE) ? parseNotificationPeriod(notificationPeriod)
                 : Config.getDefaultNotificationPeriod();
+        updateNotificationTime();
     }
 
     public Deadline(Date startDate, Date endDate, Long notificationPeriod) {
@@ -66,30 +77,38 @@ public class Deadline {
         requireNonNull(endDate.toString());
         requireNonNull(notificationPeriod.toString());
 
-        this.startDate = startDate;
-        this.endDate = endDate;
+        this.startTime = startDate.getTime();
+        this.endTime = endDate.getTime();
         this.notificationPeriod = notificationPeriod;
+        updateNotificationTime();
     }
 
     public Deadline(Deadline deadline) {
-        startDate = deadline.getStartDate();
-        endDate = deadline.getEndDate();
-        notificationPeriod = deadline.getNotificationPeriod();
+        startTime = deadline.startTime;
+        endTime = deadline.endTime;
+        notificationPeriod = deadline.notificationPeriod;
+        notificationTime = deadline.notificationTime;
     }
 
-    private boolean isValidDeadline(String startDate, String endDate, PrettyTimeParser dateParser) {
+    private boolean isValidDeadline(String startDate, String endDate, Optional<Long> parsedStart,
+            Optional<Long> parsedEnd) {
         if (!startDate.equals(NULL_VALUE) && !endDate.equals(NULL_VALUE)) {
-            return validate(startDate, dateParser) && validate(endDate, dateParser);
+            return parsedStart.isPresent() && parsedEnd.isPresent();
         } else if (!endDate.equals(NULL_VALUE)) {
-            return validate(endDate, dateParser);
+            return parsedEnd.isPresent();
         } else {
-            return validate(startDate, dateParser);
+            return parsedStart.isPresent();
         }
     }
 
-    private boolean validate(String date, PrettyTimeParser dateParser) {
-        return Pattern.compile(DEADLINE_VALIDATION_REGEX).matcher(date).find()
-                && !dateParser.parseSyntax(date).isEmpty();
+    /**
+     * Returns the time described by {@code date}, or an empty Optional if it is not a valid deadline time.
+     */
+    private Optional<Long> parse(String date) {
+        if (!DEADLINE_VALIDATION_PATTERN.matcher(date).find()) {
+            return Optional.empty();
+        }
+        return DateParser.getInstance().parse(date);
     }
 
     public Long getNotificationPeriod() {
@@ -97,27 +116,50 @@ public class Deadline {
     }
 
     public Date getStartDate() {
-        return startDate;
+        return new Date(startTime);
     }
 
     public Date getEndDate() {
-        return endDate;
+        return new Date(endTime);
     }
 
     public Date getNotificationDate() {
-        return new Date(startDate.getTime() - notificationPeriod);
+        return new Date(notificationTime);
+    }
+
+    /**
+     * Returns the start time in milliseconds since the epoch.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the end time in milliseconds since the epoch.
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Returns the notification time in milliseconds since the epoch.
+     */
+    public long getNotificationTime() {
+        return notificationTime;
     }
 
     public void setStartDate(Date startDate) {
-        this.startDate = startDate;
+        this.startTime = startDate.getTime();
+        updateNotificationTime();
     }
 
     public void setEndDate(Date endDate) {
-        this.endDate = endDate;
+        this.endTime = endDate.getTime();
     }
 
     public void setNotificationPeriod(Long notificationPeriod) {
         this.notificationPeriod = notificationPeriod;
+        updateNotificationTime();
     }
 
     // Empty command
@@ -144,27 +186,48 @@ public class Deadline {
         return Config.getDefaultNotificationPeriod();
     }
 
+    private void updateNotificationTime() {
+        notificationTime = startTime - notificationPeriod;
+    }
+
+    private static String format(long time) {
+        return DISPLAY_FORMAT.format(Instant.ofEpochMilli(time).atZone(ZoneId.systemDefault()));
+    }
+
+    // Deadlines are shown to the minute, so they are compared to the minute
+    private static long toMinutes(long time) {
+        return Math.floorDiv(time, MINUTE_TO_MILLIS);
+    }
+
     @Override
     public String toString() {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yy HH:mm");
-        if (startDate.equals(endDate)) {
-            return "Deadline: " + dateFormat.format(startDate) + "\nReminder on: "
-                    + dateFormat.format(getNotificationDate()) + "\n";
+        if (startTime == endTime) {
+            return "Deadline: " + format(startTime) + "\nReminder on: " + format(notificationTime) + "\n";
         }
-        return "Starts: " + dateFormat.format(startDate) + "\nEnds: " + dateFormat.format(endDate) + "\nReminder on: "
-                + dateFormat.format(getNotificationDate()) + "\n";
+        return "Starts: " + format(startTime) + "\nEnds: " + format(endTime) + "\nReminder on: "
+                + format(notificationTime) + "\n";
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Deadline // instanceof handles nulls
-                        && this.toString().equals(((Deadline) other).toString())); // state check
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof Deadline)) { // instanceof handles nulls
+            return false;
+        }
+        Deadline otherDeadline = (Deadline) other;
+        return toMinutes(startTime) == toMinutes(otherDeadline.startTime) // state check
+                && toMinutes(endTime) == toMinutes(otherDeadline.endTime)
+                && toMinutes(notificationTime) == toMinutes(otherDeadline.notificationTime);
     }
 
     @Override
     public int hashCode() {
-        return this.toString().hashCode();
+        long hash = toMinutes(startTime);
+        hash = 31 * hash + toMinutes(endTime);
+        hash = 31 * hash + toMinutes(notificationTime);
+        return Long.hashCode(hash);
     }
 
 }
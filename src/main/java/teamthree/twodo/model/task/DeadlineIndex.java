@@ -0,0 +1,245 @@
+package teamthree.twodo.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index over the start and end times of the tasks with deadlines in a
+ * {@link UniqueTaskList}, so that period queries only visit the tasks that
+ * fall in the period instead of every task in the list.
+ *
+ * Tasks are kept sorted by start time. Window overlap queries use a tree of
+ * the task periods in which every node also keeps the latest end in its
+ * subtree, so they skip every subtree that ends before the window. A query
+ * visits O(k log n) nodes for k overlapping tasks, however long the longest
+ * task is.
+ */
+public class DeadlineIndex {
+
+    // Start time in epoch millis -> ids of the tasks starting at that time
+    private final NavigableMap<Long, Set<Long>> idsByStart = new TreeMap<>();
+    // Id -> {start, end} of every indexed task
+    private final Map<Long, long[]> intervals = new HashMap<>();
+    // The periods of every indexed task, for overlap queries
+    private final PeriodTree periods = new PeriodTree();
+    private int version = 0;
+
+    /**
+     * Adds {@code task} to the index if it has a deadline.
+     */
+    void add(ReadOnlyTask task) {
+        requireNonNull(task);
+        if (!task.getDeadline().isPresent()) {
+            return;
+        }
+        Deadline deadline = task.getDeadline().get();
+        long start = deadline.getStartTime();
+        long end = Math.max(start, deadline.getEndTime());
+        long[] previous = intervals.put(task.getId(), new long[] {start, end});
+        if (previous != null) {
+            unlink(task.getId(), previous);
+        }
+        idsByStart.computeIfAbsent(start, key -> new HashSet<>()).add(task.getId());
+        periods.add(task.getId(), start, end);
+        version++;
+    }
+
+    /**
+     * Removes the task with the given id from the index, if it is indexed.
+     */
+    void remove(long id) {
+        long[] interval = intervals.remove(id);
+        if (interval != null) {
+            unlink(id, interval);
+            version++;
+        }
+    }
+
+    void clear() {
+        idsByStart.clear();
+        intervals.clear();
+        periods.clear();
+        version++;
+    }
+
+    /**
+     * Returns a number that changes every time the contents of the index change.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ids of tasks that start strictly after {@code time}.
+     */
+    public Set<Long> startingAfter(long time) {
+        return collect(idsByStart.tailMap(time, false).values());
+    }
+
+    /**
+     * Returns the ids of tasks that start strictly before {@code time}.
+     */
+    public Set<Long> startingBefore(long time) {
+        return collect(idsByStart.headMap(time, false).values());
+    }
+
+    /**
+     * Returns the ids of tasks that start strictly between {@code from} and {@code to}.
+     */
+    public Set<Long> startingBetween(long from, long to) {
+        if (from >= to) {
+            return new HashSet<>();
+        }
+        return collect(idsByStart.subMap(from, false, to, false).values());
+    }
+
+    /**
+     * Returns the ids of tasks whose period shares at least one instant with
+     * the window from {@code from} to {@code to}, both inclusive.
+     */
+    public Set<Long> overlapping(long from, long to) {
+        Set<Long> ids = new HashSet<>();
+        if (from <= to) {
+            periods.collectOverlapping(from, to, ids);
+        }
+        return ids;
+    }
+
+    private void unlink(long id, long[] interval) {
+        Set<Long> startingIds = idsByStart.get(interval[0]);
+        startingIds.remove(id);
+        if (startingIds.isEmpty()) {
+            idsByStart.remove(interval[0]);
+        }
+        periods.remove(id, interval[0]);
+    }
+
+    private static Set<Long> collect(Collection<Set<Long>> groups) {
+        Set<Long> ids = new HashSet<>();
+        groups.forEach(ids::addAll);
+        return ids;
+    }
+
+    /**
+     * A treap of task periods ordered by start time, then id, in which every
+     * node also keeps the latest end of the periods in its subtree.
+     */
+    private static class PeriodTree {
+        private final Random priorities = new Random();
+        private Node root;
+
+        void add(long id, long start, long end) {
+            Node[] split = split(root, start, id);
+            root = merge(merge(split[0], new Node(id, start, end, priorities.nextInt())), split[1]);
+        }
+
+        /**
+         * Removes the period of the task with the given id, which must be in the tree.
+         */
+        void remove(long id, long start) {
+            Node[] split = split(root, start, id);
+            root = merge(split[0], removeFirst(split[1]));
+        }
+
+        void clear() {
+            root = null;
+        }
+
+        void collectOverlapping(long from, long to, Set<Long> ids) {
+            collectOverlapping(root, from, to, ids);
+        }
+
+        private static void collectOverlapping(Node node, long from, long to, Set<Long> ids) {
+            if (node == null || node.maxEnd < from) {
+                return;
+            }
+            collectOverlapping(node.left, from, to, ids);
+            if (node.start > to) {
+                // Everything to the right starts after the window as well
+                return;
+            }
+            if (node.end >= from) {
+                ids.add(node.id);
+            }
+            collectOverlapping(node.right, from, to, ids);
+        }
+
+        // Splits the tree into the nodes ordered before (start, id) and the rest
+        private static Node[] split(Node node, long start, long id) {
+            if (node == null) {
+                return new Node[2];
+            }
+            if (node.start < start || (node.start == start && node.id < id)) {
+                Node[] split = split(node.right, start, id);
+                node.right = split[0];
+                split[0] = node.update();
+                return split;
+            }
+            Node[] split = split(node.left, start, id);
+            node.left = split[1];
+            split[1] = node.update();
+            return split;
+        }
+
+        // Joins two trees, every node of the first ordered before every node of the second
+        private static Node merge(Node first, Node second) {
+            if (first == null) {
+                return second;
+            }
+            if (second == null) {
+                return first;
+            }
+            if (first.priority > second.priority) {
+                first.right = merge(first.right, second);
+                return first.update();
+            }
+            second.left = merge(first, second.left);
+            return second.update();
+        }
+
+        private static Node removeFirst(Node node) {
+            if (node.left == null) {
+                return node.right;
+            }
+            node.left = removeFirst(node.left);
+            return node.update();
+        }
+
+        private static class Node {
+            private final long id;
+            private final long start;
+            private final long end;
+            private final int priority;
+            private long maxEnd;
+            private Node left;
+            private Node right;
+
+            Node(long id, long start, long end, int priority) {
+                this.id = id;
+                this.start = start;
+                this.end = end;
+                this.priority = priority;
+                this.maxEnd = end;
+            }
+
+            Node update() {
+                maxEnd = end;
+                if (left != null) {
+                    maxEnd = Math.max(maxEnd, left.maxEnd);
+                }
+                if (right != null) {
+                    maxEnd = Math.max(maxEnd, right.maxEnd);
+                }
+                return this;
+            }
+        }
+    }
+}
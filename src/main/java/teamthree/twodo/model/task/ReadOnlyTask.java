@@ -11,6 +11,11 @@ import teamthree.twodo.model.tag.Tag;
  */
 public interface ReadOnlyTask {
 
+    /**
+     * Returns the id of this task. The id stays the same when the task is edited, marked or copied,
+     * and is not part of the task's state.
+     */
+    long getId();
     Name getName();
     Description getDescription();
     Set<Tag> getTags();
@@ -0,0 +1,121 @@
+package teamthree.twodo.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import teamthree.twodo.model.tag.Tag;
+
+/**
+ * Index from each tag to the tasks in a {@link UniqueTaskList} that carry it.
+ *
+ * Every indexed task is given a small integer slot, and each tag keeps a
+ * {@link BitSet} with the slots of its tasks. Tag filters become unions of
+ * bitmaps, and the tasks under a tag are read off its bitmap. Slots of
+ * removed tasks are reused by later additions.
+ */
+public class TagIndex {
+
+    private final Map<Tag, BitSet> slotsByTag = new HashMap<>();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Map<Integer, Long> idsBySlot = new HashMap<>();
+    // Tags each indexed task had when it was indexed, so that it can be unindexed later
+    private final Map<Long, Set<Tag>> tagsById = new HashMap<>();
+    private final BitSet usedSlots = new BitSet();
+    private int version = 0;
+
+    /**
+     * Indexes the tags of {@code task}, replacing any tags indexed earlier for the same id.
+     */
+    void add(ReadOnlyTask task) {
+        requireNonNull(task);
+        remove(task.getId());
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        slotsById.put(task.getId(), slot);
+        idsBySlot.put(slot, task.getId());
+        Set<Tag> tags = new HashSet<>(task.getTags());
+        tagsById.put(task.getId(), tags);
+        tags.forEach(tag -> slotsByTag.computeIfAbsent(tag, key -> new BitSet()).set(slot));
+        version++;
+    }
+
+    /**
+     * Removes the task with the given id from the index, if it is indexed.
+     */
+    void remove(long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        idsBySlot.remove(slot);
+        usedSlots.clear(slot);
+        for (Tag tag : tagsById.remove(id)) {
+            BitSet slots = slotsByTag.get(tag);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                slotsByTag.remove(tag);
+            }
+        }
+        version++;
+    }
+
+    void clear() {
+        slotsByTag.clear();
+        slotsById.clear();
+        idsBySlot.clear();
+        tagsById.clear();
+        usedSlots.clear();
+        version++;
+    }
+
+    /**
+     * Returns a number that changes every time the contents of the index change.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ids of the indexed tasks that carry {@code tag}.
+     */
+    public Set<Long> getTaskIdsWith(Tag tag) {
+        Set<Long> ids = new HashSet<>();
+        BitSet slots = slotsByTag.get(tag);
+        if (slots != null) {
+            slots.stream().forEach(slot -> ids.add(idsBySlot.get(slot)));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the slots of the tasks with a tag whose name contains, ignoring
+     * case, the name of any tag in {@code filterTags}. Use
+     * {@link #isSelected(BitSet, long)} to test a task against the result.
+     */
+    public BitSet selectTasksMatchingAny(Collection<Tag> filterTags) {
+        BitSet selection = new BitSet();
+        for (Map.Entry<Tag, BitSet> entry : slotsByTag.entrySet()) {
+            String tagName = entry.getKey().tagName.toLowerCase();
+            boolean matches = filterTags.stream()
+                    .anyMatch(filterTag -> tagName.contains(filterTag.tagName.toLowerCase()));
+            if (matches) {
+                selection.or(entry.getValue());
+            }
+        }
+        return selection;
+    }
+
+    /**
+     * Returns true if the task with the given id is in {@code selection}.
+     */
+    public boolean isSelected(BitSet selection, long taskId) {
+        Integer slot = slotsById.get(taskId);
+        return slot != null && selection.get(slot);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.tag.UniqueTagList;
@@ -17,6 +18,10 @@ import teamthree.twodo.model.tag.UniqueTagList;
  */
 public class Task implements ReadOnlyTask {
 
+    // Source of ids for new tasks. Always ahead of every id handed out or restored so far.
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+
+    protected long id;
     protected Name name;
     protected Description description;
     protected UniqueTagList tags;
@@ -27,7 +32,15 @@ public class Task implements ReadOnlyTask {
      * Incomplete when it is created.
      */
     public Task(Name name, Description description, Set<Tag> tags, boolean isComplete) {
+        this(name, description, tags, isComplete, generateId());
+    }
+
+    /**
+     * Creates a task that keeps an id assigned earlier, e.g. one read from storage.
+     */
+    public Task(Name name, Description description, Set<Tag> tags, boolean isComplete, long id) {
         requireAllNonNull(name, description, tags, isComplete);
+        this.id = reserveId(id);
         this.name = name;
         this.description = description;
         this.tags = new UniqueTagList(tags); // protect internal tags from changes in the arg list
@@ -38,7 +51,34 @@ public class Task implements ReadOnlyTask {
      * Creates a copy of the given ReadOnlyTask.
      */
     public Task(ReadOnlyTask source) {
-        this(source.getName(), source.getDescription(), source.getTags(), source.getCompleted());
+        this(source.getName(), source.getDescription(), source.getTags(), source.getCompleted(), source.getId());
+    }
+
+    /**
+     * Returns a new id that has not been given to any task yet.
+     */
+    static long generateId() {
+        return NEXT_ID.getAndIncrement();
+    }
+
+    /**
+     * Ensures that {@code id} will never be handed out by {@link #generateId()}.
+     */
+    private static long reserveId(long id) {
+        NEXT_ID.accumulateAndGet(id + 1, Math::max);
+        return id;
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gives this task another identity. Only used by the list holding the task, to keep ids unique within it.
+     */
+    void setId(long id) {
+        this.id = reserveId(id);
     }
 
     public void setName(Name name) {
@@ -16,9 +16,15 @@ public class TaskWithDeadline extends Task implements ReadOnlyTask {
         this.deadline = deadline;
     }
 
+    public TaskWithDeadline(Name name, Deadline deadline, Description description, Set<Tag> tags, boolean isComplete,
+            long id) {
+        super(name, description, tags, isComplete, id);
+        this.deadline = deadline;
+    }
+
     public TaskWithDeadline(ReadOnlyTask source) {
         this(source.getName(), source.getDeadline().get(), source.getDescription(), source.getTags(),
-                source.isCompleted());
+                source.isCompleted(), source.getId());
     }
 
     public void setDeadline(Deadline deadline) {
@@ -0,0 +1,139 @@
+package teamthree.twodo.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teamthree.twodo.model.tag.Tag;
+
+/**
+ * Inverted index over the searchable text of the tasks in a
+ * {@link UniqueTaskList}: the name, the tags and, for tasks with deadlines,
+ * the description.
+ *
+ * Every word of that text is broken into all of its 1, 2 and 3 character
+ * grams, and each gram maps to the ids of the tasks containing it. A keyword
+ * of up to 3 characters is looked up directly. A longer keyword is looked up
+ * by intersecting the tasks of all its 3 character grams, and only these
+ * candidates are checked against their text. A task thus matches a keyword
+ * exactly when the keyword appears, ignoring case, inside one of its words.
+ */
+public class TextIndex {
+
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Long>> idsByGram = new HashMap<>();
+    // Lower case searchable text of every indexed task, with fields separated by whitespace
+    private final Map<Long, String> textById = new HashMap<>();
+    private int version = 0;
+
+    /**
+     * Indexes the searchable text of {@code task}, replacing any text indexed earlier for the same id.
+     */
+    void add(ReadOnlyTask task) {
+        requireNonNull(task);
+        remove(task.getId());
+        String text = getSearchableText(task);
+        textById.put(task.getId(), text);
+        getGrams(text).forEach(gram -> idsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(task.getId()));
+        version++;
+    }
+
+    /**
+     * Removes the task with the given id from the index, if it is indexed.
+     */
+    void remove(long id) {
+        String text = textById.remove(id);
+        if (text == null) {
+            return;
+        }
+        for (String gram : getGrams(text)) {
+            Set<Long> ids = idsByGram.get(gram);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByGram.remove(gram);
+            }
+        }
+        version++;
+    }
+
+    void clear() {
+        idsByGram.clear();
+        textById.clear();
+        version++;
+    }
+
+    /**
+     * Returns a number that changes every time the contents of the index change.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ids of the tasks whose searchable text contains, ignoring
+     * case, any of the given single word {@code keywords}.
+     */
+    public Set<Long> findTaskIdsContainingAny(Collection<String> keywords) {
+        Set<Long> ids = new HashSet<>();
+        for (String keyword : keywords) {
+            ids.addAll(findTaskIdsContaining(keyword.trim().toLowerCase()));
+        }
+        return ids;
+    }
+
+    private Set<Long> findTaskIdsContaining(String keyword) {
+        if (keyword.isEmpty()) {
+            return new HashSet<>();
+        }
+        if (keyword.length() <= MAX_GRAM_LENGTH) {
+            return idsByGram.getOrDefault(keyword, new HashSet<>());
+        }
+        List<Set<Long>> postings = new ArrayList<>();
+        for (int i = 0; i + MAX_GRAM_LENGTH <= keyword.length(); i++) {
+            Set<Long> ids = idsByGram.get(keyword.substring(i, i + MAX_GRAM_LENGTH));
+            if (ids == null) {
+                return new HashSet<>();
+            }
+            postings.add(ids);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> matches = new HashSet<>();
+        for (Long id : postings.get(0)) {
+            if (postings.stream().allMatch(ids -> ids.contains(id)) && textById.get(id).contains(keyword)) {
+                matches.add(id);
+            }
+        }
+        return matches;
+    }
+
+    private static String getSearchableText(ReadOnlyTask task) {
+        StringBuilder text = new StringBuilder(task.getName().fullName);
+        if (task.getDeadline().isPresent()) {
+            text.append('\n').append(task.getDescription().value);
+        }
+        for (Tag tag : task.getTags()) {
+            text.append('\n').append(tag.tagName);
+        }
+        return text.toString().toLowerCase();
+    }
+
+    private static Set<String> getGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (String word : text.split("\\s+")) {
+            for (int start = 0; start < word.length(); start++) {
+                for (int end = start + 1; end <= Math.min(word.length(), start + MAX_GRAM_LENGTH); end++) {
+                    grams.add(word.substring(start, end));
+                }
+            }
+        }
+        return grams;
+    }
+}
@@ -2,11 +2,18 @@ package teamthree.twodo.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import teamthree.twodo.commons.core.PersistentList;
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
 import teamthree.twodo.commons.util.CollectionUtil;
 import teamthree.twodo.model.task.exceptions.DuplicateTaskException;
@@ -16,7 +23,15 @@ import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
  * A list of tasks that enforces uniqueness between its elements and does not
  * allow nulls.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Lookups go through a hash index
+ * over each task's {@link TaskKey} or over its id instead of scanning the list,
+ * so duplicate detection and target lookup do not depend on the size of the
+ * list. Ids are kept unique within the list.
+ *
+ * Alongside the tasks, which are edited in place, the list keeps a copy of
+ * each task in a {@link PersistentList}. A change replaces only the copy of the
+ * task it changed, so a snapshot of the whole list takes O(1) and shares the
+ * copies of all other tasks with the list.
  *
  * @see Task#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -24,6 +39,18 @@ import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
 public class UniqueTaskList implements Iterable<Task> {
 
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    // Maps the structural key of every task in internalList to the stored task
+    private final Map<TaskKey, Task> index = new HashMap<>();
+    // Maps the id of every task in internalList to the stored task
+    private final Map<Long, Task> tasksById = new HashMap<>();
+    // Position of every stored task in internalList. Rebuilt lazily after a removal shifts the list.
+    private final Map<Task, Integer> positions = new IdentityHashMap<>();
+    private boolean arePositionsStale = false;
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final TextIndex textIndex = new TextIndex();
+    // Copies of the tasks in internalList, in the same order, which are never edited
+    private PersistentList<ReadOnlyTask> frozenTasks = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given
@@ -31,7 +58,7 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(ReadOnlyTask toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return index.containsKey(new TaskKey(toCheck));
     }
 
     /**
@@ -46,11 +73,23 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
+        Task newTask;
         if (toAdd instanceof TaskWithDeadline) {
-            internalList.add(new TaskWithDeadline(toAdd));
+            newTask = new TaskWithDeadline(toAdd);
         } else {
-            internalList.add(new Task(toAdd));
+            newTask = new Task(toAdd);
+        }
+        if (tasksById.containsKey(newTask.getId())) {
+            newTask.setId(Task.generateId());
         }
+        index.put(new TaskKey(newTask), newTask);
+        tasksById.put(newTask.getId(), newTask);
+        deadlineIndex.add(newTask);
+        tagIndex.add(newTask);
+        textIndex.add(newTask);
+        positions.put(newTask, internalList.size());
+        internalList.add(newTask);
+        frozenTasks = frozenTasks.add(freeze(newTask));
     }
 
     /**
@@ -65,23 +104,51 @@ public class UniqueTaskList implements Iterable<Task> {
     public void updateTask(ReadOnlyTask target, ReadOnlyTask editedTask)
             throws DuplicateTaskException, TaskNotFoundException {
         requireNonNull(editedTask);
+        updateTask(getStoredTask(target), editedTask);
+    }
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new TaskNotFoundException();
-        }
+    /**
+     * Replaces the task with id {@code targetId} in the list with {@code editedTask}.
+     * The task keeps its id.
+     *
+     * @throws DuplicateTaskException
+     *             if updating the task's details causes the task to be
+     *             equivalent to another existing task in the list.
+     * @throws TaskNotFoundException
+     *             if no task in the list has the given id.
+     */
+    public void updateTask(long targetId, ReadOnlyTask editedTask)
+            throws DuplicateTaskException, TaskNotFoundException {
+        requireNonNull(editedTask);
+        updateTask(getStoredTask(targetId), editedTask);
+    }
 
-        Task taskToUpdate = internalList.get(index);
-        if (!taskToUpdate.equals(editedTask) && internalList.contains(editedTask)) {
+    private void updateTask(Task taskToUpdate, ReadOnlyTask editedTask) throws DuplicateTaskException {
+        TaskKey targetKey = new TaskKey(taskToUpdate);
+        TaskKey editedKey = new TaskKey(editedTask);
+        if (!targetKey.equals(editedKey) && index.containsKey(editedKey)) {
             throw new DuplicateTaskException();
         }
+        int position = positionOf(taskToUpdate);
+        index.remove(targetKey);
         //For the scenario where user wants to update floating task to a task with deadline
         if (!(taskToUpdate instanceof TaskWithDeadline) && editedTask instanceof TaskWithDeadline) {
+            long id = taskToUpdate.getId();
+            positions.remove(taskToUpdate);
             taskToUpdate = new TaskWithDeadline(editedTask);
+            taskToUpdate.setId(id);
+            positions.put(taskToUpdate, position);
+            tasksById.put(id, taskToUpdate);
         } else {
             taskToUpdate.resetData(editedTask);
         }
-        internalList.set(index, taskToUpdate);
+        index.put(new TaskKey(taskToUpdate), taskToUpdate);
+        deadlineIndex.remove(taskToUpdate.getId());
+        deadlineIndex.add(taskToUpdate);
+        tagIndex.add(taskToUpdate);
+        textIndex.add(taskToUpdate);
+        internalList.set(position, taskToUpdate);
+        frozenTasks = frozenTasks.set(position, freeze(taskToUpdate));
     }
 
     /**
@@ -92,11 +159,31 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean remove(ReadOnlyTask toRemove) throws TaskNotFoundException {
         requireNonNull(toRemove);
-        final boolean taskFoundAndDeleted = internalList.remove(toRemove);
-        if (!taskFoundAndDeleted) {
-            throw new TaskNotFoundException();
-        }
-        return taskFoundAndDeleted;
+        return remove(getStoredTask(toRemove));
+    }
+
+    /**
+     * Removes the task with the given id from the list.
+     *
+     * @throws TaskNotFoundException
+     *             if no task in the list has the given id.
+     */
+    public boolean remove(long targetId) throws TaskNotFoundException {
+        return remove(getStoredTask(targetId));
+    }
+
+    private boolean remove(Task taskToRemove) {
+        index.remove(new TaskKey(taskToRemove));
+        tasksById.remove(taskToRemove.getId());
+        deadlineIndex.remove(taskToRemove.getId());
+        tagIndex.remove(taskToRemove.getId());
+        textIndex.remove(taskToRemove.getId());
+        int position = positionOf(taskToRemove);
+        internalList.remove(position);
+        frozenTasks = frozenTasks.remove(position);
+        positions.remove(taskToRemove);
+        arePositionsStale = true;
+        return true;
     }
 
     /**
@@ -108,17 +195,17 @@ public class UniqueTaskList implements Iterable<Task> {
 
     public boolean mark(ReadOnlyTask toMark) throws TaskNotFoundException {
         requireNonNull(toMark);
-        boolean taskFoundAndMarked = false;
-        int index = internalList.indexOf(toMark);
-        if (index == -1) {
-            throw new TaskNotFoundException();
-        } else {
-            Task taskToUpdate = internalList.get(index);
-            taskToUpdate.markCompleted();
-            internalList.set(index, taskToUpdate);
-            taskFoundAndMarked = true;
-        }
-        return taskFoundAndMarked;
+        return setCompletion(getStoredTask(toMark), true);
+    }
+
+    /**
+     * Marks the task with the given id as complete.
+     *
+     * @throws TaskNotFoundException
+     *             if no task in the list has the given id.
+     */
+    public boolean mark(long targetId) throws TaskNotFoundException {
+        return setCompletion(getStoredTask(targetId), true);
     }
 
     /**
@@ -130,42 +217,152 @@ public class UniqueTaskList implements Iterable<Task> {
 
     public boolean unmark(ReadOnlyTask toUnmark) throws TaskNotFoundException {
         requireNonNull(toUnmark);
-        boolean taskFoundAndUnmarked = false;
-        int index = internalList.indexOf(toUnmark);
-        if (index == -1) {
-            throw new TaskNotFoundException();
+        return setCompletion(getStoredTask(toUnmark), false);
+    }
+
+    /**
+     * Marks the task with the given id as incomplete.
+     *
+     * @throws TaskNotFoundException
+     *             if no task in the list has the given id.
+     */
+    public boolean unmark(long targetId) throws TaskNotFoundException {
+        return setCompletion(getStoredTask(targetId), false);
+    }
+
+    /**
+     * Sets the completion status of the equivalent task in the list, keeping
+     * the index in sync with the task's new state.
+     */
+    private boolean setCompletion(Task taskToUpdate, boolean isComplete) {
+        index.remove(new TaskKey(taskToUpdate));
+        if (isComplete) {
+            taskToUpdate.markCompleted();
         } else {
-            Task taskToUpdate = internalList.get(index);
             taskToUpdate.markIncompleted();
-            internalList.set(index, taskToUpdate);
-            taskFoundAndUnmarked = true;
         }
-        return taskFoundAndUnmarked;
+        index.put(new TaskKey(taskToUpdate), taskToUpdate);
+        int position = positionOf(taskToUpdate);
+        internalList.set(position, taskToUpdate);
+        frozenTasks = frozenTasks.set(position, freeze(taskToUpdate));
+        return true;
+    }
+
+    /**
+     * Returns the task stored in this list that is equivalent to {@code toFind}.
+     */
+    public Optional<Task> find(ReadOnlyTask toFind) {
+        requireNonNull(toFind);
+        return Optional.ofNullable(index.get(new TaskKey(toFind)));
+    }
+
+    /**
+     * Returns the task stored in this list with the given id.
+     */
+    public Optional<Task> find(long id) {
+        return Optional.ofNullable(tasksById.get(id));
+    }
+
+    private Task getStoredTask(ReadOnlyTask target) throws TaskNotFoundException {
+        return find(target).orElseThrow(TaskNotFoundException::new);
+    }
+
+    private Task getStoredTask(long targetId) throws TaskNotFoundException {
+        return find(targetId).orElseThrow(TaskNotFoundException::new);
     }
 
     public void setTasks(UniqueTaskList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.frozenTasks = replacement.frozenTasks;
+        rebuildIndex();
     }
 
     public void setTasks(List<? extends ReadOnlyTask> tasks) throws DuplicateTaskException {
         final UniqueTaskList replacement = new UniqueTaskList();
         for (final ReadOnlyTask task : tasks) {
-            if (task instanceof TaskWithDeadline) {
-                replacement.add(new TaskWithDeadline(task));
-            } else {
-                replacement.add(new Task(task));
-            }
+            replacement.add(task);
         }
         setTasks(replacement);
     }
 
+    /**
+     * Returns the index over the deadlines of the tasks in this list. It is kept up to date as the list changes.
+     */
+    public DeadlineIndex getDeadlineIndex() {
+        return deadlineIndex;
+    }
+
+    /**
+     * Returns the index over the tags of the tasks in this list. It is kept up to date as the list changes.
+     */
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns the full-text index over the tasks in this list. It is kept up to date as the list changes.
+     */
+    public TextIndex getTextIndex() {
+        return textIndex;
+    }
+
+    /**
+     * Returns the tasks as they are now, unaffected by later changes. Takes O(1).
+     */
+    public PersistentList<ReadOnlyTask> snapshot() {
+        return frozenTasks;
+    }
+
     public UnmodifiableObservableList<Task> asObservableList() {
         return new UnmodifiableObservableList<>(internalList);
     }
 
+    public int size() {
+        return internalList.size();
+    }
+
     @Override
     public Iterator<Task> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(internalList).iterator();
+    }
+
+    private static ReadOnlyTask freeze(Task task) {
+        return task instanceof TaskWithDeadline ? new TaskWithDeadline(task) : new Task(task);
+    }
+
+    /**
+     * Returns the position of a task stored in this list, refreshing the
+     * position map first if an earlier removal has shifted the list.
+     */
+    private int positionOf(Task storedTask) {
+        if (arePositionsStale) {
+            rebuildPositions();
+        }
+        return positions.get(storedTask);
+    }
+
+    private void rebuildIndex() {
+        index.clear();
+        tasksById.clear();
+        deadlineIndex.clear();
+        tagIndex.clear();
+        textIndex.clear();
+        internalList.forEach(task -> {
+            index.put(new TaskKey(task), task);
+            tasksById.put(task.getId(), task);
+            deadlineIndex.add(task);
+            tagIndex.add(task);
+            textIndex.add(task);
+        });
+        rebuildPositions();
+    }
+
+    private void rebuildPositions() {
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        arePositionsStale = false;
     }
 
     @Override
@@ -179,4 +376,44 @@ public class UniqueTaskList implements Iterable<Task> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    /**
+     * Hash key that captures exactly the state compared by
+     * {@link ReadOnlyTask#isSameStateAs(ReadOnlyTask)}. The hash is computed
+     * once when the key is built, as the deadline part of it is expensive.
+     */
+    private static final class TaskKey {
+        private final String name;
+        private final String description;
+        private final Deadline deadline;
+        private final boolean isComplete;
+        private final int hash;
+
+        TaskKey(ReadOnlyTask task) {
+            requireNonNull(task);
+            this.name = task.getName().fullName;
+            this.description = task.getDescription().value;
+            this.deadline = task.getDeadline().orElse(null);
+            this.isComplete = task.isCompleted();
+            this.hash = Objects.hash(name, description, deadline, isComplete);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof TaskKey)) {
+                return false;
+            }
+            TaskKey o = (TaskKey) other;
+            return hash == o.hash && isComplete == o.isComplete && name.equals(o.name)
+                    && description.equals(o.description) && Objects.equals(deadline, o.deadline);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -0,0 +1,322 @@
+package teamthree.twodo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import teamthree.twodo.commons.core.LogsCenter;
+import teamthree.twodo.commons.exceptions.DataConversionException;
+import teamthree.twodo.commons.exceptions.IllegalValueException;
+import teamthree.twodo.commons.util.FileUtil;
+import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskListSnapshot;
+import teamthree.twodo.model.tag.Tag;
+import teamthree.twodo.model.task.Deadline;
+import teamthree.twodo.model.task.Description;
+import teamthree.twodo.model.task.Name;
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.model.task.Task;
+import teamthree.twodo.model.task.TaskWithDeadline;
+
+/**
+ * A class to access TaskList data stored in a compact binary file on the hard disk.
+ *
+ * The file holds, in order:
+ * <ul>
+ * <li>the magic number {@code 2DOB} and the format version,</li>
+ * <li>a string table with every distinct name, description and tag name,</li>
+ * <li>the number of tasks and their completion flags, one bit per task,</li>
+ * <li>each task as its id, the string table indices of its name and description,
+ * its deadline as epoch milliseconds and the string table indices of its tags,</li>
+ * <li>the string table indices of the tags of the task list.</li>
+ * </ul>
+ * All numbers are big-endian. Files are read whole into a heap buffer rather than
+ * mapped, as a mapped file cannot be truncated on some platforms until the mapping
+ * is garbage collected.
+ */
+public class BinaryTaskListStorage implements TaskListStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int MAGIC = 0x32444F42;
+    public static final short VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskListStorage.class);
+
+    private static final byte NO_DEADLINE = 0;
+    private static final byte HAS_DEADLINE = 1;
+
+    private String filePath;
+
+    public BinaryTaskListStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String getTaskListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void setTaskListFilePath(String filePath) throws IOException {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException {
+        return readTaskList(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList(String filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        File taskListFile = new File(filePath);
+        if (!taskListFile.exists()) {
+            logger.info("TaskList file " + taskListFile + " not found");
+            return Optional.empty();
+        }
+        return Optional.of(read(taskListFile));
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList, String filePath) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        File file = new File(filePath);
+        FileUtil.createIfMissing(file);
+        write(taskList, file);
+    }
+
+    // ================ Reading ==============================
+
+    /**
+     * Returns the task list in {@code file}.
+     *
+     * @throws DataConversionException if the file is not a task list file of a supported version.
+     */
+    public static ReadOnlyTaskList read(File file) throws DataConversionException, IOException {
+        requireNonNull(file);
+        return read(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+    }
+
+    /**
+     * Returns the task list in {@code buffer}, from its position onwards.
+     *
+     * @throws DataConversionException if the data is not a task list of a supported version.
+     */
+    public static ReadOnlyTaskList read(ByteBuffer buffer) throws DataConversionException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalValueException("Not a binary task list file");
+            }
+            short version = buffer.getShort();
+            if (version < 1 || version > VERSION) {
+                throw new IllegalValueException("Unsupported binary task list version " + version);
+            }
+
+            String[] strings = new String[checkedCount(buffer)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[checkedCount(buffer)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int taskCount = checkedCount(buffer);
+            long[] completionWords = new long[(taskCount + Long.SIZE - 1) / Long.SIZE];
+            for (int i = 0; i < completionWords.length; i++) {
+                completionWords[i] = buffer.getLong();
+            }
+            BitSet completed = BitSet.valueOf(completionWords);
+
+            Map<String, Tag> tagsByName = new HashMap<>();
+            List<ReadOnlyTask> tasks = new ArrayList<>(taskCount);
+            for (int i = 0; i < taskCount; i++) {
+                tasks.add(readTask(buffer, strings, tagsByName, completed.get(i)));
+            }
+
+            int tagCount = checkedCount(buffer);
+            List<Tag> tags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(tagOf(strings[buffer.getInt()], tagsByName));
+            }
+            return TaskListSnapshot.of(tasks, tags);
+        } catch (IllegalValueException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static ReadOnlyTask readTask(ByteBuffer buffer, String[] strings, Map<String, Tag> tagsByName,
+            boolean isCompleted) throws IllegalValueException {
+        long id = buffer.getLong();
+        Name name = new Name(strings[buffer.getInt()]);
+        Description description = new Description(strings[buffer.getInt()]);
+        Deadline deadline = null;
+        byte deadlineFlag = buffer.get();
+        if (deadlineFlag == HAS_DEADLINE) {
+            deadline = new Deadline(new Date(buffer.getLong()), new Date(buffer.getLong()), buffer.getLong());
+        } else if (deadlineFlag != NO_DEADLINE) {
+            throw new IllegalValueException("Unknown deadline flag " + deadlineFlag);
+        }
+        int tagCount = checkedCount(buffer);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(tagOf(strings[buffer.getInt()], tagsByName));
+        }
+        if (deadline == null) {
+            return new Task(name, description, tags, isCompleted, id);
+        }
+        return new TaskWithDeadline(name, deadline, description, tags, isCompleted, id);
+    }
+
+    // Tags are validated once per distinct name rather than once per use
+    private static Tag tagOf(String tagName, Map<String, Tag> tagsByName) throws IllegalValueException {
+        Tag tag = tagsByName.get(tagName);
+        if (tag == null) {
+            tag = new Tag(tagName);
+            tagsByName.put(tagName, tag);
+        }
+        return tag;
+    }
+
+    // A count can never exceed the bytes left, which guards against allocating huge arrays for corrupt files
+    private static int checkedCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() * (long) Byte.SIZE) {
+            throw new IllegalValueException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    // ================ Writing ==============================
+
+    /**
+     * Writes {@code taskList} to {@code file}, replacing its contents.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(ReadOnlyTaskList taskList, File file) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(file);
+        ByteBuffer buffer = encode(taskList);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code taskList} in the binary format, ready to be read from.
+     */
+    public static ByteBuffer encode(ReadOnlyTaskList taskList) {
+        List<ReadOnlyTask> tasks = taskList.getTaskList();
+        StringTable strings = new StringTable();
+        BitSet completed = new BitSet(tasks.size());
+        // Header, string count, task count, tag count and completion flags
+        int size = Integer.BYTES + Short.BYTES + 3 * Integer.BYTES
+                + Long.BYTES * ((tasks.size() + Long.SIZE - 1) / Long.SIZE);
+        for (int i = 0; i < tasks.size(); i++) {
+            ReadOnlyTask task = tasks.get(i);
+            completed.set(i, task.isCompleted());
+            size += strings.add(task.getName().fullName) + strings.add(task.getDescription().value);
+            size += Long.BYTES + 2 * Integer.BYTES + 1 + Integer.BYTES;
+            if (task.getDeadline().isPresent()) {
+                size += 3 * Long.BYTES;
+            }
+            for (Tag tag : task.getTags()) {
+                size += strings.add(tag.tagName) + Integer.BYTES;
+            }
+        }
+        for (Tag tag : taskList.getTagList()) {
+            size += strings.add(tag.tagName) + Integer.BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putShort(VERSION);
+        buffer.putInt(strings.size());
+        for (byte[] bytes : strings.encoded) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+        buffer.putInt(tasks.size());
+        long[] completionWords = completed.toLongArray();
+        for (int i = 0; i < (tasks.size() + Long.SIZE - 1) / Long.SIZE; i++) {
+            buffer.putLong(i < completionWords.length ? completionWords[i] : 0);
+        }
+        for (ReadOnlyTask task : tasks) {
+            buffer.putLong(task.getId());
+            buffer.putInt(strings.indexOf(task.getName().fullName));
+            buffer.putInt(strings.indexOf(task.getDescription().value));
+            if (task.getDeadline().isPresent()) {
+                Deadline deadline = task.getDeadline().get();
+                buffer.put(HAS_DEADLINE).putLong(deadline.getStartTime()).putLong(deadline.getEndTime())
+                        .putLong(deadline.getNotificationPeriod());
+            } else {
+                buffer.put(NO_DEADLINE);
+            }
+            buffer.putInt(task.getTags().size());
+            for (Tag tag : task.getTags()) {
+                buffer.putInt(strings.indexOf(tag.tagName));
+            }
+        }
+        buffer.putInt(taskList.getTagList().size());
+        for (Tag tag : taskList.getTagList()) {
+            buffer.putInt(strings.indexOf(tag.tagName));
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * The distinct strings of a task list, in the order they are first added.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+
+        /**
+         * Adds {@code value} if it is not in the table yet, and returns the
+         * number of bytes this added to the table.
+         */
+        int add(String value) {
+            if (indices.containsKey(value)) {
+                return 0;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            indices.put(value, encoded.size());
+            encoded.add(bytes);
+            return Integer.BYTES + bytes.length;
+        }
+
+        int indexOf(String value) {
+            return indices.get(value);
+        }
+
+        int size() {
+            return encoded.size();
+        }
+    }
+}
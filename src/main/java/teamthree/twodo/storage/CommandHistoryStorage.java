@@ -0,0 +1,29 @@
+package teamthree.twodo.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Represents a storage for the commands entered, kept across sessions.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    String getCommandHistoryFilePath();
+
+    /**
+     * Returns the latest commands entered, from the earliest to the most recent.
+     *   Returns an empty list if the storage file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory() throws IOException;
+
+    /**
+     * Appends {@code userInput} to the commands entered.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandHistory(String userInput) throws IOException;
+
+}
@@ -0,0 +1,58 @@
+package teamthree.twodo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import teamthree.twodo.commons.core.LogsCenter;
+
+/**
+ * Appends the commands entered to a {@link CommandHistoryStorage} on a background thread, in the order
+ * they were entered, so that entering a command never waits for the file.
+ */
+public class CommandHistoryWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandHistoryWriter.class);
+
+    private final CommandHistoryStorage commandHistoryStorage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "CommandHistoryWriter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CommandHistoryWriter(CommandHistoryStorage commandHistoryStorage) {
+        this.commandHistoryStorage = requireNonNull(commandHistoryStorage);
+    }
+
+    /**
+     * Schedules {@code userInput} to be appended to the command history file.
+     */
+    public void append(String userInput) {
+        requireNonNull(userInput);
+        writer.execute(() -> {
+            try {
+                commandHistoryStorage.appendCommandHistory(userInput);
+            } catch (IOException e) {
+                logger.warning("Could not append to the command history file: " + e);
+            }
+        });
+    }
+
+    /**
+     * Waits until the commands scheduled so far are appended.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush command history: " + e.getCause());
+        }
+    }
+}
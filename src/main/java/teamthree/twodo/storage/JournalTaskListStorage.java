@@ -0,0 +1,424 @@
+package teamthree.twodo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import teamthree.twodo.commons.core.LogsCenter;
+import teamthree.twodo.commons.exceptions.DataConversionException;
+import teamthree.twodo.commons.exceptions.IllegalValueException;
+import teamthree.twodo.commons.util.FileUtil;
+import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskList;
+import teamthree.twodo.model.TaskListChange;
+import teamthree.twodo.model.tag.Tag;
+import teamthree.twodo.model.task.Deadline;
+import teamthree.twodo.model.task.Description;
+import teamthree.twodo.model.task.Name;
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.model.task.Task;
+import teamthree.twodo.model.task.TaskWithDeadline;
+import teamthree.twodo.model.task.exceptions.DuplicateTaskException;
+import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
+
+/**
+ * A {@link TaskListStorage} that keeps a snapshot of the task list in another
+ * storage and appends the changes made since then to a journal file next to it.
+ *
+ * Each save appends one line per change the model made since the last save,
+ * as an added, updated, deleted, marked or unmarked task, followed by a
+ * single fsync for the whole batch, so a save takes time in the number of
+ * changes rather than the number of tasks. A full snapshot is written
+ * instead, and the journal emptied, when the changes do not follow on from
+ * the last save, when the task list was replaced, when no changes are given,
+ * or once the journal grows past a size threshold. Reading replays the journal on top of the snapshot. Replaying a
+ * record is idempotent, so a journal left behind by an interrupted compaction
+ * can be replayed again safely.
+ */
+public class JournalTaskListStorage implements TaskListStorage {
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTaskListStorage.class);
+
+    private static final String RECORD_ADD = "ADD";
+    private static final String RECORD_UPDATE = "UPDATE";
+    private static final String RECORD_DELETE = "DELETE";
+    private static final String RECORD_MARK = "MARK";
+    private static final String RECORD_UNMARK = "UNMARK";
+    private static final String RECORD_TAGS = "TAGS";
+    private static final char FIELD_SEPARATOR = '\t';
+    private static final String NO_DEADLINE = "-";
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final TaskListStorage snapshotStorage;
+    private final long compactionThreshold;
+
+    // The file last saved to, the version of the task list saved there and its tags, so that only the changes
+    // made since then need to be written
+    private String trackedFilePath;
+    private long savedVersion;
+    private List<Tag> savedTags = new ArrayList<>();
+
+    public JournalTaskListStorage(TaskListStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param compactionThreshold Size in bytes past which the journal is compacted into a new snapshot.
+     */
+    public JournalTaskListStorage(TaskListStorage snapshotStorage, long compactionThreshold) {
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns a journal with the same compaction threshold as this one, keeping its snapshots in
+     * {@code snapshotStorage}.
+     */
+    public JournalTaskListStorage withSnapshotStorage(TaskListStorage snapshotStorage) {
+        return new JournalTaskListStorage(snapshotStorage, compactionThreshold);
+    }
+
+    /**
+     * Returns the journal file kept next to the snapshot file at {@code filePath}.
+     */
+    public static File getJournalFile(String filePath) {
+        return new File(filePath + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public String getTaskListFilePath() {
+        return snapshotStorage.getTaskListFilePath();
+    }
+
+    @Override
+    public void setTaskListFilePath(String filePath) throws IOException {
+        snapshotStorage.setTaskListFilePath(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException {
+        return readTaskList(getTaskListFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyTaskList> readTaskList(String filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyTaskList> snapshot = snapshotStorage.readTaskList(filePath);
+        File journalFile = getJournalFile(filePath);
+        if (!snapshot.isPresent() && !journalFile.exists()) {
+            return Optional.empty();
+        }
+
+        TaskList taskList = snapshot.isPresent() ? new TaskList(snapshot.get()) : new TaskList();
+        if (journalFile.exists()) {
+            replay(journalFile, taskList);
+        }
+        return Optional.of(taskList);
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, getTaskListFilePath());
+    }
+
+    @Override
+    public synchronized void saveTaskList(ReadOnlyTaskList taskList, String filePath) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+        // Without the changes, there is no telling what differs from the file
+        compact(taskList, filePath, UNKNOWN_VERSION);
+    }
+
+    @Override
+    public synchronized void saveTaskList(ReadOnlyTaskList taskList, List<TaskListChange> changes, String filePath)
+            throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(changes);
+        requireNonNull(filePath);
+        if (changes.isEmpty()) {
+            saveTaskList(taskList, filePath);
+            return;
+        }
+        long version = changes.get(changes.size() - 1).getVersion();
+        File journalFile = getJournalFile(filePath);
+        if (!followsSavedVersion(changes, filePath) || journalFile.length() > compactionThreshold) {
+            compact(taskList, filePath, version);
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        changes.forEach(change -> appendChangeRecord(change, records));
+        if (!savedTags.equals(taskList.getTagList())) {
+            savedTags = new ArrayList<>(taskList.getTagList());
+            appendTagsRecord(savedTags, records);
+        }
+        try {
+            append(journalFile, records.toString());
+        } catch (IOException e) {
+            // The file may hold only some of the records, so the next save writes a full snapshot
+            trackedFilePath = null;
+            throw e;
+        }
+        savedVersion = version;
+    }
+
+    @Override
+    public synchronized void markTaskListSaved(ReadOnlyTaskList taskList, String filePath, long version) {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+        savedTags = new ArrayList<>(taskList.getTagList());
+        savedVersion = version;
+        trackedFilePath = filePath;
+    }
+
+    /**
+     * Writes {@code taskList}, at {@code version}, as a new snapshot at {@code filePath} and empties its journal.
+     */
+    private void compact(ReadOnlyTaskList taskList, String filePath, long version) throws IOException {
+        logger.fine("Compacting task list journal into snapshot " + filePath);
+        trackedFilePath = null;
+        snapshotStorage.saveTaskList(taskList, filePath);
+        Files.deleteIfExists(getJournalFile(filePath).toPath());
+        savedTags = new ArrayList<>(taskList.getTagList());
+        savedVersion = version;
+        trackedFilePath = filePath;
+    }
+
+    // Returns true if the changes carry on from the version last saved to filePath, and none replaced the task list
+    private boolean followsSavedVersion(List<TaskListChange> changes, String filePath) {
+        if (!filePath.equals(trackedFilePath) || savedVersion == UNKNOWN_VERSION
+                || changes.get(0).getVersion() != savedVersion + 1) {
+            return false;
+        }
+        return changes.stream().noneMatch(change -> change.getKind() == TaskListChange.Kind.RESET);
+    }
+
+    private static void appendChangeRecord(TaskListChange change, StringBuilder records) {
+        switch (change.getKind()) {
+        case ADDED:
+            appendTaskRecord(RECORD_ADD, change.getAfter().get(), records);
+            break;
+        case UPDATED:
+        case TAGS_CHANGED:
+            appendTaskRecord(RECORD_UPDATE, change.getAfter().get(), records);
+            break;
+        case REMOVED:
+            appendRecord(records, RECORD_DELETE, Long.toString(change.getBefore().get().getId()));
+            break;
+        case COMPLETION_TOGGLED:
+            ReadOnlyTask toggled = change.getAfter().get();
+            appendRecord(records, toggled.isCompleted() ? RECORD_MARK : RECORD_UNMARK, Long.toString(toggled.getId()));
+            break;
+        default:
+            assert false : "Changes replacing the task list are saved as a snapshot";
+        }
+    }
+
+    private static void append(File journalFile, String records) throws IOException {
+        FileUtil.createIfMissing(journalFile);
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(records.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            // One fsync for the whole batch of records
+            channel.force(false);
+        }
+    }
+
+    // ================ Replaying ==============================
+
+    private static void replay(File journalFile, TaskList taskList) throws DataConversionException, IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String next = reader.readLine();
+                try {
+                    replayRecord(line, taskList);
+                } catch (IllegalValueException | IndexOutOfBoundsException | NumberFormatException e) {
+                    if (next != null) {
+                        throw new DataConversionException(e);
+                    }
+                    // Only the last record can be cut short, by a crash while it was being written
+                    logger.warning("Ignoring incomplete last record of journal " + journalFile);
+                }
+                line = next;
+            }
+        }
+    }
+
+    private static void replayRecord(String line, TaskList taskList) throws IllegalValueException {
+        List<String> fields = splitFields(line);
+        String type = fields.get(0);
+        try {
+            switch (type) {
+            case RECORD_ADD:
+            case RECORD_UPDATE:
+                ReadOnlyTask task = decodeTask(fields);
+                if (hasTask(taskList, task.getId())
+                        && taskList.getTask(task.getId()).getDeadline().isPresent() == task.getDeadline().isPresent()) {
+                    taskList.updateTask(task.getId(), task);
+                } else {
+                    if (hasTask(taskList, task.getId())) {
+                        taskList.removeTask(task.getId());
+                    }
+                    taskList.addTask(task);
+                }
+                break;
+            case RECORD_DELETE:
+                long deletedId = Long.parseLong(fields.get(1));
+                if (hasTask(taskList, deletedId)) {
+                    taskList.removeTask(deletedId);
+                }
+                break;
+            case RECORD_MARK:
+            case RECORD_UNMARK:
+                long markedId = Long.parseLong(fields.get(1));
+                if (hasTask(taskList, markedId)) {
+                    if (type.equals(RECORD_MARK)) {
+                        taskList.markTask(markedId);
+                    } else {
+                        taskList.unmarkTask(markedId);
+                    }
+                }
+                break;
+            case RECORD_TAGS:
+                List<Tag> tags = new ArrayList<>();
+                for (String tagName : fields.subList(1, fields.size())) {
+                    tags.add(new Tag(tagName));
+                }
+                taskList.setTags(tags);
+                break;
+            default:
+                throw new IllegalValueException("Unknown journal record " + type);
+            }
+        } catch (DuplicateTaskException | TaskNotFoundException e) {
+            throw new IllegalValueException("Journal record does not match the task list: " + line);
+        }
+    }
+
+    // ================ Record format ==============================
+
+    // A task record is: type, id, completed, name, description, deadline, then one field per tag
+    private static void appendTaskRecord(String type, ReadOnlyTask task, StringBuilder records) {
+        List<String> fields = new ArrayList<>();
+        fields.add(type);
+        fields.add(Long.toString(task.getId()));
+        fields.add(task.isCompleted() ? "1" : "0");
+        fields.add(task.getName().fullName);
+        fields.add(task.getDescription().value);
+        fields.add(task.getDeadline().isPresent() ? encodeDeadline(task.getDeadline().get()) : NO_DEADLINE);
+        task.getTags().forEach(tag -> fields.add(tag.tagName));
+        appendRecord(records, fields.toArray(new String[0]));
+    }
+
+    private static void appendTagsRecord(List<Tag> tags, StringBuilder records) {
+        List<String> fields = new ArrayList<>();
+        fields.add(RECORD_TAGS);
+        tags.forEach(tag -> fields.add(tag.tagName));
+        appendRecord(records, fields.toArray(new String[0]));
+    }
+
+    private static void appendRecord(StringBuilder records, String... fields) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                records.append(FIELD_SEPARATOR);
+            }
+            escape(fields[i], records);
+        }
+        records.append('\n');
+    }
+
+    private static ReadOnlyTask decodeTask(List<String> fields) throws IllegalValueException {
+        long id = Long.parseLong(fields.get(1));
+        boolean isCompleted = fields.get(2).equals("1");
+        Name name = new Name(fields.get(3));
+        Description description = new Description(fields.get(4));
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : fields.subList(6, fields.size())) {
+            tags.add(new Tag(tagName));
+        }
+        if (fields.get(5).equals(NO_DEADLINE)) {
+            return new Task(name, description, tags, isCompleted, id);
+        }
+        return new TaskWithDeadline(name, decodeDeadline(fields.get(5)), description, tags, isCompleted, id);
+    }
+
+    private static String encodeDeadline(Deadline deadline) {
+        return deadline.getStartTime() + "," + deadline.getEndTime() + "," + deadline.getNotificationPeriod();
+    }
+
+    private static Deadline decodeDeadline(String encoded) {
+        String[] times = encoded.split(",");
+        return new Deadline(new Date(Long.parseLong(times[0])), new Date(Long.parseLong(times[1])),
+                Long.parseLong(times[2]));
+    }
+
+    private static void escape(String field, StringBuilder out) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '\\') {
+                out.append("\\\\");
+            } else if (c == FIELD_SEPARATOR) {
+                out.append("\\t");
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else if (c == '\r') {
+                out.append("\\r");
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    private static List<String> splitFields(String line) throws IllegalValueException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\') {
+                if (++i == line.length()) {
+                    throw new IllegalValueException("Journal record ends in an escape: " + line);
+                }
+                char escaped = line.charAt(i);
+                field.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // ================ Helpers ==============================
+
+    private static boolean hasTask(TaskList taskList, long id) {
+        try {
+            taskList.getTask(id);
+            return true;
+        } catch (TaskNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package teamthree.twodo.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
+import teamthree.twodo.commons.events.logic.NewUserInputEvent;
 import teamthree.twodo.commons.events.model.TaskListChangedEvent;
 import teamthree.twodo.commons.events.storage.DataSavingExceptionEvent;
+import teamthree.twodo.commons.events.storage.TaskListSavedEvent;
 import teamthree.twodo.commons.exceptions.DataConversionException;
 import teamthree.twodo.model.ReadOnlyTaskList;
 import teamthree.twodo.model.UserPrefs;
@@ -30,9 +33,28 @@ public interface Storage extends TaskListStorage, UserPrefsStorage {
     void saveTaskList(ReadOnlyTaskList taskList) throws IOException;
 
     /**
-     * Saves the current version of the TaskList to the hard disk.
+     * Schedules the current version of the TaskList to be saved to the hard disk in the background.
      *   Creates the data file if it is missing.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Raises {@link TaskListSavedEvent} once it is saved,
+     *   or {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleTaskListChangedEvent(TaskListChangedEvent abce);
+
+    /**
+     * Returns the latest commands entered in earlier sessions, from the earliest to the most recent.
+     *   Returns an empty list if commands are not kept across sessions.
+     */
+    List<String> readCommandHistory() throws IOException;
+
+    /**
+     * Schedules the command entered to be appended to the command history file in the background,
+     * if commands are kept across sessions.
+     */
+    void handleNewUserInputEvent(NewUserInputEvent event);
+
+    /**
+     * Saves any scheduled version of the TaskList and any scheduled commands to the hard disk and waits until
+     * it is done.
+     */
+    void flush();
 }
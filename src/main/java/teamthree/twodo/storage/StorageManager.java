@@ -1,8 +1,11 @@
 package teamthree.twodo.storage;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,8 +16,8 @@ import teamthree.twodo.commons.core.LogsCenter;
 import teamthree.twodo.commons.core.Messages;
 import teamthree.twodo.commons.events.LoadNewModelEvent;
 import teamthree.twodo.commons.events.logic.LoadCommandExecutedEvent;
+import teamthree.twodo.commons.events.logic.NewUserInputEvent;
 import teamthree.twodo.commons.events.model.TaskListChangedEvent;
-import teamthree.twodo.commons.events.storage.DataSavingExceptionEvent;
 import teamthree.twodo.commons.events.storage.TaskListFilePathChangedEvent;
 import teamthree.twodo.commons.events.storage.TaskListStorageChangedEvent;
 import teamthree.twodo.commons.exceptions.DataConversionException;
@@ -22,6 +25,7 @@ import teamthree.twodo.commons.util.ConfigUtil;
 import teamthree.twodo.logic.commands.SaveCommand;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskListChange;
 import teamthree.twodo.model.UserPrefs;
 import teamthree.twodo.model.task.ReadOnlyTask;
 
@@ -29,15 +33,53 @@ import teamthree.twodo.model.task.ReadOnlyTask;
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private TaskListStorage taskListStorage;
+    // Replaced when the task list moves to a file in another format; read by the saver's thread too
+    private volatile TaskListStorage taskListStorage;
     private UserPrefsStorage userPrefsStorage;
+    // Absent if the commands entered are not kept across sessions
+    private final Optional<CommandHistoryStorage> commandHistoryStorage;
+    private final Optional<CommandHistoryWriter> commandHistoryWriter;
     private Config config;
+    private final TaskListSaver taskListSaver;
 
     public StorageManager(TaskListStorage taskListStorage, UserPrefsStorage userPrefsStorage) {
+        this(taskListStorage, userPrefsStorage, Config.DEFAULT_SAVE_QUIET_PERIOD);
+    }
+
+    /**
+     * @param saveQuietPeriod Time in milliseconds over which changes to the task list are collected into one save.
+     */
+    public StorageManager(TaskListStorage taskListStorage, UserPrefsStorage userPrefsStorage, long saveQuietPeriod) {
+        this(taskListStorage, userPrefsStorage, Optional.empty(), saveQuietPeriod, Runnable::run);
+    }
+
+    /**
+     * @param saveQuietPeriod Time in milliseconds over which changes to the task list are collected into one save.
+     */
+    public StorageManager(TaskListStorage taskListStorage, UserPrefsStorage userPrefsStorage,
+            CommandHistoryStorage commandHistoryStorage, long saveQuietPeriod) {
+        this(taskListStorage, userPrefsStorage, commandHistoryStorage, saveQuietPeriod, Runnable::run);
+    }
+
+    /**
+     * @param saveQuietPeriod Time in milliseconds over which changes to the task list are collected into one save.
+     * @param saveEventThread Raises the events of each save, which are otherwise raised on the saver's thread.
+     */
+    public StorageManager(TaskListStorage taskListStorage, UserPrefsStorage userPrefsStorage,
+            CommandHistoryStorage commandHistoryStorage, long saveQuietPeriod, Executor saveEventThread) {
+        this(taskListStorage, userPrefsStorage, Optional.of(commandHistoryStorage), saveQuietPeriod,
+                saveEventThread);
+    }
+
+    private StorageManager(TaskListStorage taskListStorage, UserPrefsStorage userPrefsStorage,
+            Optional<CommandHistoryStorage> commandHistoryStorage, long saveQuietPeriod, Executor saveEventThread) {
         super();
         this.taskListStorage = taskListStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
+        this.commandHistoryWriter = commandHistoryStorage.map(CommandHistoryWriter::new);
         this.config = new Config();
+        this.taskListSaver = new TaskListSaver(this, saveQuietPeriod, saveEventThread);
     }
 
     // ================ UserPrefs methods ==============================
@@ -57,6 +99,23 @@ public class StorageManager extends ComponentManager implements Storage {
         userPrefsStorage.saveUserPrefs(userPrefs);
     }
 
+    // ================ Command history methods ==============================
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        if (!commandHistoryStorage.isPresent()) {
+            return Collections.emptyList();
+        }
+        return commandHistoryStorage.get().readCommandHistory();
+    }
+
+    @Override
+    @Subscribe
+    public void handleNewUserInputEvent(NewUserInputEvent event) {
+        // Appended on the writer's thread, as this runs on the thread that entered the command
+        commandHistoryWriter.ifPresent(writer -> writer.append(event.userInput));
+    }
+
     // ================ TaskList methods ==============================
 
     @Override
@@ -67,7 +126,12 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     //@@author A0162253M
     public void setTaskListFilePath(String filePath) throws IOException {
-        taskListStorage.setTaskListFilePath(filePath);
+        TaskListStorage storage = getTaskListStorageFor(filePath);
+        if (storage == taskListStorage) {
+            taskListStorage.setTaskListFilePath(filePath);
+        } else {
+            taskListStorage = storage;
+        }
         config.setTaskListFilePath(filePath);
         ConfigUtil.saveConfig(config, Config.getDefaultConfigFile());
         raise(new TaskListStorageChangedEvent(filePath));
@@ -81,7 +145,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public Optional<ReadOnlyTaskList> readTaskList(String filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return taskListStorage.readTaskList(filePath);
+        return getTaskListStorageFor(filePath).readTaskList(filePath);
     }
 
     @Override
@@ -92,7 +156,43 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public void saveTaskList(ReadOnlyTaskList taskList, String filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        taskListStorage.saveTaskList(taskList, filePath);
+        getTaskListStorageFor(filePath).saveTaskList(taskList, filePath);
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList, List<TaskListChange> changes, String filePath)
+            throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " change(s) to data file: " + filePath);
+        getTaskListStorageFor(filePath).saveTaskList(taskList, changes, filePath);
+    }
+
+    @Override
+    public void markTaskListSaved(ReadOnlyTaskList taskList, String filePath, long version) {
+        getTaskListStorageFor(filePath).markTaskListSaved(taskList, filePath, version);
+    }
+
+    /**
+     * Returns the storage for the file at {@code filePath}: the configured storage, unless the file is in
+     * another format than the current task list file. A storage for another format keeps a journal if the
+     * configured storage does.
+     */
+    private TaskListStorage getTaskListStorageFor(String filePath) {
+        TaskListStorage current = taskListStorage;
+        Optional<TaskListFormat> format = TaskListFormat.fromFilePath(filePath);
+        if (!format.isPresent() || format.equals(TaskListFormat.fromFilePath(current.getTaskListFilePath()))) {
+            return current;
+        }
+        TaskListStorage storage = format.get().createStorage(filePath);
+        if (current instanceof JournalTaskListStorage) {
+            return ((JournalTaskListStorage) current).withSnapshotStorage(storage);
+        }
+        return storage;
+    }
+
+    @Override
+    public void flush() {
+        taskListSaver.flush();
+        commandHistoryWriter.ifPresent(CommandHistoryWriter::flush);
     }
 
     public void saveNotifiedTasks(HashSet<ReadOnlyTask> notified, String filePath) throws IOException {
@@ -102,12 +202,9 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     @Subscribe
     public void handleTaskListChangedEvent(TaskListChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveTaskList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        // The task list in the event is a snapshot, so it can be saved on another thread as it is
+        taskListSaver.save(event.data, event.changes, taskListStorage.getTaskListFilePath());
     }
 
     @Subscribe
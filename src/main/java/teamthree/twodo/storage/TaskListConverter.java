@@ -0,0 +1,47 @@
+package teamthree.twodo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import teamthree.twodo.commons.core.LogsCenter;
+import teamthree.twodo.commons.exceptions.DataConversionException;
+import teamthree.twodo.model.ReadOnlyTaskList;
+
+/**
+ * Converts task list files from one {@link TaskListFormat} to another.
+ *
+ * Every format stores the same fields of a task list, so a file converted to
+ * another format and back holds the same task list as the original.
+ */
+public class TaskListConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskListConverter.class);
+
+    /**
+     * Writes the task list in {@code sourcePath} to {@code targetPath}, each in
+     * the format given by its extension.
+     *
+     * @return false if there is no file at {@code sourcePath}.
+     * @throws IllegalArgumentException if either path does not have the extension of a task list format.
+     * @throws DataConversionException if the source file is not a valid task list file.
+     */
+    public static boolean convert(String sourcePath, String targetPath) throws DataConversionException, IOException {
+        requireNonNull(sourcePath);
+        requireNonNull(targetPath);
+        Optional<ReadOnlyTaskList> taskList = formatOf(sourcePath).createStorage(sourcePath).readTaskList();
+        if (!taskList.isPresent()) {
+            return false;
+        }
+        formatOf(targetPath).createStorage(targetPath).saveTaskList(taskList.get());
+        logger.info("Converted task list " + sourcePath + " to " + targetPath);
+        return true;
+    }
+
+    private static TaskListFormat formatOf(String filePath) {
+        return TaskListFormat.fromFilePath(filePath).orElseThrow(() ->
+                new IllegalArgumentException("Not a task list file: " + filePath));
+    }
+}
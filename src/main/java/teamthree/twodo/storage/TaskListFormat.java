@@ -0,0 +1,78 @@
+package teamthree.twodo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * The file formats a task list can be stored in, told apart by file extension.
+ */
+public enum TaskListFormat {
+    XML(".xml") {
+        @Override
+        public TaskListStorage createStorage(String filePath) {
+            return new XmlTaskListStorage(filePath);
+        }
+    },
+    BINARY(BinaryTaskListStorage.FILE_EXTENSION) {
+        @Override
+        public TaskListStorage createStorage(String filePath) {
+            return new BinaryTaskListStorage(filePath);
+        }
+    };
+
+    private final String fileExtension;
+
+    TaskListFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns a storage for task list files in this format, initially at {@code filePath}.
+     */
+    public abstract TaskListStorage createStorage(String filePath);
+
+    /**
+     * Returns {@code filePath} with its extension replaced by the one of this format.
+     */
+    public String toFilePath(String filePath) {
+        requireNonNull(filePath);
+        Optional<TaskListFormat> current = fromFilePath(filePath);
+        String withoutExtension = current.isPresent()
+                ? filePath.substring(0, filePath.length() - current.get().fileExtension.length())
+                : filePath;
+        return withoutExtension + fileExtension;
+    }
+
+    /**
+     * Returns the format of the file at {@code filePath}, or an empty Optional
+     * if its extension is not one of a task list file.
+     */
+    public static Optional<TaskListFormat> fromFilePath(String filePath) {
+        requireNonNull(filePath);
+        for (TaskListFormat format : values()) {
+            if (filePath.endsWith(format.fileExtension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the format called {@code name}, ignoring case, or an empty
+     * Optional if there is no such format.
+     */
+    public static Optional<TaskListFormat> fromName(String name) {
+        requireNonNull(name);
+        for (TaskListFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name.trim())) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
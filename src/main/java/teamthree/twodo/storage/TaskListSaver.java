@@ -0,0 +1,146 @@
+package teamthree.twodo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import teamthree.twodo.commons.core.ComponentManager;
+import teamthree.twodo.commons.core.LogsCenter;
+import teamthree.twodo.commons.events.storage.DataSavingExceptionEvent;
+import teamthree.twodo.commons.events.storage.TaskListSavedEvent;
+import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskListChange;
+
+/**
+ * Writes the task list to disk on a background thread.
+ *
+ * The first change after a save schedules the next save one quiet period
+ * later. Changes arriving in the meantime replace the task list waiting to be
+ * written and add to the changes it includes, so a burst of changes results
+ * in a single write of the latest task list. Raises a {@link TaskListSavedEvent} once a save is on disk, or a
+ * {@link DataSavingExceptionEvent} if it fails, through the executor it is given for its events.
+ */
+public class TaskListSaver extends ComponentManager {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskListSaver.class);
+
+    private final TaskListStorage taskListStorage;
+    private final long quietPeriod;
+    private final Executor eventThread;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TaskListSaver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The save waiting to be written, if any. Guarded by this.
+    private PendingSave pendingSave;
+
+    /**
+     * @param quietPeriod Time in milliseconds to wait for further changes before writing.
+     */
+    public TaskListSaver(TaskListStorage taskListStorage, long quietPeriod) {
+        this(taskListStorage, quietPeriod, Runnable::run);
+    }
+
+    /**
+     * @param quietPeriod Time in milliseconds to wait for further changes before writing.
+     * @param eventThread Raises the events of each save. The UI handles them, so while events are dispatched
+     *         synchronously this must hand them to the JavaFX thread rather than raise them on the writer's.
+     */
+    public TaskListSaver(TaskListStorage taskListStorage, long quietPeriod, Executor eventThread) {
+        this.taskListStorage = taskListStorage;
+        this.quietPeriod = quietPeriod;
+        this.eventThread = eventThread;
+    }
+
+    /**
+     * Schedules {@code taskList}, which {@code changes} lead up to, to be
+     * written to {@code filePath}. The task list must not change afterwards.
+     */
+    public synchronized void save(ReadOnlyTaskList taskList, List<TaskListChange> changes, String filePath) {
+        requireNonNull(taskList);
+        requireNonNull(changes);
+        requireNonNull(filePath);
+        if (pendingSave != null && pendingSave.filePath.equals(filePath)) {
+            pendingSave.add(taskList, changes);
+            return;
+        }
+        if (pendingSave != null) {
+            // The save for the previous file is written before any for the new file
+            PendingSave previousSave = pendingSave;
+            writer.execute(() -> write(previousSave));
+        }
+        pendingSave = new PendingSave(filePath, System.currentTimeMillis());
+        pendingSave.add(taskList, changes);
+        writer.schedule(this::writePendingSave, quietPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the save waiting to be written, if any, and waits until it is on disk.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::writePendingSave).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush task list: " + e.getCause());
+        }
+    }
+
+    private void writePendingSave() {
+        PendingSave save;
+        synchronized (this) {
+            save = pendingSave;
+            pendingSave = null;
+        }
+        if (save != null) {
+            write(save);
+        }
+    }
+
+    private void write(PendingSave save) {
+        logger.fine("Writing " + save.changes + " task list change(s) to " + save.filePath);
+        try {
+            taskListStorage.saveTaskList(save.taskList, save.deltas, save.filePath);
+            long savedAt = System.currentTimeMillis();
+            TaskListSavedEvent event = new TaskListSavedEvent(save.filePath, savedAt, savedAt - save.firstChangeTime,
+                    save.changes);
+            eventThread.execute(() -> raise(event));
+        } catch (IOException e) {
+            eventThread.execute(() -> raise(new DataSavingExceptionEvent(e)));
+        }
+    }
+
+    /**
+     * The latest task list to be written to a file, and the changes it includes.
+     * Only added to while it is waiting to be written, under the saver's lock.
+     */
+    private static class PendingSave {
+        private final String filePath;
+        private final long firstChangeTime;
+        private final List<TaskListChange> deltas = new ArrayList<>();
+        private ReadOnlyTaskList taskList;
+        private int changes = 0;
+
+        PendingSave(String filePath, long firstChangeTime) {
+            this.filePath = filePath;
+            this.firstChangeTime = firstChangeTime;
+        }
+
+        void add(ReadOnlyTaskList taskList, List<TaskListChange> changes) {
+            this.taskList = taskList;
+            this.deltas.addAll(changes);
+            this.changes++;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package teamthree.twodo.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 import teamthree.twodo.commons.exceptions.DataConversionException;
 import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskListChange;
 
 /**
  * Represents a storage for {@link teamthree.twodo.model.TaskList}.
@@ -41,6 +43,23 @@ public interface TaskListStorage {
      */
     void saveTaskList(ReadOnlyTaskList taskList, String filePath) throws IOException;
 
+    /**
+     * Saves {@code taskList}, which {@code changes} made since the last save lead up to, to {@code filePath}.
+     *   Saves the whole task list unless the storage can write just the changes.
+     * @see #saveTaskList(ReadOnlyTaskList)
+     */
+    default void saveTaskList(ReadOnlyTaskList taskList, List<TaskListChange> changes, String filePath)
+            throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Notes that {@code taskList}, read from {@code filePath}, is the task list at {@code version}, so that
+     *   the changes made after it can be saved as they are. Does nothing unless the storage writes just the changes.
+     */
+    default void markTaskListSaved(ReadOnlyTaskList taskList, String filePath, long version) {
+    }
+
     /**
      * Changes the filePath at which task book will be saved at
      * @param filePath cannot be invalid or null
@@ -0,0 +1,116 @@
+package teamthree.twodo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import teamthree.twodo.commons.core.LogsCenter;
+import teamthree.twodo.commons.util.FileUtil;
+
+/**
+ * A {@link CommandHistoryStorage} that appends each command entered as a line of a text file.
+ *
+ * Only the latest {@code capacity} commands are read back. Once the file holds twice that many, it is
+ * rewritten with just the latest {@code capacity}, so appending stays O(1) on average and the file
+ * does not grow without bound.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(TextCommandHistoryStorage.class);
+
+    private final String filePath;
+    private final int capacity;
+    // Number of lines in the file, or -1 if it has not been counted yet
+    private int lineCount = -1;
+
+    public TextCommandHistoryStorage(String filePath, int capacity) {
+        assert capacity > 0;
+        this.filePath = requireNonNull(filePath);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public String getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized List<String> readCommandHistory() throws IOException {
+        List<String> lines = readLines();
+        if (lines.size() > capacity) {
+            compact(lines);
+            lines = lines.subList(lines.size() - capacity, lines.size());
+        }
+        List<String> commands = new ArrayList<>(lines.size());
+        lines.forEach(line -> commands.add(unescape(line)));
+        return commands;
+    }
+
+    @Override
+    public synchronized void appendCommandHistory(String userInput) throws IOException {
+        requireNonNull(userInput);
+        File file = new File(filePath);
+        if (lineCount < 0) {
+            lineCount = readLines().size();
+        }
+        FileUtil.createIfMissing(file);
+        // Losing the last few commands in a crash is harmless, so the file is not forced to disk
+        Files.write(file.toPath(), Collections.singletonList(escape(userInput)), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        lineCount++;
+        if (lineCount >= 2 * capacity) {
+            compact(readLines());
+        }
+    }
+
+    private List<String> readLines() throws IOException {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            return Collections.emptyList();
+        }
+        return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Rewrites the file with the latest {@code capacity} of {@code lines}, replacing it in one step so that
+     * a crash leaves either the old or the new file.
+     */
+    private void compact(List<String> lines) throws IOException {
+        logger.fine("Compacting command history " + filePath);
+        List<String> kept = lines.subList(Math.max(0, lines.size() - capacity), lines.size());
+        File file = new File(filePath);
+        File tempFile = new File(filePath + ".tmp");
+        Files.write(tempFile.toPath(), kept, StandardCharsets.UTF_8);
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        lineCount = kept.size();
+    }
+
+    // Commands are entered on one line, but are escaped anyway so that each one is sure to stay on its own line
+    private static String escape(String userInput) {
+        return userInput.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String line) {
+        StringBuilder userInput = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                char escaped = line.charAt(++i);
+                userInput.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                userInput.append(c);
+            }
+        }
+        return userInput.toString();
+    }
+}
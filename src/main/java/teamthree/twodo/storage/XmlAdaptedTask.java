@@ -36,6 +36,10 @@ public class XmlAdaptedTask {
     @XmlElement
     private List<XmlAdaptedTag> tagged = new ArrayList<>();
 
+    // Absent in files saved before tasks had ids
+    @XmlElement(required = false)
+    private Long id;
+
     /**
      * Constructs an XmlAdaptedTask. This is the no-arg constructor that is
      * required by JAXB.
@@ -59,6 +63,7 @@ public class XmlAdaptedTask {
         for (Tag tag : source.getTags()) {
             tagged.add(new XmlAdaptedTag(tag));
         }
+        id = source.getId();
     }
 
     /**
@@ -74,27 +79,34 @@ public class XmlAdaptedTask {
         for (XmlAdaptedTag tag : tagged) {
             taskTags.add(tag.toModelType());
         }
-        final Name name = new Name(this.name);
+        return toModelType(name, deadline, isComplete, description, taskTags, id);
+    }
+
+    /**
+     * Converts the stored fields of a task into the model's Task object. Shared
+     * with readers that do not go through this class.
+     *
+     * @throws IllegalValueException
+     *             if there were any data constraints violated in the fields
+     */
+    static Task toModelType(String storedName, Deadline storedDeadline, String isComplete, String description,
+            List<Tag> taskTags, Long id) throws IllegalValueException {
+        final Name name = new Name(storedName);
         //final Email email = new Email(this.email);
         Description desc = new Description("No description");
         if (description != null) {
-            desc = new Description(this.description);
+            desc = new Description(description);
         }
 
         final Set<Tag> tags = new HashSet<>(taskTags);
-        Task task;
-        if (deadline != null) {
-            final Deadline deadline = new Deadline(this.deadline);
-            return new TaskWithDeadline(name, deadline, desc, tags, false);
-        }
-        task = new Task(name, desc, tags, false);
-        markIfComplete(task);
-        return task;
-    }
-
-    private void markIfComplete(Task task) {
-        if (isComplete != null && isComplete.equals(Boolean.TRUE.toString())) {
-            task.markCompleted();
+        final boolean isCompleted = isComplete != null && isComplete.equals(Boolean.TRUE.toString());
+        if (storedDeadline != null) {
+            final Deadline deadline = new Deadline(storedDeadline);
+            if (id == null) {
+                return new TaskWithDeadline(name, deadline, desc, tags, isCompleted);
+            }
+            return new TaskWithDeadline(name, deadline, desc, tags, isCompleted, id);
         }
+        return id == null ? new Task(name, desc, tags, isCompleted) : new Task(name, desc, tags, isCompleted, id);
     }
 }
@@ -2,17 +2,34 @@ package teamthree.twodo.storage;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.List;
 
 import javax.xml.bind.JAXBException;
 
 import teamthree.twodo.commons.exceptions.DataConversionException;
 import teamthree.twodo.commons.util.XmlUtil;
+import teamthree.twodo.model.ReadOnlyTaskList;
 
 /**
  * Stores taskList data in an XML file
  */
 public class XmlFileStorage {
+    /**
+     * Saves the given taskList to the specified file, streaming it without an intermediate copy.
+     */
+    public static void saveTaskListToFile(File file, ReadOnlyTaskList taskList) throws IOException {
+        XmlTaskListCodec.write(taskList, file);
+    }
+
+    /**
+     * Returns the TaskList in the file, read one task at a time.
+     */
+    public static ReadOnlyTaskList loadTaskListFromFile(File file)
+            throws DataConversionException, FileNotFoundException {
+        return XmlTaskListCodec.read(file);
+    }
+
     /**
      * Saves the given taskList data to the specified file.
      */
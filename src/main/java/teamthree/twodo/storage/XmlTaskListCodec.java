@@ -0,0 +1,325 @@
+package teamthree.twodo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import javax.xml.bind.DatatypeConverter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import teamthree.twodo.commons.exceptions.DataConversionException;
+import teamthree.twodo.commons.exceptions.IllegalValueException;
+import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.tag.Tag;
+import teamthree.twodo.model.task.Deadline;
+import teamthree.twodo.model.task.ReadOnlyTask;
+
+/**
+ * Reads and writes the {@code <twodo>} task list file with StAX, one task at a
+ * time, without building an {@link XmlSerializableTaskList} in between.
+ *
+ * Files are written byte for byte as {@link XmlFileStorage#saveDataToFile}
+ * writes them through JAXB, so files written either way can be read either way.
+ */
+public class XmlTaskListCodec {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String INDENT = "    ";
+    // JAXB writes carriage returns as character references so that they survive line ending normalisation
+    private static final String CARRIAGE_RETURN_REFERENCE = "#13";
+
+    private static final String ROOT = "twodo";
+    private static final String TASK = "task";
+    private static final String TAGS = "tags";
+    private static final String NAME = "name";
+    private static final String DEADLINE = "deadline";
+    private static final String END_DATE = "endDate";
+    private static final String NOTIFICATION_PERIOD = "notificationPeriod";
+    private static final String START_DATE = "startDate";
+    private static final String IS_COMPLETE = "isComplete";
+    private static final String DESCRIPTION = "description";
+    private static final String TAGGED = "tagged";
+    private static final String ID = "id";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    // ================ Reading ==============================
+
+    /**
+     * Returns the task list in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not a valid task list file.
+     */
+    public static ReadOnlyTaskList read(File file) throws DataConversionException, FileNotFoundException {
+        requireNonNull(file);
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return read(in);
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the task list in {@code in}.
+     *
+     * @throws DataConversionException if the data is not a valid task list.
+     */
+    public static ReadOnlyTaskList read(InputStream in) throws DataConversionException {
+        List<ReadOnlyTask> tasks = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+        try {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            if (reader.nextTag() != XMLStreamConstants.START_ELEMENT || !reader.getLocalName().equals(ROOT)) {
+                throw new XMLStreamException("Expected <" + ROOT + "> but found " + reader.getLocalName());
+            }
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                case TASK:
+                    tasks.add(readTask(reader));
+                    break;
+                case TAGS:
+                    tags.add(new Tag(reader.getElementText()));
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException | IllegalValueException | IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+        return new ReadTaskList(tasks, tags);
+    }
+
+    private static ReadOnlyTask readTask(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        String name = null;
+        Deadline deadline = null;
+        String isComplete = null;
+        String description = null;
+        List<Tag> tags = new ArrayList<>();
+        Long id = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case NAME:
+                name = reader.getElementText();
+                break;
+            case DEADLINE:
+                deadline = readDeadline(reader);
+                break;
+            case IS_COMPLETE:
+                isComplete = reader.getElementText();
+                break;
+            case DESCRIPTION:
+                description = reader.getElementText();
+                break;
+            case TAGGED:
+                tags.add(new Tag(reader.getElementText()));
+                break;
+            case ID:
+                id = Long.valueOf(reader.getElementText().trim());
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return XmlAdaptedTask.toModelType(name, deadline, isComplete, description, tags, id);
+    }
+
+    // Fills in a deadline the way JAXB does, through its setters
+    private static Deadline readDeadline(XMLStreamReader reader) throws XMLStreamException {
+        Deadline deadline = new Deadline();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case END_DATE:
+                deadline.setEndDate(parseDate(reader.getElementText()));
+                break;
+            case NOTIFICATION_PERIOD:
+                deadline.setNotificationPeriod(Long.valueOf(reader.getElementText().trim()));
+                break;
+            case START_DATE:
+                deadline.setStartDate(parseDate(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return deadline;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    // ================ Writing ==============================
+
+    /**
+     * Writes {@code taskList} to {@code file}, replacing its contents.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(ReadOnlyTaskList taskList, File file) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(file);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(taskList, out);
+        }
+    }
+
+    /**
+     * Writes {@code taskList} to {@code out}.
+     *
+     * @throws IOException if there was any problem writing to the stream.
+     */
+    public static void write(ReadOnlyTaskList taskList, OutputStream out) throws IOException {
+        out.write(XML_DECLARATION.getBytes(StandardCharsets.UTF_8));
+        try {
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            if (taskList.getTaskList().isEmpty() && taskList.getTagList().isEmpty()) {
+                writer.writeEmptyElement(ROOT);
+            } else {
+                writer.writeStartElement(ROOT);
+                for (ReadOnlyTask task : taskList.getTaskList()) {
+                    writeTask(writer, task);
+                }
+                for (Tag tag : taskList.getTagList()) {
+                    writeTextElement(writer, 1, TAGS, tag.tagName);
+                }
+                writer.writeCharacters("\n");
+                writer.writeEndElement();
+            }
+            writer.writeCharacters("\n");
+            writer.flush();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    // Writes the same elements, in the same order, as JAXB writes for an XmlAdaptedTask
+    private static void writeTask(XMLStreamWriter writer, ReadOnlyTask task) throws XMLStreamException {
+        startElement(writer, 1, TASK);
+        writeTextElement(writer, 2, NAME, task.getName().fullName);
+        if (task.getDeadline().isPresent()) {
+            Deadline deadline = task.getDeadline().get();
+            startElement(writer, 2, DEADLINE);
+            writeTextElement(writer, 3, END_DATE, printDate(deadline.getEndTime()));
+            writeTextElement(writer, 3, NOTIFICATION_PERIOD, deadline.getNotificationPeriod().toString());
+            writeTextElement(writer, 3, START_DATE, printDate(deadline.getStartTime()));
+            endElement(writer, 2);
+        }
+        writeTextElement(writer, 2, IS_COMPLETE, task.isCompleted().toString());
+        writeTextElement(writer, 2, DESCRIPTION, task.getDescription().value);
+        for (Tag tag : task.getTags()) {
+            writeTextElement(writer, 2, TAGGED, tag.tagName);
+        }
+        writeTextElement(writer, 2, ID, Long.toString(task.getId()));
+        endElement(writer, 1);
+    }
+
+    private static void startElement(XMLStreamWriter writer, int depth, String name) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeStartElement(name);
+    }
+
+    private static void endElement(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeEndElement();
+    }
+
+    private static void writeTextElement(XMLStreamWriter writer, int depth, String name, String text)
+            throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeStartElement(name);
+        int start = 0;
+        for (int end = text.indexOf('\r'); end >= 0; end = text.indexOf('\r', start)) {
+            writer.writeCharacters(text.substring(start, end));
+            writer.writeEntityRef(CARRIAGE_RETURN_REFERENCE);
+            start = end + 1;
+        }
+        writer.writeCharacters(text.substring(start));
+        writer.writeEndElement();
+    }
+
+    private static void indent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        StringBuilder indentation = new StringBuilder("\n");
+        for (int i = 0; i < depth; i++) {
+            indentation.append(INDENT);
+        }
+        writer.writeCharacters(indentation.toString());
+    }
+
+    // ================ Dates, as JAXB prints and parses xs:dateTime ==============================
+
+    private static String printDate(long time) {
+        Calendar calendar = new GregorianCalendar();
+        calendar.setTimeInMillis(time);
+        return DatatypeConverter.printDateTime(calendar);
+    }
+
+    private static Date parseDate(String text) {
+        return DatatypeConverter.parseDateTime(text.trim()).getTime();
+    }
+
+    /**
+     * The tasks and tags read from a file.
+     */
+    private static class ReadTaskList implements ReadOnlyTaskList {
+        private final ObservableList<ReadOnlyTask> tasks;
+        private final ObservableList<Tag> tags;
+
+        ReadTaskList(List<ReadOnlyTask> tasks, List<Tag> tags) {
+            this.tasks = FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks));
+            this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+        }
+
+        @Override
+        public ObservableList<ReadOnlyTask> getTaskList() {
+            return tasks;
+        }
+
+        @Override
+        public ObservableList<Tag> getTagList() {
+            return tags;
+        }
+    }
+}
@@ -62,7 +62,7 @@ public class XmlTaskListStorage implements TaskListStorage {
             return Optional.empty();
         }
 
-        ReadOnlyTaskList taskListOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        ReadOnlyTaskList taskListOptional = XmlFileStorage.loadTaskListFromFile(new File(filePath));
 
         return Optional.of(taskListOptional);
     }
@@ -84,7 +84,7 @@ public class XmlTaskListStorage implements TaskListStorage {
 
         File file = new File(filePath);
         FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskList(taskList));
+        XmlFileStorage.saveTaskListToFile(file, taskList);
     }
 
     /**
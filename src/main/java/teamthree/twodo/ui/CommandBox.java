@@ -1,16 +1,21 @@
 package teamthree.twodo.ui;
 
-import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.core.HandlesEventsOn;
 import teamthree.twodo.commons.core.LogsCenter;
 import teamthree.twodo.commons.events.logic.NewUserInputEvent;
+import teamthree.twodo.commons.events.model.TaskListLoadedEvent;
 import teamthree.twodo.commons.events.ui.NewResultAvailableEvent;
 import teamthree.twodo.logic.Logic;
 import teamthree.twodo.logic.commands.CommandResult;
@@ -18,6 +23,7 @@ import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.logic.parser.exceptions.ParseException;
 
 // Implements the commandbox user interface for the user to interact with the app
+@HandlesEventsOn(EventsCenter.DispatchContext.FX)
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
@@ -25,7 +31,8 @@ public class CommandBox extends UiPart<Region> {
 
     private static final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
-    private ArrayList<String> previousUserInput;
+    // A view of the command history, which already holds each new command when its event arrives
+    private final List<String> previousUserInput;
     private int index;
 
     @FXML
@@ -36,7 +43,15 @@ public class CommandBox extends UiPart<Region> {
         this.logic = logic;
         this.previousUserInput = logic.getCommandHistory().getHistory();
         index = previousUserInput.size();
+        // Commands wait for the task list, so that they do not run on the empty model of startup
+        commandTextField.setDisable(true);
+        registerAsAnEventHandler(this);
+    }
 
+    @Subscribe
+    private void handleTaskListLoadedEvent(TaskListLoadedEvent event) {
+        commandTextField.setDisable(false);
+        commandTextField.requestFocus();
     }
 
     @FXML
@@ -84,9 +99,6 @@ public class CommandBox extends UiPart<Region> {
             commandTextField.appendText(previousUserInput.get(index));
         }
     }
-    public void setPreviousUserInput(ArrayList<String> newUserInputList) {
-        previousUserInput = newUserInputList;
-    }
 
     //Sets the command box style to indicate a successful command.
     private void setStyleToIndicateCommandSuccess() {
@@ -105,8 +117,7 @@ public class CommandBox extends UiPart<Region> {
     }
 
     public void handleNewUserInputEvent(NewUserInputEvent e) {
-        this.setPreviousUserInput(e.userInput);
-        index = e.userInput.size();
+        index = previousUserInput.size();
     }
 
 }
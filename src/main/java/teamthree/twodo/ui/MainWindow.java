@@ -37,6 +37,7 @@ public class MainWindow extends UiPart<Region> {
     // Independent Ui parts residing in this Ui container
     private TaskListPanel taskListPanel;
     private CommandBox commandBox;
+    private NotificationPanel notificationPanel;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -53,6 +54,9 @@ public class MainWindow extends UiPart<Region> {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
+    @FXML
+    private StackPane notificationPanelPlaceholder;
+
     @FXML
     private StackPane statusbarPlaceholder;
 
@@ -128,6 +132,9 @@ public class MainWindow extends UiPart<Region> {
         ResultDisplay resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
+        notificationPanel = new NotificationPanel();
+        notificationPanelPlaceholder.getChildren().add(notificationPanel.getRoot());
+
         StatusBarFooter statusBarFooter = new StatusBarFooter(config.getTaskBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
@@ -202,4 +209,8 @@ public class MainWindow extends UiPart<Region> {
     public CommandBox getCommandBox() {
         return this.commandBox;
     }
+
+    public NotificationPanel getNotificationPanel() {
+        return this.notificationPanel;
+    }
 }
@@ -0,0 +1,106 @@
+package teamthree.twodo.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import teamthree.twodo.model.task.ReadOnlyTask;
+
+/**
+ * Collects deadline reminders and hands them on as digests, without ever
+ * waiting for the user.
+ *
+ * Reminders arriving within one digest window of the first are merged into one
+ * {@link NotificationDigest}, and digests are handed on at most once per
+ * render interval. At most {@code capacity} reminders are held; when more
+ * arrive the oldest are dropped and only counted. Digests are handed to the
+ * renderer on the center's own thread.
+ */
+public class NotificationCenter {
+
+    public static final int DEFAULT_CAPACITY = 50;
+    public static final long DEFAULT_DIGEST_WINDOW = 1000;
+    public static final long DEFAULT_MIN_RENDER_INTERVAL = 3000;
+
+    private final int capacity;
+    private final long digestWindow;
+    private final long minRenderInterval;
+    private final Consumer<NotificationDigest> renderer;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "NotificationCenter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Reminders waiting for the next digest, by task id, oldest first. Guarded by this.
+    private final Map<Long, ReadOnlyTask> pending = new LinkedHashMap<>();
+    private int droppedCount = 0;
+    private boolean isDigestScheduled = false;
+    private long lastRenderTime = Long.MIN_VALUE / 2;
+
+    public NotificationCenter(Consumer<NotificationDigest> renderer) {
+        this(renderer, DEFAULT_CAPACITY, DEFAULT_DIGEST_WINDOW, DEFAULT_MIN_RENDER_INTERVAL);
+    }
+
+    /**
+     * @param capacity Maximum number of reminders held until the next digest.
+     * @param digestWindow Time in milliseconds over which reminders are merged into one digest.
+     * @param minRenderInterval Minimum time in milliseconds between two digests.
+     */
+    public NotificationCenter(Consumer<NotificationDigest> renderer, int capacity, long digestWindow,
+            long minRenderInterval) {
+        requireNonNull(renderer);
+        this.renderer = renderer;
+        this.capacity = capacity;
+        this.digestWindow = digestWindow;
+        this.minRenderInterval = minRenderInterval;
+    }
+
+    /**
+     * Adds reminders for {@code tasks} to the next digest. Returns at once.
+     */
+    public synchronized void post(List<ReadOnlyTask> tasks) {
+        for (ReadOnlyTask task : tasks) {
+            pending.remove(task.getId());
+            pending.put(task.getId(), task);
+        }
+        for (Iterator<Long> oldest = pending.keySet().iterator(); pending.size() > capacity; ) {
+            oldest.next();
+            oldest.remove();
+            droppedCount++;
+        }
+        if (!isDigestScheduled && !pending.isEmpty()) {
+            isDigestScheduled = true;
+            long now = System.currentTimeMillis();
+            long renderTime = Math.max(now + digestWindow, lastRenderTime + minRenderInterval);
+            timer.schedule(this::renderDigest, renderTime - now, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops handing on digests.
+     */
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private void renderDigest() {
+        NotificationDigest digest;
+        synchronized (this) {
+            digest = new NotificationDigest(new ArrayList<>(pending.values()), droppedCount);
+            pending.clear();
+            droppedCount = 0;
+            isDigestScheduled = false;
+            lastRenderTime = System.currentTimeMillis();
+        }
+        renderer.accept(digest);
+    }
+}
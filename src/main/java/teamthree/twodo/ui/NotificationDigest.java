@@ -0,0 +1,40 @@
+package teamthree.twodo.ui;
+
+import java.util.Collections;
+import java.util.List;
+
+import teamthree.twodo.model.task.ReadOnlyTask;
+
+/**
+ * The reminders collected by a {@link NotificationCenter} since its last digest.
+ */
+public class NotificationDigest {
+
+    public static final String MESSAGE_HEADER = "%1$d task(s) nearing their deadlines";
+    public static final String MESSAGE_DROPPED = "...and %1$d more";
+
+    public final List<ReadOnlyTask> tasks;
+    // Reminders left out because more arrived than the notification center holds
+    public final int droppedCount;
+
+    public NotificationDigest(List<ReadOnlyTask> tasks, int droppedCount) {
+        this.tasks = Collections.unmodifiableList(tasks);
+        this.droppedCount = droppedCount;
+    }
+
+    public String getHeader() {
+        return String.format(MESSAGE_HEADER, tasks.size() + droppedCount);
+    }
+
+    /**
+     * Returns the names of the tasks, one per line.
+     */
+    public String getContent() {
+        StringBuilder content = new StringBuilder();
+        tasks.forEach(task -> content.append(task.getName()).append("\n"));
+        if (droppedCount > 0) {
+            content.append(String.format(MESSAGE_DROPPED, droppedCount)).append("\n");
+        }
+        return content.toString();
+    }
+}
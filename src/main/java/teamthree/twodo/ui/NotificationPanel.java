@@ -0,0 +1,49 @@
+package teamthree.twodo.ui;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+
+/**
+ * A panel showing the latest digest of deadline reminders, which stays until dismissed
+ * without keeping the user from entering commands.
+ */
+public class NotificationPanel extends UiPart<Region> {
+
+    private static final String FXML = "NotificationPanel.fxml";
+
+    @FXML
+    private Label header;
+
+    @FXML
+    private Label content;
+
+    public NotificationPanel() {
+        super(FXML);
+        setVisible(false);
+    }
+
+    /**
+     * Shows {@code digest} in place of the digest shown before. Must be called on the JavaFX thread.
+     */
+    public void show(NotificationDigest digest) {
+        header.setText(digest.getHeader());
+        content.setText(digest.getContent());
+        setVisible(true);
+    }
+
+    @FXML
+    private void handleDismiss() {
+        setVisible(false);
+    }
+
+    public boolean isShowing() {
+        return getRoot().isVisible();
+    }
+
+    // Hidden panels take up no space in the main window
+    private void setVisible(boolean isVisible) {
+        getRoot().setVisible(isVisible);
+        getRoot().setManaged(isVisible);
+    }
+}
@@ -9,12 +9,15 @@ import javafx.beans.property.StringProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.core.HandlesEventsOn;
 import teamthree.twodo.commons.core.LogsCenter;
 import teamthree.twodo.commons.events.ui.NewResultAvailableEvent;
 
 /**
  * A ui for the status bar that is displayed at the header of 2Do.
  */
+@HandlesEventsOn(EventsCenter.DispatchContext.FX)
 public class ResultDisplay extends UiPart<Region> {
 
     private static final Logger logger = LogsCenter.getLogger(ResultDisplay.class);
@@ -1,6 +1,5 @@
 package teamthree.twodo.ui;
 
-import java.time.Clock;
 import java.util.Date;
 import java.util.logging.Logger;
 
@@ -8,23 +7,21 @@ import org.controlsfx.control.StatusBar;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.core.HandlesEventsOn;
 import teamthree.twodo.commons.core.LogsCenter;
-import teamthree.twodo.commons.events.model.TaskListChangedEvent;
+import teamthree.twodo.commons.events.storage.TaskListSavedEvent;
 import teamthree.twodo.commons.events.storage.TaskListStorageChangedEvent;
 
 // A ui for the status bar that is displayed at the footer of the application.
+@HandlesEventsOn(EventsCenter.DispatchContext.FX)
 public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
-    public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
-
-    /**
-     * Used to generate time stamps.
-     *
-     */
-    private static Clock clock = Clock.systemDefaultZone();
+    public static final String SYNC_STATUS_UPDATED = "Last Updated: %s (saved in %d ms)";
 
     private static final Logger logger = LogsCenter.getLogger(StatusBarFooter.class);
 
@@ -42,16 +39,6 @@ public class StatusBarFooter extends UiPart<Region> {
         registerAsAnEventHandler(this);
     }
 
-    // Sets the clock used to determine the current time.
-    public static void setClock(Clock clock) {
-        StatusBarFooter.clock = clock;
-    }
-
-    // Returns the clock currently in use.
-    public static Clock getClock() {
-        return clock;
-    }
-
     private void setSaveLocation(String location) {
         this.saveLocationStatus.setText(location);
     }
@@ -60,12 +47,20 @@ public class StatusBarFooter extends UiPart<Region> {
         this.syncStatus.setText(status);
     }
 
+    /**
+     * Returns the sync status shown once {@code event}'s save is on disk: when it was written, and how long
+     * after the first change it included.
+     */
+    public static String getSyncStatus(TaskListSavedEvent event) {
+        return String.format(SYNC_STATUS_UPDATED, new Date(event.savedAt), event.latency);
+    }
+
+    // Task list saves are written in the background, so the status is updated once they are on disk
     @Subscribe
-    public void handleTaskListChangedEvent(TaskListChangedEvent abce) {
-        long now = clock.millis();
-        String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
-        setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+    public void handleTaskListSavedEvent(TaskListSavedEvent abce) {
+        String status = getSyncStatus(abce);
+        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting sync status to " + status));
+        Platform.runLater(() -> setSyncStatus(status));
     }
 
     //@@author A0162253M
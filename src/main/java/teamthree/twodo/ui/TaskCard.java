@@ -1,7 +1,5 @@
 package teamthree.twodo.ui;
 
-import java.util.Date;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -66,7 +64,7 @@ public class TaskCard extends UiPart<Region> {
     }
 
     private boolean isOverdue(ReadOnlyTask task) {
-        return task.getDeadline().get().getEndDate().before(new Date());
+        return task.getDeadline().get().getEndTime() < System.currentTimeMillis();
     }
 
     public void markAsOverdue(int displayedIndex) {
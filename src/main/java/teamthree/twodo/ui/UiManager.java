@@ -1,6 +1,5 @@
 package teamthree.twodo.ui;
 
-import java.util.List;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,6 +12,8 @@ import javafx.stage.Stage;
 import teamthree.twodo.MainApp;
 import teamthree.twodo.commons.core.ComponentManager;
 import teamthree.twodo.commons.core.Config;
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.core.HandlesEventsOn;
 import teamthree.twodo.commons.core.LogsCenter;
 import teamthree.twodo.commons.events.alarm.DeadlineNotificationTimeReachedEvent;
 import teamthree.twodo.commons.events.logic.NewUserInputEvent;
@@ -24,9 +25,9 @@ import teamthree.twodo.commons.util.StringUtil;
 import teamthree.twodo.logic.Logic;
 import teamthree.twodo.model.UserPrefs;
 import teamthree.twodo.model.category.CategoryManager;
-import teamthree.twodo.model.task.ReadOnlyTask;
 
 // The manager of the UI component.
+@HandlesEventsOn(EventsCenter.DispatchContext.FX)
 public class UiManager extends ComponentManager implements Ui {
 
     public static final String ALERT_DIALOG_PANE_FIELD_ID = "alertDialogPane";
@@ -39,6 +40,8 @@ public class UiManager extends ComponentManager implements Ui {
     private Config config;
     private UserPrefs prefs;
     private MainWindow mainWindow;
+    // Merges bursts of reminders into digests and limits how often they are shown
+    private final NotificationCenter notificationCenter = new NotificationCenter(this::showReminderDigest);
 
     public UiManager(Logic logic, Config config, UserPrefs prefs, CategoryManager catMan) {
         super();
@@ -69,6 +72,7 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Override
     public void stop() {
+        notificationCenter.shutdown();
         prefs.updateLastUsedGuiSetting(mainWindow.getCurrentGuiSetting());
         mainWindow.hide();
     }
@@ -79,25 +83,12 @@ public class UiManager extends ComponentManager implements Ui {
     }
 
     //@@author A0124399W
-    private void showReminderAlertAndWait(List<ReadOnlyTask> tasksNearing) {
-        final StringBuilder content = new StringBuilder("");
-        tasksNearing.forEach((t) -> {
-            content.append(t.getName() + "\n");
-        });
-        /**
-         * The following prevents an illegal state exception from being thrown.
-         * Need to be on JavaFX thread to update UI. When this method is called,
-         * program will still be on Timer thread in the AlarmManager which
-         * raised the deadline reached event. RunLater allows the UI call inside
-         * to wait until the program is back in the JavaFX thread.
-         */
-        Platform.runLater(new Runnable() {
-            @Override
-            public void run() {
-                showAlertDialogAndWait(AlertType.INFORMATION, "Deadline Reaching",
-                        "The Following tasks are nearing their deadlines\n", content.toString());
-            }
-        });
+    /**
+     * Shows {@code digest} in the notification panel. Called on the notification center's thread,
+     * so the panel is updated on the JavaFX thread, which never waits for the user to dismiss it.
+     */
+    private void showReminderDigest(NotificationDigest digest) {
+        Platform.runLater(() -> mainWindow.getNotificationPanel().show(digest));
     }
 
     //@@author
@@ -151,7 +142,7 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDeadlineNotificationTimeReachedEvent(DeadlineNotificationTimeReachedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showReminderAlertAndWait(event.tasksNearingDeadline);
+        notificationCenter.post(event.tasksNearingDeadline);
     }
 
     //@@author A0124399W
@@ -0,0 +1,12 @@
+package guitests;
+
+/**
+ * Runs the add command GUI tests with event handlers on the threads they declare, as in the real app.
+ */
+public class AddCommandAsyncEventDispatchTest extends AddCommandTest {
+
+    @Override
+    protected boolean isAsyncEventDispatch() {
+        return true;
+    }
+}
@@ -2,38 +2,43 @@ package guitests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static teamthree.twodo.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
-import static teamthree.twodo.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
-import java.time.Clock;
-import java.time.Instant;
-import java.time.ZoneId;
-import java.util.Date;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
-import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.eventbus.Subscribe;
+
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.events.storage.TaskListSavedEvent;
 import teamthree.twodo.logic.commands.ListCommand;
 import teamthree.twodo.testutil.TaskUtil;
 import teamthree.twodo.ui.StatusBarFooter;
 
 public class StatusBarFooterTest extends TaskListGuiTest {
 
-    private Clock originalClock;
-    private Clock injectedClock;
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final long POLL_MILLIS = 50;
 
-    @Before
-    public void injectFixedClock() {
-        originalClock = StatusBarFooter.getClock();
-        injectedClock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-        StatusBarFooter.setClock(injectedClock);
-    }
+    // Saves are written on the saver's thread, so the test waits for them to be announced
+    private final BlockingQueue<TaskListSavedEvent> savedEvents = new LinkedBlockingQueue<>();
+    private final Object savedEventCollector = new Object() {
+        @Subscribe
+        public void handleTaskListSavedEvent(TaskListSavedEvent event) {
+            savedEvents.add(event);
+        }
+    };
 
-    @After
-    public void restoreOriginalClock() {
-        StatusBarFooter.setClock(originalClock);
+    // Setting up the next test clears all subscribers, this one included
+    @Before
+    public void collectSavedEvents() {
+        EventsCenter.getInstance().registerHandler(savedEventCollector);
     }
 
     @Test
@@ -42,10 +47,17 @@ public class StatusBarFooterTest extends TaskListGuiTest {
     }
 
     @Test
-    public void syncStatusMutatingCommandSucceedSyncStatusUpdated() {
-        String timestamp = new Date(injectedClock.millis()).toString();
-        String expected = String.format(SYNC_STATUS_UPDATED, timestamp);
+    public void syncStatusMutatingCommandSucceedSyncStatusUpdated() throws Exception {
         assertTrue(commandBox.runCommand(TaskUtil.getAddCommand(td.ida))); // mutating command succeeds
+        TaskListSavedEvent saved = savedEvents.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(saved);
+        String expected = StatusBarFooter.getSyncStatus(saved);
+
+        // The footer is updated on the FX thread after the event
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!expected.equals(statusBarFooter.getSyncStatus()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_MILLIS);
+        }
         assertEquals(expected, statusBarFooter.getSyncStatus());
     }
 
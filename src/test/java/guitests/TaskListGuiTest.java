@@ -4,6 +4,9 @@ package guitests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.After;
@@ -90,7 +93,9 @@ public abstract class TaskListGuiTest {
             this.stage = stage;
         });
         EventsCenter.clearSubscribers();
-        FxToolkit.setupApplication(() -> new TestApp(this::getInitialData, getDataFileLocation()));
+        deleteCommandHistory();
+        FxToolkit.setupApplication(() -> new TestApp(this::getInitialData, getDataFileLocation(),
+                isAsyncEventDispatch()));
         FxToolkit.showStage();
         while (!stage.isShowing())
             ;
@@ -98,6 +103,11 @@ public abstract class TaskListGuiTest {
         mainGui.pressEnter();
     }
 
+    // Each test starts without the commands entered in earlier tests
+    private static void deleteCommandHistory() throws IOException {
+        Files.deleteIfExists(Paths.get(TestApp.COMMAND_HISTORY_LOCATION_FOR_TESTING));
+    }
+
     /**
      * Override this in child classes to set the initial local data. Return null
      * to use the data in the file specified in {@link #getDataFileLocation()}
@@ -118,6 +128,14 @@ public abstract class TaskListGuiTest {
         return TestApp.SAVE_LOCATION_FOR_TESTING;
     }
 
+    /**
+     * Override this in child classes to run the app with event handlers on the threads they declare.
+     */
+
+    protected boolean isAsyncEventDispatch() {
+        return false;
+    }
+
     @After
     public void cleanup() throws TimeoutException {
         FxToolkit.cleanupStages();
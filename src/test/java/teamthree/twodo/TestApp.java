@@ -20,20 +20,33 @@ public class TestApp extends MainApp {
 
     public static final String SAVE_LOCATION_FOR_TESTING = TestUtil.getFilePathInSandboxFolder("sampleData.xml");
     public static final String APP_TITLE = "Test App";
+    public static final String COMMAND_HISTORY_LOCATION_FOR_TESTING =
+            TestUtil.getFilePathInSandboxFolder("history_testing.txt");
 
     protected static final String DEFAULT_PREF_FILE_LOCATION_FOR_TESTING =
             TestUtil.getFilePathInSandboxFolder("pref_testing.json");
     protected static final String TASK_LIST_NAME = "Test";
     protected Supplier<ReadOnlyTaskList> initialDataSupplier = () -> null;
     protected String saveFileLocation = SAVE_LOCATION_FOR_TESTING;
+    protected boolean isAsyncEventDispatch = false;
 
     public TestApp() {
     }
 
     public TestApp(Supplier<ReadOnlyTaskList> initialDataSupplier, String saveFileLocation) {
+        this(initialDataSupplier, saveFileLocation, false);
+    }
+
+    /**
+     * @param isAsyncEventDispatch Whether event handlers run on the threads they declare, as in the real app,
+     *     instead of inline.
+     */
+    public TestApp(Supplier<ReadOnlyTaskList> initialDataSupplier, String saveFileLocation,
+            boolean isAsyncEventDispatch) {
         super();
         this.initialDataSupplier = initialDataSupplier;
         this.saveFileLocation = saveFileLocation;
+        this.isAsyncEventDispatch = isAsyncEventDispatch;
 
         // If some initial local data has been provided, write those to the file
         if (initialDataSupplier.get() != null) {
@@ -48,6 +61,9 @@ public class TestApp extends MainApp {
         Config config = super.initConfig(configFilePath);
         config.setAppTitle(APP_TITLE);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        config.setCommandHistoryFilePath(COMMAND_HISTORY_LOCATION_FOR_TESTING);
+        config.setSaveQuietPeriod(0);
+        config.setAsyncEventDispatch(isAsyncEventDispatch);
         return config;
     }
 
@@ -66,6 +82,8 @@ public class TestApp extends MainApp {
     @Override
     public void start(Stage primaryStage) {
         ui.start(primaryStage);
+        // Tests expect the task list to be there as soon as the window is
+        finishStartup(initialData.join());
     }
 
     public static void main(String[] args) {
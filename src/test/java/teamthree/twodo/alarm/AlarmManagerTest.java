@@ -1,13 +1,18 @@
 package teamthree.twodo.alarm;
 
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -15,14 +20,18 @@ import org.junit.Test;
 
 import com.google.common.eventbus.Subscribe;
 
+import teamthree.twodo.commons.core.DeadlineScheduler;
 import teamthree.twodo.commons.core.EventsCenter;
 import teamthree.twodo.commons.core.UnmodifiableObservableList;
 import teamthree.twodo.commons.events.alarm.DeadlineNotificationTimeReachedEvent;
 import teamthree.twodo.commons.exceptions.IllegalValueException;
 import teamthree.twodo.logic.commands.ListCommand.AttributeInputted;
 import teamthree.twodo.model.Model;
+import teamthree.twodo.model.ModelManager;
 import teamthree.twodo.model.ReadOnlyTaskList;
 import teamthree.twodo.model.TaskList;
+import teamthree.twodo.model.UserPrefs;
+import teamthree.twodo.model.VersionedTaskList;
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.Deadline;
 import teamthree.twodo.model.task.ReadOnlyTask;
@@ -40,10 +49,12 @@ public class AlarmManagerTest {
     private Model model;
     private AlarmManager alarm;
     private boolean isEventCaught = false;
+    private final BlockingQueue<DeadlineNotificationTimeReachedEvent> reminders = new LinkedBlockingQueue<>();
 
     @Subscribe
     public void handleDeadlineNotificationTimeReachedEvent(DeadlineNotificationTimeReachedEvent event) {
         isEventCaught = true;
+        reminders.add(event);
     }
 
     @Before
@@ -71,6 +82,27 @@ public class AlarmManagerTest {
         assertTrue(isEventCaught);
     }
 
+    @Test
+    public void updateTask_notifiedTaskGivenNewDeadline_remindedAgain() throws Exception {
+        DeadlineScheduler scheduler = new DeadlineScheduler();
+        ModelManager modelManager = new ModelManager(new TaskList(), new UserPrefs());
+        SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yy HH:mm");
+        try {
+            alarm = new AlarmManager(modelManager, scheduler);
+            modelManager.addTask(new TaskWithDeadlineBuilder().withName("Due")
+                    .withDeadline(dateFormat.format(new Date())).build());
+            assertNotNull(reminders.poll(2, TimeUnit.SECONDS));
+
+            long taskId = modelManager.getTaskList().getTaskList().get(0).getId();
+            Date anHourAgo = new Date(System.currentTimeMillis() - 60 * 60 * 1000);
+            modelManager.updateTask(taskId, new TaskWithDeadlineBuilder().withName("Due")
+                    .withDeadline(dateFormat.format(anHourAgo)).build());
+            assertNotNull(reminders.poll(2, TimeUnit.SECONDS));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
     private class ModelManagerStub implements Model {
         private TaskList tasklist;
 
@@ -107,11 +139,22 @@ public class AlarmManagerTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void loadTaskList(ReadOnlyTaskList newData) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyTaskList getTaskList() {
             return tasklist;
         }
 
+        @Override
+        public ReadOnlyTask getTask(long taskId) throws TaskNotFoundException {
+            fail("This method should not be called.");
+            return null;
+        }
+
         public void setTaskList(TaskList taskList) {
             this.tasklist = taskList;
         }
@@ -127,6 +170,11 @@ public class AlarmManagerTest {
 
         }
 
+        @Override
+        public void deleteTask(long targetId) throws TaskNotFoundException {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void addTask(ReadOnlyTask task) throws DuplicateTaskException {
             fail("This method should not be called.");
@@ -137,12 +185,50 @@ public class AlarmManagerTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void markTask(long taskId) throws TaskNotFoundException {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public long getTaskListVersion() {
+            return 0;
+        }
+
+        @Override
+        public VersionedTaskList getPublishedTaskList() {
+            return new VersionedTaskList(tasklist.snapshot(), 0);
+        }
+
+        @Override
+        public ChangeScope openChangeScope() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public List<Long> markTasks(Collection<Long> taskIds) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void unmarkTask(ReadOnlyTask task) throws TaskNotFoundException {
             fail("This method should not be called.");
 
         }
 
+        @Override
+        public void unmarkTask(long taskId) throws TaskNotFoundException {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<ReadOnlyTask> getTasksWithTag(Tag tag) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void updateTask(ReadOnlyTask target, ReadOnlyTask editedTask)
                 throws DuplicateTaskException, TaskNotFoundException {
@@ -150,6 +236,12 @@ public class AlarmManagerTest {
 
         }
 
+        @Override
+        public void updateTask(long targetId, ReadOnlyTask editedTask)
+                throws DuplicateTaskException, TaskNotFoundException {
+            fail("This method should not be called.");
+        }
+
         @Override
         public UnmodifiableObservableList<ReadOnlyTask> getFilteredAndSortedTaskList() {
             fail("This method should not be called.");
@@ -0,0 +1,81 @@
+package teamthree.twodo.automark;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import teamthree.twodo.commons.core.DeadlineScheduler;
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.events.model.DeadlineTimeReachedEvent;
+import teamthree.twodo.model.ModelManager;
+import teamthree.twodo.model.TaskList;
+import teamthree.twodo.model.UserPrefs;
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.testutil.TaskWithDeadlineBuilder;
+
+public class AutoMarkManagerTest {
+
+    private static final long WAIT_SECONDS = 2;
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
+
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yy HH:mm");
+    private final DeadlineScheduler scheduler = new DeadlineScheduler();
+    private final ModelManager model = new ModelManager(new TaskList(), new UserPrefs());
+    // Whether each task announced was already completed when its event was raised
+    private final BlockingQueue<Boolean> announced = new LinkedBlockingQueue<>();
+
+    @Subscribe
+    public void handleDeadlineTimeReachedEvent(DeadlineTimeReachedEvent event) throws Exception {
+        for (ReadOnlyTask task : event.tasksNearingDeadline) {
+            announced.add(model.getTask(task.getId()).isCompleted());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        EventsCenter.getInstance().registerHandler(this);
+        AutoMarkManager.setToRun(true);
+        // The markings run on the scheduler's thread, as the test thread only waits for them
+        new AutoMarkManager(model, scheduler, Runnable::run);
+    }
+
+    @After
+    public void tearDown() {
+        AutoMarkManager.setToRun(false);
+        scheduler.shutdown();
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void deadlineReached_taskMarkedBeforeEventRaised() throws Exception {
+        model.addTask(new TaskWithDeadlineBuilder().withName("Overdue")
+                .withDeadline(dateFormat.format(new Date(System.currentTimeMillis() - HOUR_MILLIS))).build());
+
+        assertEquals(Boolean.TRUE, announced.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(model.getTaskList().getTaskList().get(0).isCompleted());
+    }
+
+    @Test
+    public void markedTaskGivenNewDeadline_markedAgain() throws Exception {
+        model.addTask(new TaskWithDeadlineBuilder().withName("Overdue")
+                .withDeadline(dateFormat.format(new Date(System.currentTimeMillis() - HOUR_MILLIS))).build());
+        assertNotNull(announced.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+
+        long taskId = model.getTaskList().getTaskList().get(0).getId();
+        model.updateTask(taskId, new TaskWithDeadlineBuilder().withName("Overdue")
+                .withDeadline(dateFormat.format(new Date(System.currentTimeMillis() - 2 * HOUR_MILLIS))).build());
+        assertEquals(Boolean.TRUE, announced.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,44 @@
+package teamthree.twodo.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class DateParserTest {
+
+    private final DateParser dateParser = new DateParser(2);
+
+    @Test
+    public void parse_repeatedExpression_servedFromCache() {
+        Optional<Long> first = dateParser.parse("fri 10am");
+        assertTrue(first.isPresent());
+        assertEquals(first, dateParser.parse("fri 10am"));
+        assertEquals(1, dateParser.getMissCount());
+        assertEquals(1, dateParser.getHitCount());
+    }
+
+    @Test
+    public void parse_invalidExpression_emptyAndCached() {
+        assertFalse(dateParser.parse("no time here").isPresent());
+        assertFalse(dateParser.parse("no time here").isPresent());
+        assertEquals(1, dateParser.getHitCount());
+    }
+
+    @Test
+    public void parse_beyondCapacity_evictsLeastRecentlyUsed() {
+        dateParser.parse("mon 10am");
+        dateParser.parse("tue 10am");
+        dateParser.parse("mon 10am");
+        dateParser.parse("wed 10am");
+        assertEquals(2, dateParser.getCacheSize());
+
+        dateParser.parse("mon 10am");
+        assertEquals(2, dateParser.getHitCount());
+        dateParser.parse("tue 10am");
+        assertEquals(2, dateParser.getHitCount());
+    }
+}
@@ -0,0 +1,83 @@
+package teamthree.twodo.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class DeadlineSchedulerTest {
+
+    private static final long WAIT_MILLIS = 2000;
+
+    private final DeadlineScheduler scheduler = new DeadlineScheduler();
+    private final BlockingQueue<List<Long>> fired = new LinkedBlockingQueue<>();
+    private final DeadlineScheduler.Timeline timeline = scheduler.register("test", fired::add);
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void schedule_pastTimes_firedTogetherInFireTimeOrder() throws Exception {
+        long now = System.currentTimeMillis();
+        // Holding the scheduler keeps its thread from taking the first task before the others are queued
+        synchronized (scheduler) {
+            timeline.schedule(3, now - 1000);
+            timeline.schedule(1, now - 3000);
+            timeline.schedule(2, now - 2000);
+        }
+        assertEquals(Arrays.asList(1L, 2L, 3L), fired.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void getInstance_afterShutdown_newScheduler() {
+        DeadlineScheduler shared = DeadlineScheduler.getInstance();
+        shared.shutdown();
+        DeadlineScheduler restarted = DeadlineScheduler.getInstance();
+        assertNotSame(shared, restarted);
+        assertFalse(restarted.isShutDown());
+    }
+
+    @Test
+    public void schedule_rescheduledEarlier_firesAtNewTime() throws Exception {
+        timeline.schedule(1, System.currentTimeMillis() + 60 * 60 * 1000);
+        assertTrue(timeline.isScheduled(1));
+        timeline.schedule(1, System.currentTimeMillis());
+        assertEquals(Arrays.asList(1L), fired.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        assertFalse(timeline.isScheduled(1));
+    }
+
+    @Test
+    public void cancel_scheduledTask_neverFires() throws Exception {
+        long soon = System.currentTimeMillis() + 100;
+        timeline.schedule(1, soon);
+        timeline.schedule(2, soon);
+        timeline.cancel(1);
+        assertEquals(Arrays.asList(2L), fired.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(null, fired.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void clear_manyTasks_onlyOtherTimelinesLeft() {
+        DeadlineScheduler.Timeline other = scheduler.register("other", taskIds -> { });
+        long later = System.currentTimeMillis() + 60 * 60 * 1000;
+        for (long id = 0; id < 100; id++) {
+            timeline.schedule(id, later + id * 7 % 13);
+            other.schedule(id, later + id);
+        }
+        timeline.clear();
+        assertEquals(100, scheduler.size());
+        assertTrue(other.isScheduled(99));
+    }
+}
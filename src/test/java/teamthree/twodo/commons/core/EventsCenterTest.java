@@ -0,0 +1,83 @@
+package teamthree.twodo.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import teamthree.twodo.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private static final int EVENT_COUNT = 100;
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_synchronous_fxHandlerRunsInline() {
+        FxHandler handler = new FxHandler();
+        EventsCenter.getInstance().registerHandler(handler);
+
+        EventsCenter.getInstance().post(new NumberedEvent(0));
+
+        assertEquals(Collections.singletonList(0), handler.received);
+        assertSame(Thread.currentThread(), handler.lastThread);
+    }
+
+    @Test
+    public void post_asynchronous_inlineHandlerReceivesInOrderOnPostingThread() {
+        InlineHandler inlineHandler = new InlineHandler();
+        EventsCenter eventsCenter = EventsCenter.getInstance().registerHandler(inlineHandler);
+        eventsCenter.setAsynchronous(true);
+        assertTrue(eventsCenter.isAsynchronous());
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            eventsCenter.post(new NumberedEvent(i));
+            expected.add(i);
+        }
+
+        assertEquals(expected, inlineHandler.received);
+        assertSame(Thread.currentThread(), inlineHandler.lastThread);
+    }
+
+    private static class NumberedEvent extends BaseEvent {
+        private final int number;
+
+        NumberedEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return "Event " + number;
+        }
+    }
+
+    private static class InlineHandler {
+        protected final List<Integer> received = new ArrayList<>();
+        protected Thread lastThread;
+
+        @Subscribe
+        public void handleNumberedEvent(NumberedEvent event) {
+            received.add(event.number);
+            lastThread = Thread.currentThread();
+        }
+    }
+
+    // Dispatching to the FX thread is covered by the GUI tests run with asynchronous dispatch
+    @HandlesEventsOn(EventsCenter.DispatchContext.FX)
+    private static class FxHandler extends InlineHandler {
+    }
+}
@@ -0,0 +1,63 @@
+package teamthree.twodo.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void changes_leaveEarlierVersionsUnchanged() {
+        PersistentList<String> empty = PersistentList.empty();
+        PersistentList<String> abc = empty.add("a").add("b").add("c");
+        PersistentList<String> edited = abc.set(1, "B").remove(0).add(0, "z");
+
+        assertTrue(empty.isEmpty());
+        assertEquals(Arrays.asList("a", "b", "c"), abc.asList());
+        assertEquals(Arrays.asList("z", "B", "c"), edited.asList());
+    }
+
+    @Test
+    public void randomChanges_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int choice = random.nextInt(4);
+            if (expected.isEmpty() || choice == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (choice == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else if (choice == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                expected.add(i);
+                actual = actual.add(i);
+            }
+            int index = random.nextInt(expected.size() + 1) - 1;
+            if (index >= 0) {
+                assertEquals(expected.get(index), actual.get(index));
+            }
+        }
+        assertEquals(expected, actual.asList());
+        assertEquals(PersistentList.of(expected), actual);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList.of(Collections.singletonList("a")).get(1);
+    }
+}
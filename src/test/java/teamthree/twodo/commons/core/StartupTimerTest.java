@@ -0,0 +1,28 @@
+package teamthree.twodo.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+public class StartupTimerTest {
+
+    private final StartupTimer startupTimer = new StartupTimer(2);
+
+    @Test
+    public void run_returnsResultOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        assertEquals(caller, startupTimer.run("stage", Thread::currentThread));
+    }
+
+    @Test
+    public void runInBackground_runsOffCallingThread() {
+        CompletableFuture<Integer> first = startupTimer.runInBackground("first", () -> 1);
+        CompletableFuture<Thread> second = startupTimer.runInBackground("second", Thread::currentThread);
+        assertEquals(Integer.valueOf(1), first.join());
+        assertNotEquals(Thread.currentThread(), second.join());
+        startupTimer.finish();
+    }
+}
@@ -0,0 +1,104 @@
+package teamthree.twodo.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import teamthree.twodo.commons.core.Config;
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.testutil.FloatingTaskBuilder;
+
+public class OperationLogTest {
+
+    @Test
+    public void undoRedo_stepsThroughEntriesInOrder() throws Exception {
+        OperationLog log = new OperationLog();
+        log.record("add", Optional.of(Operation.added(task("First"))));
+        log.record("list", Optional.empty());
+
+        assertEquals("list", log.undo().get().getCommandWord());
+        assertEquals("First", log.undo().get().getOperation().get().getTask().getName().fullName);
+        assertFalse(log.undo().isPresent());
+
+        assertEquals("add", log.redo().get().getCommandWord());
+        assertEquals("list", log.redo().get().getCommandWord());
+        assertFalse(log.redo().isPresent());
+    }
+
+    @Test
+    public void record_afterUndo_dropsEntriesThatCouldBeRedone() throws Exception {
+        OperationLog log = new OperationLog();
+        log.record("add", Optional.of(Operation.added(task("First"))));
+        log.record("add", Optional.of(Operation.added(task("Second"))));
+        log.undo();
+
+        log.record("delete", Optional.of(Operation.deleted(task("First"))));
+        assertFalse(log.canRedo());
+        assertEquals(2, log.size());
+        assertEquals("delete", log.undo().get().getCommandWord());
+    }
+
+    @Test
+    public void record_overMaxDepth_evictsOldestEntries() throws Exception {
+        OperationLog log = new OperationLog(3, OperationLog.DEFAULT_MAX_BYTES);
+        for (int i = 0; i < 5; i++) {
+            log.record("add", Optional.of(Operation.added(task("Task " + i))));
+        }
+
+        assertEquals(3, log.size());
+        assertEquals("Task 4", log.undo().get().getOperation().get().getTask().getName().fullName);
+        assertEquals("Task 3", log.undo().get().getOperation().get().getTask().getName().fullName);
+        assertEquals("Task 2", log.undo().get().getOperation().get().getTask().getName().fullName);
+        assertFalse(log.canUndo());
+    }
+
+    @Test
+    public void record_overMaxBytes_evictsOldestEntriesButKeepsNewest() throws Exception {
+        Operation operation = Operation.added(task("Task"));
+        long entrySize = new OperationLog.Entry("add", Optional.of(operation)).getByteSize();
+        OperationLog log = new OperationLog(OperationLog.DEFAULT_MAX_DEPTH, 2 * entrySize);
+
+        log.record("add", Optional.of(operation));
+        log.record("add", Optional.of(operation));
+        assertEquals(2, log.size());
+        assertEquals(2 * entrySize, log.getByteSize());
+
+        log.record("add", Optional.of(operation));
+        assertEquals(2, log.size());
+        assertEquals(2 * entrySize, log.getByteSize());
+
+        // An entry over the whole budget is still kept, on its own
+        OperationLog smallLog = new OperationLog(OperationLog.DEFAULT_MAX_DEPTH, 1);
+        smallLog.record("add", Optional.of(operation));
+        smallLog.record("add", Optional.of(operation));
+        assertEquals(1, smallLog.size());
+        assertTrue(smallLog.canUndo());
+    }
+
+    @Test
+    public void getByteSize_tagsChanged_countsTasksOnBothSides() throws Exception {
+        ReadOnlyTask task = task("Task");
+        ReadOnlyTask tagged = new FloatingTaskBuilder().withName("Task").withTags("work").build();
+        // The tasks are equal apart from their tags, but both are kept alive
+        assertTrue(Operation.edited(task, tagged).getByteSize() > Operation.marked(task).getByteSize());
+    }
+
+    @Test
+    public void commandHistory_configuredUndoDepth_logBounded() throws Exception {
+        CommandHistory history = new CommandHistory(Config.DEFAULT_COMMAND_HISTORY_CAPACITY,
+                Collections.emptyList(), 2, Config.DEFAULT_UNDO_BYTES);
+        for (int i = 0; i < 3; i++) {
+            history.addToUserInputHistory("list");
+        }
+        assertEquals(2, history.getOperationLog().size());
+    }
+
+    private static ReadOnlyTask task(String name) throws Exception {
+        return new FloatingTaskBuilder().withName(name).build();
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Rule;
@@ -23,6 +25,7 @@ import teamthree.twodo.logic.commands.ListCommand.AttributeInputted;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.model.Model;
 import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.VersionedTaskList;
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.Deadline;
 import teamthree.twodo.model.task.ReadOnlyTask;
@@ -150,22 +153,44 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void loadTaskList(ReadOnlyTaskList newData) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyTaskList getTaskList() {
             fail("This method should not be called.");
             return null;
         }
 
+        @Override
+        public ReadOnlyTask getTask(long taskId) throws TaskNotFoundException {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void deleteTask(ReadOnlyTask target) throws TaskNotFoundException {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void deleteTask(long targetId) throws TaskNotFoundException {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void updateTask(ReadOnlyTask target, ReadOnlyTask editedPerson) throws DuplicateTaskException {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void updateTask(long targetId, ReadOnlyTask editedTask)
+                throws DuplicateTaskException, TaskNotFoundException {
+            fail("This method should not be called.");
+        }
+
         @Override
         public UnmodifiableObservableList<ReadOnlyTask> getFilteredAndSortedTaskList() {
             fail("This method should not be called.");
@@ -182,11 +207,51 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void markTask(long taskId) throws TaskNotFoundException {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public long getTaskListVersion() {
+            fail("This method should not be called.");
+            return 0;
+        }
+
+        @Override
+        public VersionedTaskList getPublishedTaskList() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public ChangeScope openChangeScope() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public List<Long> markTasks(Collection<Long> taskIds) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void unmarkTask(ReadOnlyTask person) throws TaskNotFoundException {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void unmarkTask(long taskId) throws TaskNotFoundException {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<ReadOnlyTask> getTasksWithTag(Tag tag) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void updateFilteredTaskListToShowPeriod(Deadline deadline, AttributeInputted attInput,
                 boolean listIncomplete, Set<Tag> tagList) {
@@ -13,7 +13,6 @@ import org.junit.Test;
 
 import teamthree.twodo.commons.exceptions.IllegalValueException;
 import teamthree.twodo.logic.CommandHistory;
-import teamthree.twodo.logic.UndoCommandHistory;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.model.Model;
 import teamthree.twodo.model.ModelManager;
@@ -39,7 +38,7 @@ public class FindCommandTest {
         boolean listIncomplete = true;
         FindCommand findCommand = new FindCommand(new HashSet<>(Arrays.asList(
                 new TypicalTask().cs2103.getName().fullName.split("\\s+"))), listIncomplete);
-        findCommand.setData(model, new CommandHistory(), new UndoCommandHistory());
+        findCommand.setData(model, new CommandHistory());
         Set<String> keyWords = new HashSet<>(Arrays.asList(new TypicalTask().cs2103.getName().fullName.split("\\s+")));
 
         expectedModel.updateFilteredTaskListByKeywords(keyWords, listIncomplete);
@@ -58,7 +57,7 @@ public class FindCommandTest {
             testKeywordSet.add(tag.tagName);
         }
         FindCommand findCommand = new FindCommand(testKeywordSet, listIncomplete);
-        findCommand.setData(model, new CommandHistory(), new UndoCommandHistory());
+        findCommand.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListByKeywords(testKeywordSet, listIncomplete);
         assertCommandSuccess(findCommand, model, String.format(FindCommand.MESSAGE_SUCCESS_INCOMPLETE,
@@ -70,7 +69,7 @@ public class FindCommandTest {
         boolean listIncomplete = true;
         FindCommand findCommand = new FindCommand(new HashSet<>(Arrays.asList(
                 new TypicalTask().cs2103.getDescription().value.split("\\s+"))), listIncomplete);
-        findCommand.setData(model, new CommandHistory(), new UndoCommandHistory());
+        findCommand.setData(model, new CommandHistory());
         Set<String> keyWords = new HashSet<>(Arrays.asList(
                 new TypicalTask().cs2103.getDescription().value.split("\\s+")));
 
@@ -85,7 +84,7 @@ public class FindCommandTest {
         Task typicalCompletedTask = new TypicalTask().partyCompleted;
         FindCommand findCommand = new FindCommand(new HashSet<>(Arrays.asList(
                 typicalCompletedTask.getName().fullName.split("\\s+"))), listIncomplete);
-        findCommand.setData(model, new CommandHistory(), new UndoCommandHistory());
+        findCommand.setData(model, new CommandHistory());
         Set<String> keyWords = new HashSet<>(Arrays.asList(
                 typicalCompletedTask.getName().fullName.split("\\s+")));
 
@@ -99,7 +98,7 @@ public class FindCommandTest {
         boolean listIncomplete = true;
         FindCommand findCommand = new FindCommand(new HashSet<>(Arrays.asList(
                 new TypicalTask().supermarket.getName().fullName.split("\\s+"))), listIncomplete);
-        findCommand.setData(model, new CommandHistory(), new UndoCommandHistory());
+        findCommand.setData(model, new CommandHistory());
         Set<String> keyWords = new HashSet<>(Arrays.asList(
                 new TypicalTask().supermarket.getName().fullName.split("\\s+")));
 
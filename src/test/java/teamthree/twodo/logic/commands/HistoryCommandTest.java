@@ -2,25 +2,25 @@ package teamthree.twodo.logic.commands;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import teamthree.twodo.logic.CommandHistory;
-import teamthree.twodo.logic.UndoCommandHistory;
 import teamthree.twodo.model.Model;
 import teamthree.twodo.model.ModelManager;
 
 public class HistoryCommandTest {
     private HistoryCommand historyCommand;
     private CommandHistory history;
-    private UndoCommandHistory undoHistory;
 
     @Before
     public void setUp() {
         Model model = new ModelManager();
         history = new CommandHistory();
         historyCommand = new HistoryCommand();
-        historyCommand.setData(model, history, undoHistory);
+        historyCommand.setData(model, history);
     }
 
     @Test
@@ -42,6 +42,17 @@ public class HistoryCommandTest {
         assertCommandResult(historyCommand, expectedMessage);
     }
 
+    @Test
+    public void execute_historyOverCapacity_showsLatestCommands() {
+        CommandHistory smallHistory = new CommandHistory(2, Arrays.asList("list", "find milk"));
+        HistoryCommand command = new HistoryCommand();
+        command.setData(new ModelManager(), smallHistory);
+        assertCommandResult(command, String.format(HistoryCommand.MESSAGE_SUCCESS, "list\nfind milk"));
+
+        smallHistory.add("clear");
+        assertCommandResult(command, String.format(HistoryCommand.MESSAGE_SUCCESS, "find milk\nclear"));
+    }
+
     /**
      * Asserts that the result message from the execution of {@code historyCommand} equals to {@code expectedMessage}
      */
@@ -10,7 +10,6 @@ import org.junit.Test;
 
 import teamthree.twodo.commons.exceptions.IllegalValueException;
 import teamthree.twodo.logic.CommandHistory;
-import teamthree.twodo.logic.UndoCommandHistory;
 import teamthree.twodo.logic.commands.ListCommand.AttributeInputted;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.model.Model;
@@ -43,7 +42,7 @@ public class ListCommandTest {
         //Test incomplete tasks
         listIncomplete = true;
         listCommand = new ListCommand(null, AttributeInputted.NONE, listIncomplete, false, null);
-        listCommand.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommand.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowAll(null, false, listIncomplete);
         assertCommandSuccess(listCommand, model, ListCommand.MESSAGE_SUCCESS_INCOMPLETE, expectedModel);
@@ -51,7 +50,7 @@ public class ListCommandTest {
         //Test completed tasks
         listIncomplete = false;
         listCommand = new ListCommand(null, AttributeInputted.NONE, listIncomplete, false, null);
-        listCommand.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommand.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowAll(null, false, listIncomplete);
         assertCommandSuccess(listCommand, model, ListCommand.MESSAGE_SUCCESS_COMPLETE, expectedModel);
@@ -62,7 +61,7 @@ public class ListCommandTest {
         //Test incomplete tasks
         listIncomplete = true;
         listCommand = new ListCommand(null, AttributeInputted.NONE, listIncomplete, true, null);
-        listCommand.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommand.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowAll(null, true, listIncomplete);
         assertCommandSuccess(listCommand, model, ListCommand.MESSAGE_SUCCESS_INCOMPLETE_FLOATING, expectedModel);
@@ -70,7 +69,7 @@ public class ListCommandTest {
         //Test completed tasks
         listIncomplete = false;
         listCommand = new ListCommand(null, AttributeInputted.NONE, listIncomplete, true, null);
-        listCommand.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommand.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowAll(null, true, listIncomplete);
         assertCommandSuccess(listCommand, model, ListCommand.MESSAGE_SUCCESS_COMPLETE_FLOATING, expectedModel);
@@ -84,7 +83,7 @@ public class ListCommandTest {
         //Test incomplete tasks
         listIncomplete = true;
         listCommandWithDeadline = new ListCommand(testDeadline, start, listIncomplete, false, null);
-        listCommandWithDeadline.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommandWithDeadline.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowPeriod(testDeadline, start, listIncomplete, null);
         assertCommandSuccess(listCommandWithDeadline, model, String.format(
@@ -93,7 +92,7 @@ public class ListCommandTest {
         //Test completed tasks
         listIncomplete = false;
         listCommandWithDeadline = new ListCommand(testDeadline, start, listIncomplete, false, null);
-        listCommandWithDeadline.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommandWithDeadline.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowPeriod(testDeadline, start, listIncomplete, null);
         assertCommandSuccess(listCommandWithDeadline, model, String.format(
@@ -108,7 +107,7 @@ public class ListCommandTest {
         //Test incomplete tasks
         listIncomplete = true;
         listCommandWithDeadline = new ListCommand(testDeadline, end, listIncomplete, false, null);
-        listCommandWithDeadline.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommandWithDeadline.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowPeriod(testDeadline, end, listIncomplete, null);
         assertCommandSuccess(listCommandWithDeadline, model, String.format(
@@ -117,7 +116,7 @@ public class ListCommandTest {
         //Test completed tasks
         listIncomplete = false;
         listCommandWithDeadline = new ListCommand(testDeadline, end, listIncomplete, false, null);
-        listCommandWithDeadline.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommandWithDeadline.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowPeriod(testDeadline, end, listIncomplete, null);
         assertCommandSuccess(listCommandWithDeadline, model, String.format(
@@ -132,7 +131,7 @@ public class ListCommandTest {
         //Test incomplete tasks
         listIncomplete = true;
         listCommandWithDeadline = new ListCommand(testDeadline, both, listIncomplete, false, null);
-        listCommandWithDeadline.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommandWithDeadline.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowPeriod(testDeadline, both, listIncomplete, null);
         assertCommandSuccess(listCommandWithDeadline, model, String.format(
@@ -142,7 +141,7 @@ public class ListCommandTest {
         //Test completed tasks
         listIncomplete = false;
         listCommandWithDeadline = new ListCommand(testDeadline, both, listIncomplete, false, null);
-        listCommandWithDeadline.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommandWithDeadline.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowPeriod(testDeadline, both, listIncomplete, null);
         assertCommandSuccess(listCommandWithDeadline, model, String.format(
@@ -157,7 +156,7 @@ public class ListCommandTest {
         listIncomplete = true;
         Set<Tag> testTagList = new TypicalTask().cs2103.getTags();
         listCommandWithDeadline = new ListCommand(null, none, listIncomplete, false, testTagList);
-        listCommandWithDeadline.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommandWithDeadline.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowAll(testTagList, false, listIncomplete);
         assertCommandSuccess(listCommandWithDeadline, model, ListCommand.MESSAGE_SUCCESS_INCOMPLETE_TAG,
@@ -167,7 +166,7 @@ public class ListCommandTest {
         listIncomplete = false;
         testTagList = new TypicalTask().partyCompleted.getTags();
         listCommandWithDeadline = new ListCommand(null, none, listIncomplete, false, testTagList);
-        listCommandWithDeadline.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommandWithDeadline.setData(model, new CommandHistory());
 
         expectedModel.updateFilteredTaskListToShowAll(testTagList, false, listIncomplete);
         assertCommandSuccess(listCommandWithDeadline, model, ListCommand.MESSAGE_SUCCESS_COMPLETE_TAG,
@@ -194,7 +193,7 @@ public class ListCommandTest {
         AttributeInputted start = AttributeInputted.START;
         listIncomplete = true;
         listCommandWithDeadline = new ListCommand(testDeadline, start, listIncomplete, false, null);
-        listCommandWithDeadline.setData(model, new CommandHistory(), new UndoCommandHistory());
+        listCommandWithDeadline.setData(model, new CommandHistory());
 
         ListCommand command = new ListCommand(testDeadline, start, listIncomplete, false, null);
         assertTrue(command.equals(command));
@@ -26,14 +26,13 @@ import teamthree.twodo.commons.core.options.AutoMark;
 import teamthree.twodo.commons.core.options.Options;
 import teamthree.twodo.commons.exceptions.IllegalValueException;
 import teamthree.twodo.logic.CommandHistory;
-import teamthree.twodo.logic.UndoCommandHistory;
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.logic.commands.EditCommand.EditTaskDescriptor;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.logic.parser.ParserUtil;
 import teamthree.twodo.logic.parser.exceptions.ParseException;
 import teamthree.twodo.model.Model;
 import teamthree.twodo.model.ModelManager;
-import teamthree.twodo.model.ReadOnlyTaskList;
 import teamthree.twodo.model.TaskList;
 import teamthree.twodo.model.UserPrefs;
 import teamthree.twodo.model.category.Category;
@@ -61,7 +60,6 @@ public class RedoCommandTest {
     private UndoCommand undoCommand;
     private RedoCommand redoCommand;
     private CommandHistory history;
-    private UndoCommandHistory undoHistory;
     private Model model;
     private List<Task> taskList;
     private CategoryManager catMan;
@@ -70,12 +68,11 @@ public class RedoCommandTest {
     public void setUp() {
         model = new ModelManager(new TypicalTask(TaskType.INCOMPLETE).getTypicalTaskList(), new UserPrefs());
         history = new CommandHistory();
-        undoHistory = new UndoCommandHistory();
         redoCommand = new RedoCommand();
         undoCommand = new UndoCommand();
-        catMan = new CategoryManager(model);
-        redoCommand.setData(model, history, undoHistory, catMan);
-        undoCommand.setData(model, history, undoHistory, catMan);
+        catMan = new CategoryManager(model, Runnable::run);
+        redoCommand.setData(model, history, catMan);
+        undoCommand.setData(model, history, catMan);
         this.taskList = TestUtil.generateSampleTaskData();
     }
 
@@ -88,7 +85,7 @@ public class RedoCommandTest {
 
         //Adding Task to prepare model for undo command
         this.model.addTask(taskToAdd);
-        this.history.addToAddHistory(taskToAdd);
+        this.history.recordOperation(Operation.added(taskToAdd));
         this.history.addToUserInputHistory(AddCommand.COMMAND_WORD);
         undoCommand.execute();
 
@@ -112,7 +109,7 @@ public class RedoCommandTest {
 
         //Mark Task to prepare model for undo command
         MarkCommand markCommand = new MarkCommand(INDEX_FIRST_TASK);
-        markCommand.setData(model, history, undoHistory);
+        markCommand.setData(model, history);
         markCommand.execute();
         this.history.addToUserInputHistory(MarkCommand.COMMAND_WORD);
         undoCommand.execute();
@@ -141,7 +138,7 @@ public class RedoCommandTest {
         });
         ReadOnlyTask taskToRedo = model.getFilteredAndSortedTaskList().get(INDEX_FIRST_TASK.getZeroBased());
         MarkCommand markCommand = new MarkCommand(INDEX_FIRST_TASK);
-        markCommand.setData(model, history, undoHistory);
+        markCommand.setData(model, history);
         Model expectedModel = new ModelManager(new TaskList(model.getTaskList()), new UserPrefs());
         expectedModel.markTask(taskToRedo);
         markCommand.execute();
@@ -152,7 +149,7 @@ public class RedoCommandTest {
         expectedModel.updateFilteredTaskListToShowAll(null, false, false);
         assertTrue(expectedModel.getFilteredAndSortedTaskList().size() == 1);
         UnmarkCommand unmarkCommand = new UnmarkCommand(INDEX_FIRST_TASK);
-        unmarkCommand.setData(model, history, undoHistory);
+        unmarkCommand.setData(model, history);
         expectedModel.unmarkTask(taskToRedo);
         String expectedMessage = RedoCommand.MESSAGE_SUCCESS.concat(getExpectedUnmarkedMessage(
                 expectedModel, taskToRedo));
@@ -170,11 +167,9 @@ public class RedoCommandTest {
     @Test
     public void executeRedoClearCommandSuccess() throws CommandException, ParseException {
 
-        ReadOnlyTaskList taskBook = model.getTaskList();
-
         //Clear Task to prepare model for undo command
+        this.history.recordOperation(Operation.cleared(model.getTaskList()));
         this.model.resetData(new TaskList());
-        this.history.addToClearHistory(taskBook);
         this.history.addToUserInputHistory(ClearCommand.COMMAND_WORD);
         undoCommand.execute();
 
@@ -194,7 +189,7 @@ public class RedoCommandTest {
 
         //Delete Task to prepare model for undo command
         DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_TASK, false);
-        deleteCommand.setData(model, history, undoHistory);
+        deleteCommand.setData(model, history);
         deleteCommand.execute();
         this.history.addToUserInputHistory(DeleteCommand.COMMAND_WORD);
         undoCommand.execute();
@@ -215,7 +210,7 @@ public class RedoCommandTest {
 
         //Delete Tag to prepare model for undo command
         DeleteCommand deleteCommand = new DeleteCommand(index, true);
-        deleteCommand.setData(model, history, undoHistory, catMan);
+        deleteCommand.setData(model, history, catMan);
         deleteCommand.execute();
         this.history.addToUserInputHistory(UndoCommand.DELETE_TAG);
         undoCommand.execute();
@@ -237,7 +232,7 @@ public class RedoCommandTest {
 
         //Add Tag to prepare model for undo command
         AddCommand addCommand = new AddCommand(tagName, indexList);
-        addCommand.setData(model, history, undoHistory, catMan);
+        addCommand.setData(model, history, catMan);
         addCommand.execute();
         this.history.addToUserInputHistory(UndoCommand.ADD_TAG);
         TaskList taskListAfterAddedTags = new TaskList(model.getTaskList());
@@ -261,7 +256,7 @@ public class RedoCommandTest {
         EditTaskDescriptor descriptor = new EditTaskDescriptorBuilder().withName(VALID_NAME_EVENT)
                 .withStartAndEndDeadline(VALID_START_DATE, VALID_END_DATE).withTags(VALID_TAG_SPONGEBOB).build();
         EditCommand editCommand = new EditCommand(indexFirstTask, descriptor);
-        editCommand.setData(model, history, undoHistory);
+        editCommand.setData(model, history);
         editCommand.execute();
         this.history.addToUserInputHistory(EditCommand.COMMAND_WORD);
         undoCommand.execute();
@@ -287,7 +282,7 @@ public class RedoCommandTest {
 
         Options changedOptions = new Options(new Alarm(VALID_ALARM_INPUT), new AutoMark(VALID_AUTOMARK_INPUT));
         OptionsCommand optionsCommand = new OptionsCommand(changedOptions);
-        optionsCommand.setData(model, history, undoHistory);
+        optionsCommand.setData(model, history);
         optionsCommand.execute();
         history.addToUserInputHistory(OptionsCommand.COMMAND_WORD);
         undoCommand.execute();
@@ -310,7 +305,7 @@ public class RedoCommandTest {
     @Test
     public void excuteRedoInvalidCommandReturnInvalidMessage() throws ParseException, CommandException {
         HelpCommand helpCommand = new HelpCommand();
-        helpCommand.setData(model, history, undoHistory);
+        helpCommand.setData(model, history);
         helpCommand.execute();
         this.history.addToUserInputHistory(HelpCommand.COMMAND_WORD);
         undoCommand.execute();
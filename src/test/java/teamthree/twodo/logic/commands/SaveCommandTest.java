@@ -21,6 +21,7 @@ import teamthree.twodo.testutil.TypicalTask;
 public class SaveCommandTest {
 
     private static final String VALID_FILEPATH = "data/2Do.xml";
+    private static final String VALID_BINARY_FILEPATH = "data/2Do.bin";
     private static final String INVALID_FILEPATH = "data/2Do.txt";
 
     private Model model = new ModelManager(new TypicalTask().getTypicalTaskList(), new UserPrefs());
@@ -46,6 +47,15 @@ public class SaveCommandTest {
         assertTrue(isEventCaught);
     }
 
+    @Test
+    public void excecuteSaveBinarySuccess() throws CommandException {
+        SaveCommand saveCommand = new SaveCommand(VALID_BINARY_FILEPATH);
+        saveCommand.setData(model, null, null);
+        CommandResult result = saveCommand.execute();
+        assertEquals(String.format(SaveCommand.MESSAGE_SUCCESS , VALID_BINARY_FILEPATH), result.feedbackToUser);
+        assertTrue(isEventCaught);
+    }
+
     @Test
     public void excecuteSaveFailure() throws CommandException {
         try {
@@ -26,14 +26,13 @@ import teamthree.twodo.commons.core.options.AutoMark;
 import teamthree.twodo.commons.core.options.Options;
 import teamthree.twodo.commons.exceptions.IllegalValueException;
 import teamthree.twodo.logic.CommandHistory;
-import teamthree.twodo.logic.UndoCommandHistory;
+import teamthree.twodo.logic.Operation;
 import teamthree.twodo.logic.commands.EditCommand.EditTaskDescriptor;
 import teamthree.twodo.logic.commands.exceptions.CommandException;
 import teamthree.twodo.logic.parser.ParserUtil;
 import teamthree.twodo.logic.parser.exceptions.ParseException;
 import teamthree.twodo.model.Model;
 import teamthree.twodo.model.ModelManager;
-import teamthree.twodo.model.ReadOnlyTaskList;
 import teamthree.twodo.model.TaskList;
 import teamthree.twodo.model.UserPrefs;
 import teamthree.twodo.model.category.Category;
@@ -66,7 +65,6 @@ public class UndoCommandTest {
 
     private UndoCommand undoCommand;
     private CommandHistory history;
-    private UndoCommandHistory undoHistory;
     private Model model;
     private List<Task> taskList;
     private CategoryManager catMan;
@@ -75,10 +73,9 @@ public class UndoCommandTest {
     public void setUp() {
         model = new ModelManager(new TypicalTask(TaskType.INCOMPLETE).getTypicalTaskList(), new UserPrefs());
         history = new CommandHistory();
-        undoHistory = new UndoCommandHistory();
         undoCommand = new UndoCommand();
-        catMan = new CategoryManager(model);
-        undoCommand.setData(model, history, undoHistory, catMan);
+        catMan = new CategoryManager(model, Runnable::run);
+        undoCommand.setData(model, history, catMan);
         this.taskList = TestUtil.generateSampleTaskData();
     }
 
@@ -90,7 +87,7 @@ public class UndoCommandTest {
 
         //Adding Task to prepare model for undo command
         this.model.addTask(taskToAdd);
-        this.history.addToAddHistory(taskToAdd);
+        this.history.recordOperation(Operation.added(taskToAdd));
         this.history.addToUserInputHistory(AddCommand.COMMAND_WORD);
 
         Model expectedModel = new ModelManager(model.getTaskList(), new UserPrefs());
@@ -119,7 +116,7 @@ public class UndoCommandTest {
                                 model.getFilteredAndSortedTaskList().get(INDEX_FIRST_TASK.getZeroBased()))
                         : new Task(model.getFilteredAndSortedTaskList().get(INDEX_FIRST_TASK.getZeroBased()));
         ReadOnlyTask task2Mark = model.getFilteredAndSortedTaskList().get(INDEX_FIRST_TASK.getZeroBased());
-        markCommand.setData(model, history, undoHistory);
+        markCommand.setData(model, history);
         markCommand.execute();
         this.history.addToUserInputHistory(MarkCommand.COMMAND_WORD);
 
@@ -151,7 +148,7 @@ public class UndoCommandTest {
         });
         ReadOnlyTask taskToUndo = model.getFilteredAndSortedTaskList().get(INDEX_FIRST_TASK.getZeroBased());
         MarkCommand markCommand = new MarkCommand(INDEX_FIRST_TASK);
-        markCommand.setData(model, history, undoHistory);
+        markCommand.setData(model, history);
         Model expectedModel = new ModelManager(new TaskList(model.getTaskList()), new UserPrefs());
         expectedModel.markTask(taskToUndo);
         String expectedMessage = UndoCommand.MESSAGE_SUCCESS.concat(getExpectedMessage(expectedModel, taskToUndo));
@@ -163,7 +160,7 @@ public class UndoCommandTest {
         expectedModel.updateFilteredTaskListToShowAll(null, false, false);
 
         UnmarkCommand unmarkCommand = new UnmarkCommand(INDEX_FIRST_TASK);
-        unmarkCommand.setData(model, history, undoHistory);
+        unmarkCommand.setData(model, history);
         model.updateFilteredTaskListToShowAll(null, false, false);
 
         unmarkCommand.execute();
@@ -176,15 +173,13 @@ public class UndoCommandTest {
     @Test
     public void executeUndoClearCommandSuccess() throws CommandException, ParseException {
 
-        ReadOnlyTaskList taskBook = model.getTaskList();
-
         //Clear Task to prepare model for undo command
+        Model expectedModel = new ModelManager(model.getTaskList(), new UserPrefs());
+        this.history.recordOperation(Operation.cleared(model.getTaskList()));
         this.model.resetData(new TaskList());
-        this.history.addToClearHistory(taskBook);
         this.history.addToUserInputHistory(ClearCommand.COMMAND_WORD);
 
         String expectedMessage = UndoCommand.MESSAGE_SUCCESS.concat("Restored TaskList");
-        Model expectedModel = new ModelManager(model.getTaskList(), new UserPrefs());
 
         CommandTestUtil.assertCommandSuccess(undoCommand, model, expectedMessage, expectedModel);
 
@@ -198,7 +193,7 @@ public class UndoCommandTest {
 
         //Delete Task to prepare model for undo command
         DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_TASK, false);
-        deleteCommand.setData(model, history, undoHistory);
+        deleteCommand.setData(model, history);
         deleteCommand.execute();
         this.history.addToUserInputHistory(DeleteCommand.COMMAND_WORD);
 
@@ -218,7 +213,7 @@ public class UndoCommandTest {
 
         //Delete Tag to prepare model for undo command
         DeleteCommand deleteCommand = new DeleteCommand(index, true);
-        deleteCommand.setData(model, history, undoHistory, catMan);
+        deleteCommand.setData(model, history, catMan);
         deleteCommand.execute();
         this.history.addToUserInputHistory("tagDeleted");
 
@@ -241,7 +236,7 @@ public class UndoCommandTest {
 
         //Delete Tag to prepare model for undo command
         AddCommand addCommand = new AddCommand(tagName, indexList);
-        addCommand.setData(model, history, undoHistory, catMan);
+        addCommand.setData(model, history, catMan);
         addCommand.execute();
         this.history.addToUserInputHistory("tagAdded");
 
@@ -263,7 +258,7 @@ public class UndoCommandTest {
         EditTaskDescriptor descriptor = new EditTaskDescriptorBuilder().withName(VALID_NAME_EVENT)
                 .withStartAndEndDeadline(VALID_START_DATE, VALID_END_DATE).withTags(VALID_TAG_SPONGEBOB).build();
         EditCommand editCommand = new EditCommand(indexFirstTask, descriptor);
-        editCommand.setData(model, history, undoHistory);
+        editCommand.setData(model, history);
         editCommand.execute();
         this.history.addToUserInputHistory(EditCommand.COMMAND_WORD);
 
@@ -288,7 +283,7 @@ public class UndoCommandTest {
 
         Options changedOptions = new Options(new Alarm(VALID_ALARM_INPUT), new AutoMark(VALID_AUTOMARK_INPUT));
         OptionsCommand optionsCommand = new OptionsCommand(changedOptions);
-        optionsCommand.setData(model, history, undoHistory);
+        optionsCommand.setData(model, history);
         optionsCommand.execute();
         history.addToUserInputHistory(OptionsCommand.COMMAND_WORD);
         CommandResult result = undoCommand.execute();
@@ -309,7 +304,7 @@ public class UndoCommandTest {
     @Test
     public void excuteUndoInvalidCommandReturnInvalidMessage() throws ParseException, CommandException {
         HistoryCommand historyCommand = new HistoryCommand();
-        historyCommand.setData(model, history, undoHistory);
+        historyCommand.setData(model, history);
         historyCommand.execute();
         this.history.addToUserInputHistory(HistoryCommand.COMMAND_WORD);
         CommandResult result = undoCommand.execute();
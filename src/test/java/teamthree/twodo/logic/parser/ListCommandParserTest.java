@@ -3,6 +3,7 @@ package teamthree.twodo.logic.parser;
 import static org.junit.Assert.assertTrue;
 import static teamthree.twodo.logic.commands.ListCommand.COMMAND_WORD_FLOATING;
 import static teamthree.twodo.logic.commands.ListCommand.COMMAND_WORD_HISTORY;
+import static teamthree.twodo.logic.commands.ListCommand.COMMAND_WORD_OVERLAP;
 import static teamthree.twodo.logic.parser.CliSyntax.PREFIX_DEADLINE_END;
 import static teamthree.twodo.logic.parser.CliSyntax.PREFIX_DEADLINE_START;
 import static teamthree.twodo.logic.parser.CliSyntax.PREFIX_TAG;
@@ -37,6 +38,7 @@ public class ListCommandParserTest {
     public static final String VALID_END = " " + PREFIX_DEADLINE_END + VALID_END_DATE;
     public static final String VALID_START_END = VALID_START + " " + VALID_END;
     public static final String VALID_END_START = VALID_END + " " + VALID_START;
+    public static final String VALID_OVERLAP = " " + COMMAND_WORD_OVERLAP + VALID_START_END;
     public static final String VALID_TAG = " " + PREFIX_TAG + VALID_TAG_NAME;
     public static final String VALID_GIBBERISH = " zz@/ nme#24HMKA";
 
@@ -85,6 +87,10 @@ public class ListCommandParserTest {
         expectedCommand = new ListCommand(new Deadline(VALID_START, VALID_END, Deadline.NULL_VALUE),
                 AttributeInputted.BOTH, true, false, emptyTagList);
         assertParseSuccess(VALID_END_START, expectedCommand);
+
+        expectedCommand = new ListCommand(new Deadline(VALID_START, VALID_END, Deadline.NULL_VALUE),
+                AttributeInputted.OVERLAP, true, false, emptyTagList);
+        assertParseSuccess(VALID_OVERLAP, expectedCommand);
     }
 
     @Test
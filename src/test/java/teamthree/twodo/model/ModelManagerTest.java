@@ -1,17 +1,30 @@
 package teamthree.twodo.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import com.google.common.eventbus.Subscribe;
+
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.core.UnmodifiableObservableList;
+import teamthree.twodo.commons.events.model.TaskListChangedEvent;
 import teamthree.twodo.logic.commands.ListCommand.AttributeInputted;
 import teamthree.twodo.model.task.Deadline;
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.testutil.FloatingTaskBuilder;
 import teamthree.twodo.testutil.TaskListBuilder;
+import teamthree.twodo.testutil.TaskWithDeadlineBuilder;
 import teamthree.twodo.testutil.TypicalTask;
 
 //@@author A0107433N
@@ -74,4 +87,178 @@ public class ModelManagerTest {
         differentUserPrefs.setTaskListName("differentName");
         assertTrue(modelManager.equals(new ModelManager(taskList, differentUserPrefs)));
     }
+
+    @Test
+    public void getFilteredAndSortedTaskList_keepsDeadlinesFirstAsTasksChange() throws Exception {
+        ModelManager modelManager = new ModelManager(new TaskList(), new UserPrefs());
+        modelManager.addTask(new FloatingTaskBuilder().withName("Zebra").build());
+        modelManager.addTask(new FloatingTaskBuilder().withName("Apple").build());
+        modelManager.addTask(new TaskWithDeadlineBuilder().withName("Later").withDeadline("tomorrow 5pm").build());
+        modelManager.addTask(new TaskWithDeadlineBuilder().withName("Sooner").withDeadline("tomorrow 9am").build());
+
+        UnmodifiableObservableList<ReadOnlyTask> sorted = modelManager.getFilteredAndSortedTaskList();
+        assertNames(sorted, "Sooner", "Later", "Apple", "Zebra");
+
+        // editing a task moves it to its new place in the same view
+        ReadOnlyTask later = sorted.get(1);
+        modelManager.updateTask(later.getId(),
+                new TaskWithDeadlineBuilder().withName("Later").withDeadline("tomorrow 7am").build());
+        assertSame(sorted, modelManager.getFilteredAndSortedTaskList());
+        assertNames(sorted, "Later", "Sooner", "Apple", "Zebra");
+    }
+
+    @Test
+    public void markTasks_manyTasks_oneChangeEvent() throws Exception {
+        ModelManager modelManager = new ModelManager(new TaskList(), new UserPrefs());
+        modelManager.addTask(new FloatingTaskBuilder().withName("First").build());
+        modelManager.addTask(new FloatingTaskBuilder().withName("Second").build());
+        modelManager.addTask(new FloatingTaskBuilder().withName("Done").build());
+        long doneId = modelManager.getTaskList().getTaskList().get(2).getId();
+        modelManager.markTask(doneId);
+        List<Long> ids = new ArrayList<>();
+        modelManager.getTaskList().getTaskList().forEach(task -> ids.add(task.getId()));
+        ids.add(-1L);
+
+        List<TaskListChangedEvent> events = new ArrayList<>();
+        Object handler = new Object() {
+            @Subscribe
+            public void handleTaskListChangedEvent(TaskListChangedEvent event) {
+                events.add(event);
+            }
+        };
+        EventsCenter.getInstance().registerHandler(handler);
+        try {
+            assertEquals(Arrays.asList(ids.get(0), ids.get(1)), modelManager.markTasks(ids));
+        } finally {
+            EventsCenter.clearSubscribers();
+        }
+        assertEquals(1, events.size());
+        modelManager.getTaskList().getTaskList().forEach(task -> assertTrue(task.isCompleted()));
+    }
+
+    @Test
+    public void addTask_inlineHandler_runsWithoutModelLock() throws Exception {
+        ModelManager modelManager = new ModelManager(new TaskList(), new UserPrefs());
+        List<Boolean> heldLock = new ArrayList<>();
+        Object handler = new Object() {
+            @Subscribe
+            public void handleTaskListChangedEvent(TaskListChangedEvent event) {
+                heldLock.add(Thread.holdsLock(modelManager));
+            }
+        };
+        EventsCenter.getInstance().registerHandler(handler);
+        try {
+            modelManager.addTask(new FloatingTaskBuilder().withName("First").build());
+        } finally {
+            EventsCenter.clearSubscribers();
+        }
+        assertEquals(Arrays.asList(false), heldLock);
+    }
+
+    @Test
+    @SuppressWarnings("try") // the scopes only need closing
+    public void openChangeScope_manyChanges_oneChangeEventOnOutermostClose() throws Exception {
+        ModelManager modelManager = new ModelManager(new TaskList(), new UserPrefs());
+        List<TaskListChangedEvent> events = new ArrayList<>();
+        Object handler = new Object() {
+            @Subscribe
+            public void handleTaskListChangedEvent(TaskListChangedEvent event) {
+                events.add(event);
+            }
+        };
+        EventsCenter.getInstance().registerHandler(handler);
+        try {
+            try (Model.ChangeScope outer = modelManager.openChangeScope()) {
+                modelManager.addTask(new FloatingTaskBuilder().withName("First").build());
+                try (Model.ChangeScope inner = modelManager.openChangeScope()) {
+                    modelManager.addTask(new FloatingTaskBuilder().withName("Second").build());
+                }
+                modelManager.markTask(modelManager.getTaskList().getTaskList().get(0).getId());
+                assertTrue(events.isEmpty());
+            }
+            assertEquals(1, events.size());
+
+            try (Model.ChangeScope unchanged = modelManager.openChangeScope()) {
+                modelManager.updateFilteredTaskListToShowAll(null, false, true);
+            }
+            assertEquals(1, events.size());
+
+            modelManager.deleteTask(modelManager.getTaskList().getTaskList().get(0).getId());
+            assertEquals(2, events.size());
+        } finally {
+            EventsCenter.clearSubscribers();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("try") // the scopes only need closing
+    public void taskListChangedEvent_changesSinceLastVersion_typedDeltasOrMissedChangesDetected() throws Exception {
+        ModelManager modelManager = new ModelManager(new TaskList(), new UserPrefs());
+        List<TaskListChangedEvent> events = new ArrayList<>();
+        Object handler = new Object() {
+            @Subscribe
+            public void handleTaskListChangedEvent(TaskListChangedEvent event) {
+                events.add(event);
+            }
+        };
+        EventsCenter.getInstance().registerHandler(handler);
+        long startVersion = modelManager.getTaskListVersion();
+        try {
+            try (Model.ChangeScope scope = modelManager.openChangeScope()) {
+                modelManager.addTask(new FloatingTaskBuilder().withName("Task").withTags("work").build());
+                ReadOnlyTask added = modelManager.getTaskList().getTaskList().get(0);
+                modelManager.updateTask(added.getId(), new FloatingTaskBuilder().withName("Task").withTags("home")
+                        .build());
+                modelManager.markTask(added.getId());
+                modelManager.deleteTask(added.getId());
+            }
+            modelManager.resetData(new TaskList());
+        } finally {
+            EventsCenter.clearSubscribers();
+        }
+
+        assertEquals(2, events.size());
+        List<TaskListChange> changes = events.get(0).getChangesSince(startVersion).get();
+        assertEquals(Arrays.asList(TaskListChange.Kind.ADDED, TaskListChange.Kind.TAGS_CHANGED,
+                TaskListChange.Kind.COMPLETION_TOGGLED, TaskListChange.Kind.REMOVED),
+                changes.stream().map(TaskListChange::getKind).collect(Collectors.toList()));
+        assertEquals(startVersion + 4, events.get(0).version);
+        assertEquals(1, events.get(0).getChangesSince(startVersion + 3).get().size());
+
+        // A subscriber that missed a change, or sees the task list replaced, has to read it all again
+        assertFalse(events.get(1).getChangesSince(startVersion).isPresent());
+        assertFalse(events.get(1).getChangesSince(events.get(0).version).isPresent());
+        assertTrue(events.get(1).getChangesSince(events.get(1).version).get().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("try") // the scopes only need closing
+    public void getPublishedTaskList_changesInOpenScope_publishedOnceScopeCloses() throws Exception {
+        ModelManager modelManager = new ModelManager(new TaskList(), new UserPrefs());
+        VersionedTaskList before = modelManager.getPublishedTaskList();
+        try (Model.ChangeScope scope = modelManager.openChangeScope()) {
+            modelManager.addTask(new FloatingTaskBuilder().withName("First").build());
+            modelManager.addTask(new FloatingTaskBuilder().withName("Second").build());
+            // Readers on other threads see no partial command
+            assertSame(before, modelManager.getPublishedTaskList());
+        } finally {
+            EventsCenter.clearSubscribers();
+        }
+
+        VersionedTaskList after = modelManager.getPublishedTaskList();
+        assertEquals(before.getVersion() + 2, after.getVersion());
+        assertEquals(2, after.getTaskList().getTaskList().size());
+        assertTrue(before.getTaskList().getTaskList().isEmpty());
+
+        modelManager.deleteTask(modelManager.getTaskList().getTaskList().get(0).getId());
+        assertEquals(2, after.getTaskList().getTaskList().size());
+        assertEquals(1, modelManager.getPublishedTaskList().getTaskList().getTaskList().size());
+    }
+
+    private static void assertNames(UnmodifiableObservableList<ReadOnlyTask> tasks, String... names) {
+        assertEquals(names.length, tasks.size());
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(names[i], tasks.get(i).getName().fullName);
+        }
+    }
 }
@@ -17,6 +17,7 @@ import javafx.collections.ObservableList;
 import teamthree.twodo.model.tag.Tag;
 import teamthree.twodo.model.task.ReadOnlyTask;
 import teamthree.twodo.model.task.Task;
+import teamthree.twodo.testutil.FloatingTaskBuilder;
 import teamthree.twodo.testutil.TypicalTask;
 
 public class TaskListTest {
@@ -70,6 +71,26 @@ public class TaskListTest {
         taskList.resetData(newData);
     }
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() throws Exception {
+        TaskList typicalTaskList = new TypicalTask().getTypicalTaskList();
+        TaskList copyBefore = new TaskList(typicalTaskList);
+        TaskListSnapshot snapshot = typicalTaskList.snapshot();
+
+        ReadOnlyTask first = typicalTaskList.getTaskList().get(0);
+        if (first.isCompleted()) {
+            typicalTaskList.unmarkTask(first.getId());
+        } else {
+            typicalTaskList.markTask(first.getId());
+        }
+        typicalTaskList.updateTask(typicalTaskList.getTaskList().get(1).getId(),
+                new FloatingTaskBuilder().withName("Edited").withTags("new").build());
+        typicalTaskList.removeTask(typicalTaskList.getTaskList().get(2).getId());
+
+        assertEquals(copyBefore, new TaskList(snapshot));
+        assertEquals(new TaskList(typicalTaskList), new TaskList(typicalTaskList.snapshot()));
+    }
+
     /**
      * A stub ReadOnlyTaskList whose tasks and tags lists can violate interface constraints.
      */
@@ -0,0 +1,111 @@
+package teamthree.twodo.model.category;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import teamthree.twodo.commons.exceptions.IllegalValueException;
+import teamthree.twodo.model.Model;
+import teamthree.twodo.model.ModelManager;
+import teamthree.twodo.model.TaskList;
+import teamthree.twodo.model.UserPrefs;
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.testutil.FloatingTaskBuilder;
+import teamthree.twodo.testutil.TaskWithDeadlineBuilder;
+
+public class CategoryManagerTest {
+
+    private static final int ROW_ALL = 0;
+    private static final int ROW_COMPLETE = 1;
+    private static final int ROW_INCOMPLETE = 2;
+    private static final int ROW_FLOATING = 3;
+    private static final int ROW_DEADLINE = 4;
+
+    private Model model;
+    private CategoryManager catMan;
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(new TaskList(), new UserPrefs());
+        catMan = new CategoryManager(model, Runnable::run);
+    }
+
+    @Test
+    public void countsFollowAddMarkAndDelete() throws Exception {
+        model.addTask(new FloatingTaskBuilder().withName("Floating").withTags("work").build());
+        model.addTask(new TaskWithDeadlineBuilder().withName("Deadline").withTags("work", "home").build());
+
+        assertCounts(2, 0, 2, 1, 1);
+        assertCategory(5, "home", 1);
+        assertCategory(6, "work", 2);
+
+        ReadOnlyTask deadlineTask = model.getFilteredAndSortedTaskList().get(0);
+        model.markTask(deadlineTask.getId());
+        assertCounts(2, 1, 1, 1, 1);
+
+        model.deleteTask(deadlineTask.getId());
+        assertCounts(1, 0, 1, 1, 0);
+        assertEquals(6, catMan.getCategoryList().size());
+        assertCategory(5, "work", 1);
+    }
+
+    @Test
+    public void unchangedRowsKeepTheirCategoryObjects() throws Exception {
+        model.addTask(new FloatingTaskBuilder().withName("Floating").withTags("work").build());
+        Category work = catMan.getCategoryList().get(5);
+        model.addTask(new TaskWithDeadlineBuilder().withName("Deadline").withTags("home").build());
+
+        assertSame(work, catMan.getCategoryList().get(6));
+        assertFalse(catMan.getCategoryList().get(5).equals(work));
+    }
+
+    @Test
+    public void resetDataRecountsEverything() throws Exception {
+        model.addTask(new FloatingTaskBuilder().withName("Floating").withTags("work").build());
+        model.resetData(new TaskList());
+
+        assertCounts(0, 0, 0, 0, 0);
+        assertEquals(5, catMan.getCategoryList().size());
+    }
+
+    @Test(expected = IllegalValueException.class)
+    public void addCategory_taskNotInModel_throwsIllegalValueException() throws Exception {
+        catMan.addCategory("work", Collections.singletonList(new FloatingTaskBuilder().withName("Missing").build()));
+    }
+
+    @Test
+    public void taskListChanges_categoryListChangedOnlyByFxThread() throws Exception {
+        List<Runnable> fxThread = new ArrayList<>();
+        catMan = new CategoryManager(model, fxThread::add);
+        model.addTask(new FloatingTaskBuilder().withName("Floating").withTags("work").build());
+
+        // Nothing changes until the FX thread runs the updates, in order
+        assertEquals(5, catMan.getCategoryList().size());
+        assertCounts(0, 0, 0, 0, 0);
+        fxThread.forEach(Runnable::run);
+        assertCounts(1, 0, 1, 1, 0);
+        assertCategory(5, "work", 1);
+    }
+
+    private void assertCounts(int all, int complete, int incomplete, int floating, int deadline) {
+        List<Category> categories = catMan.getCategoryList();
+        assertEquals(all, (int) categories.get(ROW_ALL).getNumberOfConstituents());
+        assertEquals(complete, (int) categories.get(ROW_COMPLETE).getNumberOfConstituents());
+        assertEquals(incomplete, (int) categories.get(ROW_INCOMPLETE).getNumberOfConstituents());
+        assertEquals(floating, (int) categories.get(ROW_FLOATING).getNumberOfConstituents());
+        assertEquals(deadline, (int) categories.get(ROW_DEADLINE).getNumberOfConstituents());
+    }
+
+    private void assertCategory(int row, String name, int count) {
+        Category category = catMan.getCategoryList().get(row);
+        assertEquals(name, category.getName());
+        assertEquals(count, (int) category.getNumberOfConstituents());
+    }
+}
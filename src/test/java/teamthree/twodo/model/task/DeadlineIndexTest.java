@@ -0,0 +1,114 @@
+package teamthree.twodo.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import teamthree.twodo.testutil.FloatingTaskBuilder;
+
+public class DeadlineIndexTest {
+
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+
+    private Task shortTask;
+    private Task longTask;
+    private Task laterTask;
+
+    @Before
+    public void setUp() throws Exception {
+        shortTask = createTask("Short", 100, 110);
+        longTask = createTask("Long", 0, 1000);
+        laterTask = createTask("Later", 500, 500);
+        deadlineIndex.add(shortTask);
+        deadlineIndex.add(longTask);
+        deadlineIndex.add(laterTask);
+        deadlineIndex.add(new FloatingTaskBuilder().build());
+    }
+
+    @Test
+    public void startQueriesAreStrict() {
+        assertEquals(ids(shortTask, laterTask), deadlineIndex.startingAfter(0));
+        assertEquals(ids(longTask, shortTask), deadlineIndex.startingBefore(500));
+        assertEquals(ids(shortTask), deadlineIndex.startingBetween(0, 500));
+        assertEquals(ids(), deadlineIndex.startingBetween(500, 0));
+    }
+
+    @Test
+    public void overlappingFindsTasksStartingBeforeWindow() {
+        assertEquals(ids(longTask), deadlineIndex.overlapping(200, 400));
+        assertEquals(ids(longTask, laterTask), deadlineIndex.overlapping(500, 500));
+        assertEquals(ids(longTask, shortTask), deadlineIndex.overlapping(105, 105));
+        assertEquals(ids(), deadlineIndex.overlapping(1001, 2000));
+    }
+
+    @Test
+    public void removeUpdatesQueriesAndVersion() {
+        int version = deadlineIndex.getVersion();
+        deadlineIndex.remove(longTask.getId());
+
+        assertNotEquals(version, deadlineIndex.getVersion());
+        assertEquals(ids(), deadlineIndex.overlapping(200, 400));
+        assertEquals(ids(shortTask), deadlineIndex.startingBefore(500));
+    }
+
+    @Test
+    public void addExistingIdReplacesInterval() throws Exception {
+        Task moved = new TaskWithDeadline(longTask.getName(), new Deadline(new Date(2000), new Date(3000), 0L),
+                longTask.getDescription(), longTask.getTags(), false, longTask.getId());
+        deadlineIndex.add(moved);
+
+        assertEquals(ids(), deadlineIndex.overlapping(200, 400));
+        assertEquals(ids(moved), deadlineIndex.overlapping(2500, 2600));
+    }
+
+    @Test
+    public void overlappingOneLongTaskAmongManyShort_matchesEveryOverlap() throws Exception {
+        DeadlineIndex index = new DeadlineIndex();
+        Task yearLong = createTask("Year long", 0, 1000 * 1000);
+        index.add(yearLong);
+        Set<Task> tasks = new HashSet<>(Collections.singleton(yearLong));
+        for (int i = 0; i < 1000; i++) {
+            Task task = createTask("Short " + i, i * 1000, i * 1000 + 10);
+            index.add(task);
+            tasks.add(task);
+        }
+
+        for (long from : new long[] {-100, 0, 5, 2000, 2005, 2011, 500 * 1000, 999 * 1000 + 10, 1000 * 1000}) {
+            assertEquals(overlappingByScan(tasks, from, from + 1000), index.overlapping(from, from + 1000));
+        }
+        index.remove(yearLong.getId());
+        tasks.remove(yearLong);
+        assertEquals(overlappingByScan(tasks, 2011, 2500), index.overlapping(2011, 2500));
+        assertEquals(ids(), index.overlapping(2011, 2500));
+    }
+
+    private static Set<Long> overlappingByScan(Set<Task> tasks, long from, long to) {
+        Set<Long> ids = new HashSet<>();
+        for (Task task : tasks) {
+            Deadline deadline = task.getDeadline().get();
+            if (deadline.getStartTime() <= to && deadline.getEndTime() >= from) {
+                ids.add(task.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static Task createTask(String name, long start, long end) throws Exception {
+        return new TaskWithDeadline(new Name(name), new Deadline(new Date(start), new Date(end), 0L),
+                new Description("description"), Collections.emptySet(), false);
+    }
+
+    private static Set<Long> ids(Task... tasks) {
+        Set<Long> ids = new HashSet<>();
+        Arrays.stream(tasks).forEach(task -> ids.add(task.getId()));
+        return ids;
+    }
+}
@@ -0,0 +1,51 @@
+package teamthree.twodo.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+public class DeadlineTest {
+
+    private static final long MINUTE = 60 * 1000;
+    private static final long START = 1_500_000_000_000L - 1_500_000_000_000L % MINUTE;
+
+    @Test
+    public void equals() {
+        Deadline deadline = new Deadline(new Date(START), new Date(START + 60 * MINUTE), MINUTE);
+
+        // same minutes -> returns true
+        Deadline sameMinutes = new Deadline(new Date(START + 1000), new Date(START + 60 * MINUTE), MINUTE);
+        assertTrue(deadline.equals(sameMinutes));
+        assertEquals(deadline.hashCode(), sameMinutes.hashCode());
+
+        // copy -> returns true
+        assertTrue(deadline.equals(new Deadline(deadline)));
+
+        // different end -> returns false
+        assertFalse(deadline.equals(new Deadline(new Date(START), new Date(START + 61 * MINUTE), MINUTE)));
+
+        // different notification period -> returns false
+        assertFalse(deadline.equals(new Deadline(new Date(START), new Date(START + 60 * MINUTE), 2 * MINUTE)));
+
+        // null and other types -> returns false
+        assertFalse(deadline.equals(null));
+        assertFalse(deadline.equals(START));
+    }
+
+    @Test
+    public void notificationTime_followsStartAndPeriod() {
+        Deadline deadline = new Deadline(new Date(START), new Date(START), MINUTE);
+        assertEquals(START - MINUTE, deadline.getNotificationTime());
+        assertEquals(new Date(START - MINUTE), deadline.getNotificationDate());
+
+        deadline.setStartDate(new Date(START + MINUTE));
+        assertEquals(START, deadline.getNotificationTime());
+
+        deadline.setNotificationPeriod(2 * MINUTE);
+        assertEquals(START - MINUTE, deadline.getNotificationTime());
+    }
+}
@@ -0,0 +1,63 @@
+package teamthree.twodo.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import teamthree.twodo.model.tag.Tag;
+import teamthree.twodo.testutil.FloatingTaskBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void taskIdsFollowAddAndRemove() throws Exception {
+        Task work = new FloatingTaskBuilder().withName("Work").withTags("work", "urgent").build();
+        Task home = new FloatingTaskBuilder().withName("Home").withTags("home", "urgent").build();
+        tagIndex.add(work);
+        tagIndex.add(home);
+
+        assertEquals(new HashSet<>(Arrays.asList(work.getId(), home.getId())),
+                tagIndex.getTaskIdsWith(new Tag("urgent")));
+        assertEquals(Collections.singleton(work.getId()), tagIndex.getTaskIdsWith(new Tag("work")));
+
+        tagIndex.remove(work.getId());
+
+        assertEquals(Collections.singleton(home.getId()), tagIndex.getTaskIdsWith(new Tag("urgent")));
+        assertTrue(tagIndex.getTaskIdsWith(new Tag("work")).isEmpty());
+    }
+
+    @Test
+    public void addExistingIdReplacesTags() throws Exception {
+        Task task = new FloatingTaskBuilder().withTags("old").build();
+        tagIndex.add(task);
+        tagIndex.add(new FloatingTaskBuilder(task).withTags("new").build());
+
+        assertTrue(tagIndex.getTaskIdsWith(new Tag("old")).isEmpty());
+        assertEquals(Collections.singleton(task.getId()), tagIndex.getTaskIdsWith(new Tag("new")));
+    }
+
+    @Test
+    public void selectionMatchesTagNamesContainingFilterIgnoringCase() throws Exception {
+        Task project = new FloatingTaskBuilder().withName("Project").withTags("CS2103project").build();
+        Task personal = new FloatingTaskBuilder().withName("Personal").withTags("personal").build();
+        tagIndex.add(project);
+        tagIndex.add(personal);
+
+        Set<Tag> filter = new HashSet<>();
+        filter.add(new Tag("Project"));
+        BitSet selection = tagIndex.selectTasksMatchingAny(filter);
+
+        assertTrue(tagIndex.isSelected(selection, project.getId()));
+        assertFalse(tagIndex.isSelected(selection, personal.getId()));
+    }
+}
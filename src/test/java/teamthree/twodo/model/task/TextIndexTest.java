@@ -0,0 +1,72 @@
+package teamthree.twodo.model.task;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import teamthree.twodo.testutil.FloatingTaskBuilder;
+import teamthree.twodo.testutil.TaskWithDeadlineBuilder;
+
+public class TextIndexTest {
+
+    private final TextIndex textIndex = new TextIndex();
+
+    private Task floating;
+    private Task withDeadline;
+
+    @Before
+    public void setUp() throws Exception {
+        floating = new FloatingTaskBuilder().withName("Buy groceries").withDescription("supermarket")
+                .withTags("errands").build();
+        withDeadline = new TaskWithDeadlineBuilder().withName("Submit report").withDescription("quarterly")
+                .withTags("work").build();
+        textIndex.add(floating);
+        textIndex.add(withDeadline);
+    }
+
+    @Test
+    public void findMatchesSubstringsWithinWordsIgnoringCase() {
+        assertEquals(ids(floating), find("GROCER"));
+        assertEquals(ids(floating), find("g"));
+        assertEquals(ids(floating, withDeadline), find("r"));
+        assertEquals(ids(withDeadline), find("port"));
+        assertEquals(ids(floating), find("rand"));
+    }
+
+    @Test
+    public void findDoesNotMatchAcrossWords() {
+        assertEquals(ids(), find("buygro"));
+        assertEquals(ids(), find("yg"));
+    }
+
+    @Test
+    public void findSearchesDescriptionOnlyForTasksWithDeadlines() {
+        assertEquals(ids(withDeadline), find("quarter"));
+        assertEquals(ids(), find("market"));
+    }
+
+    @Test
+    public void findAnyKeywordAfterUpdateAndRemove() throws Exception {
+        textIndex.add(new FloatingTaskBuilder(floating).withName("Buy milk").build());
+        assertEquals(ids(floating), textIndex.findTaskIdsContainingAny(Arrays.asList("grocer", "milk")));
+
+        textIndex.remove(floating.getId());
+        assertEquals(ids(), find("milk"));
+    }
+
+    private Set<Long> find(String keyword) {
+        return textIndex.findTaskIdsContainingAny(Collections.singleton(keyword));
+    }
+
+    private static Set<Long> ids(Task... tasks) {
+        Set<Long> ids = new HashSet<>();
+        Arrays.stream(tasks).forEach(task -> ids.add(task.getId()));
+        return ids;
+    }
+}
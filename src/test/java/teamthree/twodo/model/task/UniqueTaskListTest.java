@@ -0,0 +1,121 @@
+package teamthree.twodo.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import teamthree.twodo.model.task.exceptions.DuplicateTaskException;
+import teamthree.twodo.model.task.exceptions.TaskNotFoundException;
+import teamthree.twodo.testutil.FloatingTaskBuilder;
+import teamthree.twodo.testutil.TaskWithDeadlineBuilder;
+
+public class UniqueTaskListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void addDuplicateTaskThrowsDuplicateTaskException() throws Exception {
+        uniqueTaskList.add(new FloatingTaskBuilder().build());
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.add(new FloatingTaskBuilder().build());
+    }
+
+    @Test
+    public void containsTaskAfterMarkUsesNewState() throws Exception {
+        Task task = new TaskWithDeadlineBuilder().build();
+        uniqueTaskList.add(task);
+        uniqueTaskList.mark(task);
+
+        assertFalse(uniqueTaskList.contains(task));
+        assertTrue(uniqueTaskList.contains(new TaskWithDeadlineBuilder().isCompleted().build()));
+    }
+
+    @Test
+    public void removeKeepsRemainingTasksReachable() throws Exception {
+        Task first = new FloatingTaskBuilder().withName("First").build();
+        Task second = new FloatingTaskBuilder().withName("Second").build();
+        Task third = new TaskWithDeadlineBuilder().withName("Third").build();
+        uniqueTaskList.add(first);
+        uniqueTaskList.add(second);
+        uniqueTaskList.add(third);
+
+        uniqueTaskList.remove(first);
+        uniqueTaskList.mark(third);
+
+        assertEquals(2, uniqueTaskList.size());
+        assertTrue(uniqueTaskList.asObservableList().get(1).isCompleted());
+        assertSame(uniqueTaskList.asObservableList().get(0), uniqueTaskList.find(second).get());
+    }
+
+    @Test
+    public void updateFloatingTaskToTaskWithDeadline() throws Exception {
+        Task floating = new FloatingTaskBuilder().build();
+        Task withDeadline = new TaskWithDeadlineBuilder().withName("Deadline").build();
+        uniqueTaskList.add(floating);
+
+        uniqueTaskList.updateTask(floating, withDeadline);
+
+        assertFalse(uniqueTaskList.contains(floating));
+        assertTrue(uniqueTaskList.find(withDeadline).get() instanceof TaskWithDeadline);
+        assertEquals(withDeadline, uniqueTaskList.asObservableList().get(0));
+    }
+
+    @Test
+    public void updateToExistingTaskThrowsDuplicateTaskException() throws Exception {
+        Task first = new FloatingTaskBuilder().withName("First").build();
+        Task second = new FloatingTaskBuilder().withName("Second").build();
+        uniqueTaskList.add(first);
+        uniqueTaskList.add(second);
+
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.updateTask(first, second);
+    }
+
+    @Test
+    public void idSurvivesMarkAndUpdate() throws Exception {
+        Task floating = new FloatingTaskBuilder().build();
+        uniqueTaskList.add(floating);
+        long id = uniqueTaskList.asObservableList().get(0).getId();
+
+        uniqueTaskList.mark(id);
+        uniqueTaskList.updateTask(id, new TaskWithDeadlineBuilder().withName("Deadline").build());
+
+        Task updated = uniqueTaskList.find(id).get();
+        assertTrue(updated instanceof TaskWithDeadline);
+        assertEquals("Deadline", updated.getName().fullName);
+        assertSame(updated, uniqueTaskList.asObservableList().get(0));
+    }
+
+    @Test
+    public void addTaskWithTakenIdGetsNewId() throws Exception {
+        Task first = new FloatingTaskBuilder().withName("First").build();
+        uniqueTaskList.add(first);
+        uniqueTaskList.add(new FloatingTaskBuilder(first).withName("Second").build());
+
+        assertFalse(uniqueTaskList.asObservableList().get(0).getId()
+                == uniqueTaskList.asObservableList().get(1).getId());
+    }
+
+    @Test
+    public void removeMissingIdThrowsTaskNotFoundException() throws Exception {
+        Task task = new FloatingTaskBuilder().build();
+        uniqueTaskList.add(task);
+        uniqueTaskList.remove(task.getId());
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.remove(task.getId());
+    }
+
+    @Test
+    public void removeMissingTaskThrowsTaskNotFoundException() throws Exception {
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.remove(new FloatingTaskBuilder().build());
+    }
+}
@@ -0,0 +1,118 @@
+package teamthree.twodo.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import teamthree.twodo.commons.exceptions.DataConversionException;
+import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskList;
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.testutil.TaskWithDeadlineBuilder;
+import teamthree.twodo.testutil.TypicalTask;
+import teamthree.twodo.testutil.TypicalTask.TaskType;
+
+public class BinaryTaskListStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private TaskList original;
+
+    @Before
+    public void setUp() throws Exception {
+        original = new TypicalTask(TaskType.INCOMPLETE).getTypicalTaskList();
+        // Completion flags of both floating and deadline tasks, across more than one word of flags
+        for (int i = 0; i < 70; i++) {
+            original.addTask(new TaskWithDeadlineBuilder().withName("Task " + i).build());
+        }
+        for (int i = 0; i < original.getTaskList().size(); i += 3) {
+            original.markTask(original.getTaskList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempTaskList.bin";
+        BinaryTaskListStorage storage = new BinaryTaskListStorage(filePath);
+
+        storage.saveTaskList(original);
+        ReadOnlyTaskList readBack = storage.readTaskList().get();
+        assertEquals(original, new TaskList(readBack));
+        assertSameIdsAndCompletion(original, readBack);
+
+        original.removeTask(original.getTaskList().get(0).getId());
+        storage.saveTaskList(original);
+        assertEquals(original, new TaskList(storage.readTaskList().get()));
+    }
+
+    @Test
+    public void readTaskList_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskListStorage("NonExistentFile.bin").readTaskList().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryTaskList_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        BinaryTaskListStorage.read(ByteBuffer.wrap("<twodo/>".getBytes("UTF-8")));
+    }
+
+    @Test
+    public void read_truncatedData_throwsDataConversionException() throws Exception {
+        ByteBuffer encoded = BinaryTaskListStorage.encode(original);
+        encoded.limit(encoded.limit() / 2);
+        thrown.expect(DataConversionException.class);
+        BinaryTaskListStorage.read(encoded);
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameTaskList() throws Exception {
+        String xmlPath = testFolder.getRoot().getPath() + "/TaskList.xml";
+        String binaryPath = TaskListFormat.BINARY.toFilePath(xmlPath);
+        String convertedXmlPath = testFolder.getRoot().getPath() + "/Converted.xml";
+        new XmlTaskListStorage(xmlPath).saveTaskList(original);
+
+        assertTrue(TaskListConverter.convert(xmlPath, binaryPath));
+        ReadOnlyTaskList binary = new BinaryTaskListStorage(binaryPath).readTaskList().get();
+        assertEquals(original, new TaskList(binary));
+        assertSameIdsAndCompletion(original, binary);
+
+        assertTrue(TaskListConverter.convert(binaryPath, convertedXmlPath));
+        ReadOnlyTaskList xml = new XmlTaskListStorage(convertedXmlPath).readTaskList().get();
+        assertSameIdsAndCompletion(original, xml);
+        assertEquals(original, new TaskList(xml));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        String binaryPath = testFolder.getRoot().getPath() + "/TaskList.bin";
+        assertFalse(TaskListConverter.convert(testFolder.getRoot().getPath() + "/Missing.xml", binaryPath));
+        assertFalse(new File(binaryPath).exists());
+    }
+
+    private void assertSameIdsAndCompletion(ReadOnlyTaskList expected, ReadOnlyTaskList actual) {
+        assertEquals(summaryOf(expected), summaryOf(actual));
+    }
+
+    private List<String> summaryOf(ReadOnlyTaskList taskList) {
+        List<String> summary = new ArrayList<>();
+        for (ReadOnlyTask task : taskList.getTaskList()) {
+            summary.add(task.getId() + " " + task.isCompleted());
+        }
+        return summary;
+    }
+}
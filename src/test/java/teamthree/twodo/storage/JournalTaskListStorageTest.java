@@ -0,0 +1,158 @@
+package teamthree.twodo.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.eventbus.Subscribe;
+
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.events.model.TaskListChangedEvent;
+import teamthree.twodo.model.ModelManager;
+import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskList;
+import teamthree.twodo.model.TaskListChange;
+import teamthree.twodo.model.UserPrefs;
+import teamthree.twodo.model.task.Task;
+import teamthree.twodo.testutil.TaskWithDeadlineBuilder;
+import teamthree.twodo.testutil.TypicalTask;
+import teamthree.twodo.testutil.TypicalTask.TaskType;
+
+public class JournalTaskListStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private File journalFile;
+    private TypicalTask td;
+    private ModelManager model;
+    // The changes made to the model since the last save, and the task list they lead up to
+    private final List<TaskListChange> unsavedChanges = new ArrayList<>();
+    private ReadOnlyTaskList latest;
+
+    @Subscribe
+    public void handleTaskListChangedEvent(TaskListChangedEvent event) {
+        unsavedChanges.addAll(event.changes);
+        latest = event.data;
+    }
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + "TempTaskList.xml";
+        journalFile = JournalTaskListStorage.getJournalFile(filePath);
+        td = new TypicalTask(TaskType.INCOMPLETE);
+        model = new ModelManager(new TaskList(), new UserPrefs());
+        EventsCenter.getInstance().registerHandler(this);
+        model.resetData(td.getTypicalTaskList());
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void saveChanges_appendedToJournal_readBackBySnapshotAndJournal() throws Exception {
+        JournalTaskListStorage storage = new JournalTaskListStorage(new XmlTaskListStorage(filePath));
+        save(storage);
+        assertFalse(journalFile.exists());
+
+        model.addTask(new Task(td.supermarket));
+        model.markTask(model.getTaskList().getTaskList().get(0).getId());
+        model.updateTask(model.getTaskList().getTaskList().get(1).getId(),
+                new TaskWithDeadlineBuilder().withName("Renamed task").build());
+        model.deleteTask(model.getTaskList().getTaskList().get(2).getId());
+        save(storage);
+        assertTrue(journalFile.length() > 0);
+
+        ReadOnlyTaskList readBack = new JournalTaskListStorage(new XmlTaskListStorage(filePath)).readTaskList().get();
+        assertEquals(new TaskList(model.getTaskList()), new TaskList(readBack));
+    }
+
+    @Test
+    public void saveChangesNotFollowingLastSave_compactedIntoSnapshot() throws Exception {
+        JournalTaskListStorage storage = new JournalTaskListStorage(new XmlTaskListStorage(filePath));
+        save(storage);
+        model.addTask(new Task(td.supermarket));
+        save(storage);
+        assertTrue(journalFile.exists());
+
+        // A save that never reached the journal leaves a gap in the changes
+        model.addTask(new Task(td.ida));
+        unsavedChanges.clear();
+        model.markTask(model.getTaskList().getTaskList().get(0).getId());
+        save(storage);
+        assertFalse(journalFile.exists());
+        ReadOnlyTaskList snapshot = new XmlTaskListStorage(filePath).readTaskList().get();
+        assertEquals(new TaskList(model.getTaskList()), new TaskList(snapshot));
+    }
+
+    @Test
+    public void saveJournalPastThreshold_compactedIntoSnapshot() throws Exception {
+        JournalTaskListStorage storage = new JournalTaskListStorage(new XmlTaskListStorage(filePath), 0);
+        save(storage);
+        model.addTask(new Task(td.supermarket));
+        save(storage);
+        assertTrue(journalFile.exists());
+
+        model.addTask(new Task(td.ida));
+        save(storage);
+        assertFalse(journalFile.exists());
+        ReadOnlyTaskList snapshot = new XmlTaskListStorage(filePath).readTaskList().get();
+        assertEquals(new TaskList(model.getTaskList()), new TaskList(snapshot));
+    }
+
+    @Test
+    public void saveChangesAfterLoad_appendedToJournal() throws Exception {
+        JournalTaskListStorage storage = new JournalTaskListStorage(new XmlTaskListStorage(filePath));
+        save(storage);
+        long snapshotModified = new File(filePath).lastModified();
+
+        // A new session loads the file, then makes its first change
+        JournalTaskListStorage loadingStorage = new JournalTaskListStorage(new XmlTaskListStorage(filePath));
+        ReadOnlyTaskList loaded = loadingStorage.readTaskList().get();
+        model = new ModelManager(new TaskList(), new UserPrefs());
+        model.loadTaskList(loaded);
+        loadingStorage.markTaskListSaved(loaded, filePath, model.getTaskListVersion());
+        unsavedChanges.clear();
+        model.addTask(new Task(td.supermarket));
+        save(loadingStorage);
+
+        assertTrue(journalFile.exists());
+        assertEquals(snapshotModified, new File(filePath).lastModified());
+        ReadOnlyTaskList readBack = new JournalTaskListStorage(new XmlTaskListStorage(filePath)).readTaskList().get();
+        assertEquals(new TaskList(model.getTaskList()), new TaskList(readBack));
+    }
+
+    @Test
+    public void readIncompleteLastRecord_ignored() throws Exception {
+        JournalTaskListStorage storage = new JournalTaskListStorage(new XmlTaskListStorage(filePath));
+        save(storage);
+        model.addTask(new Task(td.supermarket));
+        save(storage);
+        Files.write(journalFile.toPath(), "ADD\t12".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        ReadOnlyTaskList readBack = new JournalTaskListStorage(new XmlTaskListStorage(filePath)).readTaskList().get();
+        assertEquals(new TaskList(model.getTaskList()), new TaskList(readBack));
+    }
+
+    private void save(JournalTaskListStorage storage) throws IOException {
+        storage.saveTaskList(latest, unsavedChanges, filePath);
+        unsavedChanges.clear();
+    }
+}
@@ -2,11 +2,16 @@ package teamthree.twodo.storage;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 
@@ -15,6 +20,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import teamthree.twodo.commons.events.logic.NewUserInputEvent;
 import teamthree.twodo.commons.events.model.TaskListChangedEvent;
 import teamthree.twodo.commons.events.storage.DataSavingExceptionEvent;
 import teamthree.twodo.commons.exceptions.DataConversionException;
@@ -46,6 +52,18 @@ public class StorageManagerTest {
     }
 
 
+    @Test
+    public void handleNewUserInputEvent_commandsAppendedInBackground_readBackAfterFlush() throws Exception {
+        String historyFilePath = getTempFilePath("history");
+        StorageManager storage = new StorageManager(new XmlTaskListStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new TextCommandHistoryStorage(historyFilePath, 10), 0);
+        storage.handleNewUserInputEvent(new NewUserInputEvent("add Buy milk"));
+        storage.handleNewUserInputEvent(new NewUserInputEvent("list"));
+        storage.flush();
+        assertEquals(Arrays.asList("add Buy milk", "list"), storage.readCommandHistory());
+    }
+
     @Test
     public void prefsReadSave() throws Exception {
         /*
@@ -73,6 +91,23 @@ public class StorageManagerTest {
         assertEquals(original, new TaskList(retrieved));
     }
 
+    @Test
+    public void readTaskList_otherFormatWithJournal_journalReplayed() throws Exception {
+        StorageManager storage = new StorageManager(new JournalTaskListStorage(new XmlTaskListStorage(
+                getTempFilePath("ab.xml"))), new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        String binaryFilePath = getTempFilePath("ab" + BinaryTaskListStorage.FILE_EXTENSION);
+        TaskList original = new TypicalTask(TaskType.INCOMPLETE).getTypicalTaskList();
+        ReadOnlyTask deleted = original.getTaskList().get(0);
+        new BinaryTaskListStorage(binaryFilePath).saveTaskList(original);
+        String deleteRecord = "DELETE\t" + deleted.getId() + "\n";
+        Files.write(JournalTaskListStorage.getJournalFile(binaryFilePath).toPath(),
+                deleteRecord.getBytes(StandardCharsets.UTF_8));
+
+        ReadOnlyTaskList readBack = storage.readTaskList(binaryFilePath).get();
+        assertEquals(original.getTaskList().size() - 1, readBack.getTaskList().size());
+        assertFalse(readBack.getTaskList().stream().anyMatch(task -> task.getId() == deleted.getId()));
+    }
+
     @Test
     public void getTaskListFilePath() {
         assertNotNull(storageManager.getTaskListFilePath());
@@ -96,7 +131,8 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlTaskListStorageExceptionThrowingStub("dummy"),
                                              new JsonUserPrefsStorage("dummy"));
         EventsCollector eventCollector = new EventsCollector();
-        storage.handleTaskListChangedEvent(new TaskListChangedEvent(new TaskList()));
+        storage.handleTaskListChangedEvent(new TaskListChangedEvent(new TaskList(), Collections.emptyList(), 0));
+        storage.flush();
         assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
     }
 
@@ -0,0 +1,123 @@
+package teamthree.twodo.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import teamthree.twodo.commons.core.EventsCenter;
+import teamthree.twodo.commons.events.storage.TaskListSavedEvent;
+import teamthree.twodo.model.ReadOnlyTaskList;
+import teamthree.twodo.model.TaskList;
+import teamthree.twodo.model.TaskListChange;
+import teamthree.twodo.testutil.EventsCollector;
+
+public class TaskListSaverTest {
+
+    private static final long LONG_QUIET_PERIOD = 60 * 1000;
+
+    private final RecordingStorageStub storage = new RecordingStorageStub();
+
+    @Test
+    public void save_burstOfChanges_writesLatestOnce() {
+        TaskListSaver saver = new TaskListSaver(storage, LONG_QUIET_PERIOD);
+        EventsCollector eventsCollector = new EventsCollector();
+        TaskList latest = new TaskList();
+        List<TaskListChange> changes = Arrays.asList(TaskListChange.reset(1), TaskListChange.reset(2),
+                TaskListChange.reset(3));
+        saver.save(new TaskList(), changes.subList(0, 1), "a.xml");
+        saver.save(new TaskList(), changes.subList(1, 2), "a.xml");
+        saver.save(latest, changes.subList(2, 3), "a.xml");
+
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+        assertSame(latest, storage.saved.get(0));
+        assertEquals(changes, storage.savedChanges.get(0));
+        TaskListSavedEvent event = (TaskListSavedEvent) eventsCollector.get(0);
+        assertEquals(3, event.changesSaved);
+        assertEquals("a.xml", event.filePath);
+    }
+
+    @Test
+    public void save_changeOfFile_writesPreviousFileFirst() {
+        TaskListSaver saver = new TaskListSaver(storage, LONG_QUIET_PERIOD);
+        saver.save(new TaskList(), Collections.emptyList(), "a.xml");
+        saver.save(new TaskList(), Collections.emptyList(), "b.xml");
+
+        saver.flush();
+
+        assertEquals(2, storage.savedPaths.size());
+        assertEquals("a.xml", storage.savedPaths.get(0));
+        assertEquals("b.xml", storage.savedPaths.get(1));
+    }
+
+    @Test
+    public void save_synchronousDispatch_eventsRaisedOnEventThread() {
+        assertFalse(EventsCenter.getInstance().isAsynchronous());
+        BlockingQueue<Runnable> eventThread = new LinkedBlockingQueue<>();
+        TaskListSaver saver = new TaskListSaver(storage, LONG_QUIET_PERIOD, eventThread::add);
+        SavedEventThreadRecorder recorder = new SavedEventThreadRecorder();
+        EventsCenter.getInstance().registerHandler(recorder);
+        saver.save(new TaskList(), Collections.emptyList(), "a.xml");
+
+        saver.flush();
+        assertTrue(recorder.handlerThreads.isEmpty());
+
+        eventThread.poll().run();
+        assertEquals(Collections.singletonList(Thread.currentThread()), recorder.handlerThreads);
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void flush_nothingPending_writesNothing() {
+        TaskListSaver saver = new TaskListSaver(storage, 0);
+        saver.flush();
+        assertTrue(storage.saved.isEmpty());
+    }
+
+    /**
+     * Records the threads {@link TaskListSavedEvent}s are handled on.
+     */
+    public static class SavedEventThreadRecorder {
+        private final List<Thread> handlerThreads = new ArrayList<>();
+
+        @Subscribe
+        public void handleTaskListSavedEvent(TaskListSavedEvent event) {
+            handlerThreads.add(Thread.currentThread());
+        }
+    }
+
+    /**
+     * A storage stub that records the task lists it is asked to save, and the changes they include.
+     */
+    private static class RecordingStorageStub extends XmlTaskListStorage {
+        private final List<ReadOnlyTaskList> saved = new ArrayList<>();
+        private final List<List<TaskListChange>> savedChanges = new ArrayList<>();
+        private final List<String> savedPaths = new ArrayList<>();
+
+        RecordingStorageStub() {
+            super("dummy");
+        }
+
+        @Override
+        public void saveTaskList(ReadOnlyTaskList taskList, List<TaskListChange> changes, String filePath)
+                throws IOException {
+            saved.add(taskList);
+            savedChanges.add(new ArrayList<>(changes));
+            savedPaths.add(filePath);
+        }
+    }
+}
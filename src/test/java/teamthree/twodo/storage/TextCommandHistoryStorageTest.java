@@ -0,0 +1,58 @@
+package teamthree.twodo.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TextCommandHistoryStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+
+    @Before
+    public void setUp() {
+        filePath = new File(testFolder.getRoot(), "history.txt").getPath();
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyList() throws Exception {
+        assertTrue(new TextCommandHistoryStorage(filePath, 3).readCommandHistory().isEmpty());
+    }
+
+    @Test
+    public void appendCommandHistory_readBackInLaterSession() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 3);
+        storage.appendCommandHistory("add Buy milk");
+        storage.appendCommandHistory("find back\\slash\nnext line");
+
+        List<String> readBack = new TextCommandHistoryStorage(filePath, 3).readCommandHistory();
+        assertEquals(Arrays.asList("add Buy milk", "find back\\slash\nnext line"), readBack);
+    }
+
+    @Test
+    public void appendCommandHistory_overCapacity_keepsLatestAndCompactsFile() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 3);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            storage.appendCommandHistory("list " + i);
+            expected.add("list " + i);
+        }
+
+        // The file is rewritten with the latest 3 commands once it reaches 6
+        assertEquals(4, Files.readAllLines(new File(filePath).toPath(), StandardCharsets.UTF_8).size());
+        assertEquals(expected.subList(4, 7), new TextCommandHistoryStorage(filePath, 3).readCommandHistory());
+    }
+}
@@ -0,0 +1,75 @@
+package teamthree.twodo.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import teamthree.twodo.commons.exceptions.DataConversionException;
+import teamthree.twodo.commons.util.XmlUtil;
+import teamthree.twodo.model.TaskList;
+import teamthree.twodo.testutil.TaskWithDeadlineBuilder;
+import teamthree.twodo.testutil.TypicalTask;
+import teamthree.twodo.testutil.TypicalTask.TaskType;
+
+public class XmlTaskListCodecTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void write_typicalTaskList_sameBytesAsJaxb() throws Exception {
+        TaskList taskList = new TypicalTask(TaskType.INCOMPLETE).getTypicalTaskList();
+        taskList.markTask(taskList.getTaskList().get(0).getId());
+        assertSameBytesAsJaxb(taskList);
+    }
+
+    @Test
+    public void write_charactersToEscape_sameBytesAsJaxb() throws Exception {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new TaskWithDeadlineBuilder().withName("line\r\nbreak\t<&>\"")
+                .withDescription("x<y>&z\"q' é中 ]]> end").build());
+        assertSameBytesAsJaxb(taskList);
+    }
+
+    @Test
+    public void write_emptyTaskList_sameBytesAsJaxb() throws Exception {
+        assertSameBytesAsJaxb(new TaskList());
+    }
+
+    @Test
+    public void read_fileWrittenByJaxb_sameTaskList() throws Exception {
+        TaskList taskList = new TypicalTask(TaskType.INCOMPLETE).getTypicalTaskList();
+        File file = writeWithJaxb(taskList);
+        assertEquals(taskList, new TaskList(XmlTaskListCodec.read(file)));
+    }
+
+    @Test
+    public void read_notTaskListFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlTaskListCodec.read(new ByteArrayInputStream("<notTwodo/>".getBytes("UTF-8")));
+    }
+
+    private void assertSameBytesAsJaxb(TaskList taskList) throws Exception {
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        XmlTaskListCodec.write(taskList, streamed);
+        assertArrayEquals(Files.readAllBytes(writeWithJaxb(taskList).toPath()), streamed.toByteArray());
+    }
+
+    private File writeWithJaxb(TaskList taskList) throws Exception {
+        File file = testFolder.newFile();
+        XmlUtil.saveDataToFile(file, new XmlSerializableTaskList(taskList));
+        return file;
+    }
+}
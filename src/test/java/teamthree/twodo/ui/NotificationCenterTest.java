@@ -0,0 +1,77 @@
+package teamthree.twodo.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import teamthree.twodo.model.task.ReadOnlyTask;
+import teamthree.twodo.testutil.TaskWithDeadlineBuilder;
+
+public class NotificationCenterTest {
+
+    private final BlockingQueue<NotificationDigest> rendered = new LinkedBlockingQueue<>();
+    private NotificationCenter notificationCenter;
+
+    @After
+    public void tearDown() {
+        notificationCenter.shutdown();
+    }
+
+    @Test
+    public void post_burstWithinWindow_oneDigest() throws Exception {
+        notificationCenter = new NotificationCenter(rendered::add, 10, 200, 0);
+        ReadOnlyTask first = buildTask("First");
+        ReadOnlyTask second = buildTask("Second");
+
+        notificationCenter.post(Collections.singletonList(first));
+        notificationCenter.post(Arrays.asList(second, first));
+
+        NotificationDigest digest = rendered.poll(2, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList(second, first), digest.tasks);
+        assertEquals(0, digest.droppedCount);
+        assertEquals(null, rendered.poll(400, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void post_moreThanCapacity_oldestDropped() throws Exception {
+        notificationCenter = new NotificationCenter(rendered::add, 2, 100, 0);
+        ReadOnlyTask first = buildTask("First");
+        ReadOnlyTask second = buildTask("Second");
+        ReadOnlyTask third = buildTask("Third");
+
+        notificationCenter.post(Arrays.asList(first, second, third));
+
+        NotificationDigest digest = rendered.poll(2, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList(second, third), digest.tasks);
+        assertEquals(1, digest.droppedCount);
+        assertEquals(String.format(NotificationDigest.MESSAGE_HEADER, 3), digest.getHeader());
+        assertTrue(digest.getContent().contains(String.format(NotificationDigest.MESSAGE_DROPPED, 1)));
+    }
+
+    @Test
+    public void post_afterRender_nextDigestRateLimited() throws Exception {
+        long minRenderInterval = 500;
+        notificationCenter = new NotificationCenter(rendered::add, 10, 0, minRenderInterval);
+
+        notificationCenter.post(Collections.singletonList(buildTask("First")));
+        rendered.poll(2, TimeUnit.SECONDS);
+        long firstRenderTime = System.currentTimeMillis();
+        notificationCenter.post(Collections.singletonList(buildTask("Second")));
+        NotificationDigest digest = rendered.poll(2, TimeUnit.SECONDS);
+
+        assertEquals(1, digest.tasks.size());
+        assertTrue(System.currentTimeMillis() - firstRenderTime >= minRenderInterval - 50);
+    }
+
+    private ReadOnlyTask buildTask(String name) throws Exception {
+        return new TaskWithDeadlineBuilder().withName(name).build();
+    }
+}